@@ -21,6 +21,8 @@ module uk.co.caprica.vlcj {
     requires uk.co.caprica.vlcj.natives;
 
     requires java.desktop;
+    requires java.logging;
+    requires static jdk.jfr;
     requires jdk.unsupported;
 
     exports uk.co.caprica.vlcj.factory;
@@ -36,6 +38,8 @@ module uk.co.caprica.vlcj {
     exports uk.co.caprica.vlcj.media.callback.seekable;
     exports uk.co.caprica.vlcj.media.discoverer;
     exports uk.co.caprica.vlcj.media.events;
+    exports uk.co.caprica.vlcj.media.scanner;
+    exports uk.co.caprica.vlcj.media.thumbnail;
 
     exports uk.co.caprica.vlcj.medialist;
     exports uk.co.caprica.vlcj.medialist.events;
@@ -66,6 +70,9 @@ module uk.co.caprica.vlcj {
     exports uk.co.caprica.vlcj.player.renderer.events;
 
     exports uk.co.caprica.vlcj.support;
+    exports uk.co.caprica.vlcj.support.flow;
+    exports uk.co.caprica.vlcj.support.jfr;
+    exports uk.co.caprica.vlcj.support.metrics;
     exports uk.co.caprica.vlcj.support.version;
 
     // Native library discovery services
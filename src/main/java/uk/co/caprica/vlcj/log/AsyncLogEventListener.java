@@ -0,0 +1,267 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.log;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A log event listener that hands messages off to another listener on a dedicated thread.
+ * <p>
+ * Native log messages are delivered on the native thread that emitted them, so a listener that does any significant work
+ * slows down the native library - at debug level this can severely degrade playback. This component instead copies
+ * each message into a bounded ring buffer and returns immediately, a dedicated thread then delivers the messages to the
+ * wrapped listener in the order in which they were received.
+ * <p>
+ * If messages arrive faster than the wrapped listener can process them the ring buffer fills up, and messages are then
+ * dropped according to the {@link DropPolicy} - the native library is never blocked. The number of dropped messages is
+ * available via {@link #getDroppedCount()}.
+ * <p>
+ * The slots in the ring buffer are allocated up-front and re-used, so nothing is allocated per message.
+ * <p>
+ * This component must be released when it is no longer needed, after it has been removed as a listener.
+ */
+public final class AsyncLogEventListener implements LogEventListener {
+
+    /**
+     * Enumeration of policies for dropping messages when the ring buffer is full.
+     */
+    public enum DropPolicy {
+
+        /**
+         * Drop the newly received message, keeping the older messages already in the ring buffer.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Drop the oldest message in the ring buffer to make room for the newly received message.
+         */
+        DROP_OLDEST
+
+    }
+
+    /**
+     * Maximum number of messages delivered for each hand-off from the ring buffer.
+     */
+    private static final int BATCH_SIZE = 64;
+
+    /**
+     * Component that receives the messages.
+     */
+    private final LogEventListener listener;
+
+    /**
+     * Policy for dropping messages when the ring buffer is full.
+     */
+    private final DropPolicy dropPolicy;
+
+    /**
+     * Ring buffer.
+     */
+    private final Slot[] ring;
+
+    /**
+     * Messages handed off from the ring buffer, only used by the delivery thread.
+     */
+    private final Slot[] batch;
+
+    /**
+     * Thread that delivers messages to the listener.
+     */
+    private final Thread thread;
+
+    /**
+     * Index of the oldest message in the ring buffer.
+     */
+    private int head;
+
+    /**
+     * Number of messages in the ring buffer.
+     */
+    private int count;
+
+    /**
+     * Number of messages dropped.
+     */
+    private long dropped;
+
+    /**
+     * Flag set when this component is released.
+     */
+    private boolean released;
+
+    /**
+     * Create an asynchronous log event listener.
+     *
+     * @param listener component that receives the messages
+     * @param capacity maximum number of messages waiting to be delivered
+     * @param dropPolicy policy for dropping messages when the maximum number of messages are waiting
+     */
+    public AsyncLogEventListener(LogEventListener listener, int capacity, DropPolicy dropPolicy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.listener = listener;
+        this.dropPolicy = dropPolicy;
+        this.ring = newSlots(capacity);
+        this.batch = newSlots(Math.min(capacity, BATCH_SIZE));
+        this.thread = new Thread(this::deliver, "log-sink");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    @Override
+    public void log(LogLevel level, String module, String file, Integer line, String name, String header, Long id, String message) {
+        synchronized (ring) {
+            if (released) {
+                return;
+            }
+            if (count == ring.length) {
+                dropped++;
+                if (dropPolicy == DropPolicy.DROP_NEWEST) {
+                    return;
+                }
+                head = (head + 1) % ring.length;
+                count--;
+            }
+            ring[(head + count) % ring.length].set(level, module, file, line, name, header, id, message);
+            count++;
+            if (count == 1) {
+                ring.notify();
+            }
+        }
+    }
+
+    /**
+     * Get the number of messages dropped because the ring buffer was full.
+     *
+     * @return number of messages
+     */
+    public long getDroppedCount() {
+        synchronized (ring) {
+            return dropped;
+        }
+    }
+
+    /**
+     * Release this component.
+     * <p>
+     * Messages already waiting are delivered first, and there may be a short delay while waiting for that to complete.
+     */
+    public void release() {
+        synchronized (ring) {
+            released = true;
+            ring.notify();
+        }
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void deliver() {
+        for (;;) {
+            int size;
+            synchronized (ring) {
+                while (count == 0 && !released) {
+                    try {
+                        ring.wait();
+                    }
+                    catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (count == 0) {
+                    return;
+                }
+                size = Math.min(count, batch.length);
+                for (int i = 0; i < size; i++) {
+                    Slot slot = ring[head];
+                    batch[i].copy(slot);
+                    slot.clear();
+                    head = (head + 1) % ring.length;
+                }
+                count -= size;
+            }
+            for (int i = 0; i < size; i++) {
+                Slot slot = batch[i];
+                try {
+                    listener.log(slot.level, slot.module, slot.file, slot.line, slot.name, slot.header, slot.id, slot.message);
+                }
+                catch (Exception e) {
+                    // Not much we can do really
+                }
+                slot.clear();
+            }
+        }
+    }
+
+    private static Slot[] newSlots(int size) {
+        Slot[] slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        return slots;
+    }
+
+    /**
+     * Re-usable holder for a message.
+     */
+    private static final class Slot {
+
+        private LogLevel level;
+
+        private String module;
+
+        private String file;
+
+        private Integer line;
+
+        private String name;
+
+        private String header;
+
+        private Long id;
+
+        private String message;
+
+        private void set(LogLevel level, String module, String file, Integer line, String name, String header, Long id, String message) {
+            this.level = level;
+            this.module = module;
+            this.file = file;
+            this.line = line;
+            this.name = name;
+            this.header = header;
+            this.id = id;
+            this.message = message;
+        }
+
+        private void copy(Slot other) {
+            set(other.level, other.module, other.file, other.line, other.name, other.header, other.id, other.message);
+        }
+
+        private void clear() {
+            set(null, null, null, null, null, null, null, null);
+        }
+    }
+
+}
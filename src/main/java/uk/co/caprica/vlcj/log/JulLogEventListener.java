@@ -0,0 +1,135 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.log;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * A log event listener that bridges native log messages to <code>java.util.logging</code>.
+ * <p>
+ * Each native module logs to its own logger, named by appending the module name to a prefix (e.g. "libvlc.http"), so the
+ * usual logging configuration can be used to select which modules are logged and at which level. Messages without a
+ * module are logged to the logger named by the prefix itself.
+ * <p>
+ * Native log levels are mapped as follows:
+ * <ul>
+ *     <li>{@link LogLevel#DEBUG} to {@link Level#FINE};</li>
+ *     <li>{@link LogLevel#NOTICE} to {@link Level#INFO};</li>
+ *     <li>{@link LogLevel#WARNING} to {@link Level#WARNING};</li>
+ *     <li>{@link LogLevel#ERROR} to {@link Level#SEVERE}.</li>
+ * </ul>
+ * The native source file and line are used as the source class name, and the native object type as the source method
+ * name - setting these explicitly also avoids the cost of the logging framework inferring the caller from the stack.
+ * <p>
+ * Applications using another logging framework can use that framework's own bridge from <code>java.util.logging</code>,
+ * e.g. "jul-to-slf4j" for SLF4J.
+ * <p>
+ * Logging frameworks typically do their work synchronously, so this listener would normally be wrapped in an
+ * {@link AsyncLogEventListener}.
+ */
+public final class JulLogEventListener implements LogEventListener {
+
+    /**
+     * Default logger name prefix.
+     */
+    private static final String DEFAULT_PREFIX = "libvlc";
+
+    /**
+     * Logger name prefix.
+     */
+    private final String prefix;
+
+    /**
+     * Logger for messages without a module.
+     */
+    private final Logger defaultLogger;
+
+    /**
+     * Loggers, keyed by module name.
+     * <p>
+     * The logging framework only keeps weak references to its loggers, so they are cached here.
+     */
+    private final ConcurrentMap<String, Logger> loggers = new ConcurrentHashMap<>();
+
+    /**
+     * Create a log event listener with the default logger name prefix, "libvlc".
+     */
+    public JulLogEventListener() {
+        this(DEFAULT_PREFIX);
+    }
+
+    /**
+     * Create a log event listener.
+     *
+     * @param prefix logger name prefix
+     */
+    public JulLogEventListener(String prefix) {
+        this.prefix = prefix;
+        this.defaultLogger = Logger.getLogger(prefix);
+    }
+
+    @Override
+    public void log(LogLevel level, String module, String file, Integer line, String name, String header, Long id, String message) {
+        Logger logger = logger(module);
+        Level julLevel = julLevel(level);
+        if (logger.isLoggable(julLevel)) {
+            LogRecord record = new LogRecord(julLevel, message);
+            record.setLoggerName(logger.getName());
+            record.setSourceClassName(file != null ? file + ':' + line : module);
+            record.setSourceMethodName(name);
+            logger.log(record);
+        }
+    }
+
+    private Logger logger(String module) {
+        if (module == null) {
+            return defaultLogger;
+        }
+        Logger logger = loggers.get(module);
+        if (logger == null) {
+            logger = loggers.computeIfAbsent(module, m -> Logger.getLogger(prefix + '.' + m));
+        }
+        return logger;
+    }
+
+    private static Level julLevel(LogLevel level) {
+        if (level == null) {
+            return Level.FINEST;
+        }
+        switch (level) {
+            case DEBUG:
+                return Level.FINE;
+            case NOTICE:
+                return Level.INFO;
+            case WARNING:
+                return Level.WARNING;
+            case ERROR:
+                return Level.SEVERE;
+            default:
+                return Level.FINEST;
+        }
+    }
+
+}
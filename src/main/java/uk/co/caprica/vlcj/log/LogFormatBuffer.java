@@ -0,0 +1,119 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.log;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.LongByReference;
+import com.sun.jna.ptr.PointerByReference;
+import uk.co.caprica.vlcj.binding.lib.LibC;
+import uk.co.caprica.vlcj.binding.support.strings.NativeString;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Per-thread state used to format native log messages and to get their context.
+ * <p>
+ * The native log callback may be invoked concurrently on any number of native threads, each of those threads gets its
+ * own instance of this component so nothing needs to be allocated per message other than the resultant strings.
+ * <p>
+ * The format buffer grows to fit the messages it has seen. A message can not simply be formatted again into a larger
+ * buffer since the native argument list is consumed by formatting it, so a message that does not fit is truncated and
+ * the buffer is grown for subsequent messages instead.
+ */
+final class LogFormatBuffer {
+
+    /**
+     * Initial format buffer size, including the null terminator.
+     */
+    private static final int INITIAL_SIZE = 1024;
+
+    /**
+     * Maximum format buffer size, including the null terminator.
+     */
+    private static final int MAXIMUM_SIZE = 64 * 1024;
+
+    final PointerByReference module = new PointerByReference();
+
+    final PointerByReference file = new PointerByReference();
+
+    final IntByReference line = new IntByReference();
+
+    final PointerByReference name = new PointerByReference();
+
+    final PointerByReference header = new PointerByReference();
+
+    final LongByReference id = new LongByReference();
+
+    /**
+     * Native buffer used to format messages.
+     */
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(INITIAL_SIZE);
+
+    /**
+     * Buffer used to copy formatted messages from native memory.
+     */
+    private byte[] bytes = new byte[INITIAL_SIZE];
+
+    /**
+     * Size required for the largest message seen so far.
+     */
+    private int requiredSize;
+
+    /**
+     * Format a native log message.
+     *
+     * @param format format string
+     * @param args native format arguments
+     * @return formatted message, or <code>null</code> if formatting failed
+     */
+    String format(String format, Pointer args) {
+        if (requiredSize > buffer.capacity()) {
+            buffer = ByteBuffer.allocateDirect(requiredSize);
+            bytes = new byte[requiredSize];
+        }
+        int size = LibC.INSTANCE.vsnprintf(buffer, buffer.capacity(), format, args);
+        if (size < 0) {
+            return null;
+        }
+        if (size >= buffer.capacity()) {
+            requiredSize = Math.min(Integer.highestOneBit(size) << 1, MAXIMUM_SIZE);
+            size = buffer.capacity() - 1;
+        }
+        buffer.clear();
+        buffer.get(bytes, 0, size);
+        return new String(bytes, 0, size, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Dereference a pointer (that may be <code>null</code>) to get a string.
+     *
+     * @param pointer pointer
+     * @return string, or <code>null</code> if the pointer is <code>null</code>
+     */
+    static String getString(PointerByReference pointer) {
+        // The string is copied but not freed, the native string will be reclaimed when the native callback returns
+        Pointer value = pointer.getValue();
+        return value != null ? NativeString.copyNativeString(value) : null;
+    }
+
+}
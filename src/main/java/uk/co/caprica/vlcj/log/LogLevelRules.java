@@ -0,0 +1,167 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.log;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable set of log level rules.
+ * <p>
+ * A message is checked against the most specific matching rule - object identifier, then module, then object type -
+ * falling back to the global level if no rule matches.
+ * <p>
+ * The lowest level of any rule is pre-computed so that most messages can be rejected by a single comparison, before
+ * anything at all is retrieved from the native log context.
+ */
+final class LogLevelRules {
+
+    /**
+     * Threshold that rejects every message.
+     */
+    private static final int SUPPRESSED = Integer.MAX_VALUE;
+
+    /**
+     * Global log level, <code>null</code> to suppress messages that do not match a rule.
+     */
+    private final LogLevel level;
+
+    /**
+     * Log levels keyed by module name.
+     */
+    private final Map<String, LogLevel> modules;
+
+    /**
+     * Log levels keyed by object type name.
+     */
+    private final Map<String, LogLevel> objectTypes;
+
+    /**
+     * Log levels keyed by object identifier.
+     */
+    private final Map<Long, LogLevel> objects;
+
+    /**
+     * Lowest threshold of the global level and every rule.
+     */
+    private final int minimum;
+
+    LogLevelRules(LogLevel level) {
+        this(level, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    private LogLevelRules(LogLevel level, Map<String, LogLevel> modules, Map<String, LogLevel> objectTypes, Map<Long, LogLevel> objects) {
+        this.level = level;
+        this.modules = modules;
+        this.objectTypes = objectTypes;
+        this.objects = objects;
+        int minimum = threshold(level);
+        for (LogLevel ruleLevel : modules.values()) {
+            minimum = Math.min(minimum, ruleLevel.intValue());
+        }
+        for (LogLevel ruleLevel : objectTypes.values()) {
+            minimum = Math.min(minimum, ruleLevel.intValue());
+        }
+        for (LogLevel ruleLevel : objects.values()) {
+            minimum = Math.min(minimum, ruleLevel.intValue());
+        }
+        this.minimum = minimum;
+    }
+
+    LogLevel level() {
+        return level;
+    }
+
+    /**
+     * Get the lowest threshold of the global level and every rule.
+     * <p>
+     * A message below this threshold can be rejected without checking any rules.
+     *
+     * @return threshold
+     */
+    int minimum() {
+        return minimum;
+    }
+
+    /**
+     * Determine whether or not there are any object type or object identifier rules.
+     *
+     * @return <code>true</code> if there are object rules; <code>false</code> otherwise
+     */
+    boolean hasObjectRules() {
+        return !objectTypes.isEmpty() || !objects.isEmpty();
+    }
+
+    /**
+     * Get the threshold for a message.
+     *
+     * @param module module, may be <code>null</code>
+     * @param objectType object type name, may be <code>null</code>
+     * @param id object identifier, may be <code>null</code>
+     * @return threshold, a message is accepted if its level is at least this value
+     */
+    int threshold(String module, String objectType, Long id) {
+        LogLevel ruleLevel = id != null ? objects.get(id) : null;
+        if (ruleLevel == null && module != null) {
+            ruleLevel = modules.get(module);
+        }
+        if (ruleLevel == null && objectType != null) {
+            ruleLevel = objectTypes.get(objectType);
+        }
+        return ruleLevel != null ? ruleLevel.intValue() : threshold(level);
+    }
+
+    LogLevelRules withLevel(LogLevel level) {
+        return new LogLevelRules(level, modules, objectTypes, objects);
+    }
+
+    LogLevelRules withModule(String module, LogLevel moduleLevel) {
+        return new LogLevelRules(level, with(modules, module, moduleLevel), objectTypes, objects);
+    }
+
+    LogLevelRules withObjectType(String objectType, LogLevel objectTypeLevel) {
+        return new LogLevelRules(level, modules, with(objectTypes, objectType, objectTypeLevel), objects);
+    }
+
+    LogLevelRules withObject(long id, LogLevel objectLevel) {
+        return new LogLevelRules(level, modules, objectTypes, with(objects, id, objectLevel));
+    }
+
+    LogLevelRules withoutRules() {
+        return new LogLevelRules(level);
+    }
+
+    private static <K> Map<K, LogLevel> with(Map<K, LogLevel> rules, K key, LogLevel ruleLevel) {
+        Map<K, LogLevel> result = new HashMap<>(rules);
+        if (ruleLevel != null) {
+            result.put(key, ruleLevel);
+        } else {
+            result.remove(key);
+        }
+        return result.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(result);
+    }
+
+    private static int threshold(LogLevel level) {
+        return level != null ? level.intValue() : SUPPRESSED;
+    }
+
+}
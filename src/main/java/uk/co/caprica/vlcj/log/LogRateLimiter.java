@@ -0,0 +1,116 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.log;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Component that limits the rate of native log messages from each module.
+ * <p>
+ * Each module has its own token bucket, so a single module producing a flood of messages does not starve the others.
+ */
+final class LogRateLimiter {
+
+    /**
+     * Key used for messages that have no module.
+     */
+    private static final String NO_MODULE = "";
+
+    /**
+     * Messages permitted per nanosecond.
+     */
+    private final double rate;
+
+    /**
+     * Maximum number of messages permitted in a burst.
+     */
+    private final double burst;
+
+    /**
+     * Token buckets, keyed by module name.
+     */
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Number of messages suppressed.
+     */
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * Create a rate limiter.
+     *
+     * @param messagesPerSecond sustained number of messages permitted per second, for each module
+     * @param burst maximum number of messages permitted in a burst, for each module
+     */
+    LogRateLimiter(double messagesPerSecond, int burst) {
+        this.rate = messagesPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = Math.max(burst, 1);
+    }
+
+    /**
+     * Determine whether or not a message from a module is permitted.
+     *
+     * @param module module, may be <code>null</code>
+     * @return <code>true</code> if the message is permitted; <code>false</code> if it must be suppressed
+     */
+    boolean permit(String module) {
+        String key = module != null ? module : NO_MODULE;
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket());
+        }
+        if (bucket.take(System.nanoTime())) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+
+    /**
+     * Get the number of messages suppressed so far.
+     *
+     * @return number of messages
+     */
+    long suppressed() {
+        return suppressed.sum();
+    }
+
+    private final class Bucket {
+
+        private double tokens = burst;
+
+        private long last = System.nanoTime();
+
+        private synchronized boolean take(long now) {
+            tokens = Math.min(burst, tokens + (now - last) * rate);
+            last = now;
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return true;
+            }
+            return false;
+        }
+    }
+
+}
@@ -22,16 +22,12 @@ package uk.co.caprica.vlcj.log;
 import com.sun.jna.CallbackThreadInitializer;
 import com.sun.jna.Native;
 import com.sun.jna.Pointer;
-import com.sun.jna.ptr.IntByReference;
-import com.sun.jna.ptr.LongByReference;
-import com.sun.jna.ptr.PointerByReference;
-import uk.co.caprica.vlcj.binding.lib.LibC;
-import uk.co.caprica.vlcj.binding.support.strings.NativeString;
 import uk.co.caprica.vlcj.binding.internal.libvlc_instance_t;
 import uk.co.caprica.vlcj.binding.internal.libvlc_log_cb;
 import uk.co.caprica.vlcj.binding.internal.libvlc_log_t;
+import uk.co.caprica.vlcj.support.jfr.FlightRecording;
+import uk.co.caprica.vlcj.support.jfr.NativeLogEvent;
 
-import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -39,6 +35,7 @@ import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_log_get_context;
 import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_log_get_object;
 import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_log_set;
 import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_log_unset;
+import static uk.co.caprica.vlcj.log.LogFormatBuffer.getString;
 
 /**
  * Encapsulation of the vlc native log.
@@ -47,16 +44,25 @@ import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_log_unset;
  * must be thread-safe.
  * <p>
  * The default log level is {@link LogLevel#NOTICE}, this can be changed by invoking {@link #setLevel(LogLevel)}.
+ * <p>
+ * The level can also be set for particular native modules, object types and objects, for example to log debug messages
+ * from the "http" module only, see {@link #setModuleLevel(String, LogLevel)}. The levels can be changed at any time.
+ * <p>
+ * Messages are processed in stages, each stage only being reached if the message has not already been discarded:
+ * <ol>
+ *     <li>the message is discarded if its level is below every log level, or there is nothing to receive it;</li>
+ *     <li>if there are any module, object type or object rules, the context needed to match those rules is retrieved and
+ *     the message is checked against the matching log level;</li>
+ *     <li>the module is checked against the rate limit, if one is set;</li>
+ *     <li>the message is formatted, using a buffer re-used by each native thread;</li>
+ *     <li>the remaining context is retrieved and the message is sent to the listeners.</li>
+ * </ol>
+ * Listeners are notified synchronously on the native thread that emitted the message, so a slow listener slows down the
+ * native library. A listener that does any significant work (such as writing to a file) should be wrapped in an
+ * {@link AsyncLogEventListener}.
  */
 public final class NativeLog {
 
-    /**
-     * Default string buffer size.
-     * <p>
-     * Plus one for the null terminator.
-     */
-    private static final int BUFFER_SIZE = 200 + 1;
-
     /**
      * Collection of media event listeners.
      * <p>
@@ -66,6 +72,11 @@ public final class NativeLog {
      */
     private final List<LogEventListener> eventListenerList = new CopyOnWriteArrayList<LogEventListener>();
 
+    /**
+     * Per-thread buffers used to format messages.
+     */
+    private final ThreadLocal<LogFormatBuffer> buffers = ThreadLocal.withInitial(LogFormatBuffer::new);
+
     /**
      * LibVlc instance.
      */
@@ -77,11 +88,16 @@ public final class NativeLog {
     private NativeLogCallback callback = new NativeLogCallback();
 
     /**
-     * Log level.
+     * Log level rules, including the global log level.
      * <p>
-     * Set to <code>null</code> to suppress all log messages.
+     * The rules are immutable, a change replaces the rules so they can be read by the native callback without locking.
      */
-    private LogLevel logLevel = LogLevel.NOTICE;
+    private volatile LogLevelRules rules = new LogLevelRules(LogLevel.NOTICE);
+
+    /**
+     * Per-module rate limit, <code>null</code> if messages are not rate limited.
+     */
+    private volatile LogRateLimiter rateLimiter;
 
     /**
      * Create a new native log component.
@@ -117,11 +133,17 @@ public final class NativeLog {
      * <p>
      * Only log messages that are equal to or exceed this threshold are notified to
      * listeners.
+     * <p>
+     * This level applies to messages that do not match any module, object type or object level.
+     * <p>
+     * Set to <code>null</code> to suppress all log messages that do not match any of those levels.
      *
      * @param logLevel log threshold level
      */
     public final void setLevel(LogLevel logLevel) {
-        this.logLevel = logLevel;
+        synchronized (this) {
+            rules = rules.withLevel(logLevel);
+        }
     }
 
     /**
@@ -130,7 +152,84 @@ public final class NativeLog {
      * @return level
      */
     public final LogLevel getLevel() {
-        return logLevel;
+        return rules.level();
+    }
+
+    /**
+     * Set the log threshold level for messages from a particular native module.
+     * <p>
+     * This takes precedence over an object type level, and the global level.
+     *
+     * @param module module name, e.g. "http"
+     * @param logLevel log threshold level, or <code>null</code> to remove the level for the module
+     */
+    public final void setModuleLevel(String module, LogLevel logLevel) {
+        synchronized (this) {
+            rules = rules.withModule(module, logLevel);
+        }
+    }
+
+    /**
+     * Set the log threshold level for messages from a particular type of native object.
+     * <p>
+     * This takes precedence over the global level.
+     *
+     * @param objectType object type name, e.g. "input" or "decoder"
+     * @param logLevel log threshold level, or <code>null</code> to remove the level for the object type
+     */
+    public final void setObjectTypeLevel(String objectType, LogLevel logLevel) {
+        synchronized (this) {
+            rules = rules.withObjectType(objectType, logLevel);
+        }
+    }
+
+    /**
+     * Set the log threshold level for messages from a particular native object.
+     * <p>
+     * This takes precedence over a module level, an object type level, and the global level.
+     *
+     * @param id object identifier
+     * @param logLevel log threshold level, or <code>null</code> to remove the level for the object
+     */
+    public final void setObjectLevel(long id, LogLevel logLevel) {
+        synchronized (this) {
+            rules = rules.withObject(id, logLevel);
+        }
+    }
+
+    /**
+     * Remove all module, object type and object levels, leaving only the global level.
+     */
+    public final void clearLevels() {
+        synchronized (this) {
+            rules = rules.withoutRules();
+        }
+    }
+
+    /**
+     * Limit the rate of log messages from each native module.
+     * <p>
+     * Each module may emit a burst of messages, after which messages from that module are suppressed until its rate
+     * drops below the limit. Messages are suppressed before they are formatted, so a module flooding the log costs very
+     * little.
+     * <p>
+     * Setting a new rate limit resets the count of suppressed messages.
+     *
+     * @param messagesPerSecond sustained number of messages permitted per second for each module, zero for no limit
+     * @param burst maximum number of messages permitted in a burst for each module
+     */
+    public final void setRateLimit(double messagesPerSecond, int burst) {
+        this.rateLimiter = messagesPerSecond > 0 ? new LogRateLimiter(messagesPerSecond, burst) : null;
+    }
+
+    /**
+     * Get the number of messages suppressed by the current rate limit.
+     *
+     * @return number of messages
+     */
+    public final long getSuppressedCount() {
+        LogRateLimiter rateLimiter = this.rateLimiter;
+        return rateLimiter != null ? rateLimiter.suppressed() : 0;
     }
 
     /**
@@ -144,7 +243,7 @@ public final class NativeLog {
     /**
      * Callback to receive native log events.
      * <p>
-     * This implementation <em>must</em> be thread-safe - this is why we do not re-use a shared buffer.
+     * This implementation <em>must</em> be thread-safe - this is why each native thread has its own buffer.
      */
     private final class NativeLogCallback implements libvlc_log_cb {
 
@@ -155,60 +254,73 @@ public final class NativeLog {
         @Override
         public void log(Pointer data, int level, libvlc_log_t ctx, String format, Pointer args) {
             // If the log is not being suppressed...
-            if (logLevel != null && level >= logLevel.intValue()) {
-                // Allocate a new buffer to hold the formatted log message
-                ByteBuffer byteBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
-                // Delegate to the native library to format the log message
-                int size = LibC.INSTANCE.vsnprintf(byteBuffer, byteBuffer.capacity(), format, args);
-                // If the message was formatted without error...
-                if (size >= 0) {
-                    // Determine the number of available characters (actually number of bytes) - note that the message
-                    // may have been truncated if the buffer was not large enough
-                    size = Math.min(size, BUFFER_SIZE);
-                    // Create a new string from the byte buffer contents
-                    byte[] bytes = new byte[size];
-                    byteBuffer.get(bytes);
-                    String message = new String(bytes);
-                    if (message.length() > 0) {
-                        // Get the information about the object that emitted the log statement
-                        PointerByReference modulePointer = new PointerByReference();
-                        PointerByReference filePointer = new PointerByReference();
-                        IntByReference linePointer = new IntByReference();
-                        libvlc_log_get_context(ctx, modulePointer, filePointer, linePointer);
-                        PointerByReference namePointer = new PointerByReference();
-                        PointerByReference headerPointer = new PointerByReference();
-                        LongByReference idPointer = new LongByReference();
-                        libvlc_log_get_object(ctx, namePointer, headerPointer, idPointer);
-                        String module = getString(modulePointer);
-                        String file = getString(filePointer);
-                        Integer line = linePointer.getValue();
-                        String name = getString(namePointer);
-                        String header = getString(headerPointer);
-                        Long id = idPointer.getValue();
-                        // ...send the event
-                        raiseLogEvent(LogLevel.level(level), module, file, line, name, header, id, message);
-                    }
-                }
-                else {
-                    // This occurs when vsnprintf failed, rather than just truncating the message
-                    raiseLogEvent(LogLevel.ERROR, null, null, null, null, null, null, "Failed to format native log message");
+            LogLevelRules rules = NativeLog.this.rules;
+            if (level < rules.minimum()) {
+                return;
+            }
+            // ...and there is something to receive the message...
+            // The flight recorder module is optional, so the event type must not be touched if it is not present
+            boolean record = FlightRecording.isAvailable() && NativeLogEvent.isRecording();
+            if (!record && eventListenerList.isEmpty()) {
+                return;
+            }
+            LogFormatBuffer buffer = buffers.get();
+            // Get the module that emitted the log statement, needed to apply the module levels and the rate limit
+            libvlc_log_get_context(ctx, buffer.module, buffer.file, buffer.line);
+            String module = getString(buffer.module);
+            // Get the object that emitted the log statement only if it is needed to apply the level rules
+            boolean object = rules.hasObjectRules();
+            String name = null;
+            String header = null;
+            Long id = null;
+            if (object) {
+                libvlc_log_get_object(ctx, buffer.name, buffer.header, buffer.id);
+                name = getString(buffer.name);
+                id = buffer.id.getValue();
+            }
+            if (level < rules.threshold(module, name, id)) {
+                return;
+            }
+            LogRateLimiter rateLimiter = NativeLog.this.rateLimiter;
+            if (rateLimiter != null && !rateLimiter.permit(module)) {
+                return;
+            }
+            // Delegate to the native library to format the log message
+            String message = buffer.format(format, args);
+            if (message == null) {
+                // This occurs when vsnprintf failed, rather than just truncating the message
+                raiseLogEvent(LogLevel.ERROR, null, null, null, null, null, null, "Failed to format native log message");
+                return;
+            }
+            if (message.isEmpty()) {
+                return;
+            }
+            // Get the remaining information about the object that emitted the log statement
+            if (!object) {
+                libvlc_log_get_object(ctx, buffer.name, buffer.header, buffer.id);
+                name = getString(buffer.name);
+                id = buffer.id.getValue();
+            }
+            String file = getString(buffer.file);
+            Integer line = buffer.line.getValue();
+            header = getString(buffer.header);
+            // ...send the event
+            raiseLogEvent(LogLevel.level(level), module, file, line, name, header, id, message);
+            // ...and record it if the flight recorder is interested
+            if (record) {
+                NativeLogEvent logEvent = new NativeLogEvent();
+                if (logEvent.shouldCommit()) {
+                    logEvent.level = String.valueOf(LogLevel.level(level));
+                    logEvent.module = module;
+                    logEvent.name = name;
+                    logEvent.id = id;
+                    logEvent.message = message;
+                    logEvent.commit();
                 }
             }
         }
     }
 
-    /**
-     * Dereference a pointer (that may be <code>null</code>) to get a string.
-     *
-     * @param pointer pointer
-     * @return string, or <code>null</code> if the pointer is <code>null</code>
-     */
-    private String getString(PointerByReference pointer) {
-        // The string is copied but not freed, the native string will be reclaimed when the native callback returns
-        Pointer value = pointer.getValue();
-        return value != null ? NativeString.copyNativeString(value) : null;
-    }
-
     /**
      * Raise a log event.
      *
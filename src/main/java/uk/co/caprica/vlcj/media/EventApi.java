@@ -19,6 +19,10 @@
 
 package uk.co.caprica.vlcj.media;
 
+import uk.co.caprica.vlcj.support.metrics.EventMetrics;
+
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Behaviour pertaining to media events.
  */
@@ -26,6 +30,12 @@ public final class EventApi extends BaseApi {
 
     private final MediaNativeEventManager eventManager;
 
+    private MediaEventPublisher publisher;
+
+    private volatile PictureBufferPool pictureBufferPool;
+
+    private volatile boolean retainPictures;
+
     EventApi(Media media) {
         super(media);
 
@@ -50,8 +60,103 @@ public final class EventApi extends BaseApi {
         eventManager.removeEventListener(listener);
     }
 
+    /**
+     * Set a pool of buffers to receive the data of pictures delivered with media events.
+     * <p>
+     * When a pool is set, the data of each picture delivered to a listener, e.g. via
+     * {@link MediaEventListener#mediaThumbnailGenerated(Media, Picture)}, is copied into a buffer acquired from the
+     * pool. Each listener receives its own picture, and each listener then owns that picture and <em>must</em> release it
+     * via {@link Picture#release()} when it has no further use for it, so that the buffer is returned to the pool.
+     *
+     * @param pictureBufferPool pool of buffers, or <code>null</code> to allocate a new buffer for each picture
+     */
+    public void setPictureBufferPool(PictureBufferPool pictureBufferPool) {
+        this.pictureBufferPool = pictureBufferPool;
+    }
+
+    /**
+     * Get the pool of buffers used to receive the data of pictures delivered with media events.
+     *
+     * @return pool of buffers, or <code>null</code> if there is none
+     */
+    public PictureBufferPool getPictureBufferPool() {
+        return pictureBufferPool;
+    }
+
+    /**
+     * Set whether or not pictures delivered with media events keep the native picture rather than copying the picture
+     * data.
+     * <p>
+     * When set, each picture delivered to a listener, e.g. via
+     * {@link MediaEventListener#mediaThumbnailGenerated(Media, Picture)}, is created via
+     * {@link Picture#retain(uk.co.caprica.vlcj.binding.internal.libvlc_picture_t)} and exposes the native picture data
+     * without copying it. Each listener receives its own picture, and each listener then owns that picture and
+     * <em>must</em> release it via {@link Picture#release()} when it has no further use for it.
+     * <p>
+     * This takes precedence over any pool set via {@link #setPictureBufferPool(PictureBufferPool)}.
+     * <p>
+     * The default is to copy the picture data.
+     *
+     * @param retainPictures <code>true</code> to keep the native pictures; <code>false</code> to copy the picture data
+     */
+    public void setRetainPictures(boolean retainPictures) {
+        this.retainPictures = retainPictures;
+    }
+
+    /**
+     * Determine whether or not pictures delivered with media events keep the native picture.
+     *
+     * @return <code>true</code> if native pictures are kept; <code>false</code> if the picture data is copied
+     */
+    public boolean getRetainPictures() {
+        return retainPictures;
+    }
+
+    /**
+     * Set a component to collect metrics for the dispatch of native events to listeners.
+     * <p>
+     * The same metrics component may be shared with other components.
+     *
+     * @param metrics metrics collector, or <code>null</code> to disable metrics
+     */
+    public void setMetrics(EventMetrics metrics) {
+        eventManager.setMetrics(metrics);
+    }
+
+    /**
+     * Get the component collecting metrics for the dispatch of native events to listeners.
+     *
+     * @return metrics collector, or <code>null</code> if metrics are not enabled
+     */
+    public EventMetrics getMetrics() {
+        return eventManager.getMetrics();
+    }
+
+    /**
+     * Get a reactive streams publisher of media events.
+     * <p>
+     * The publisher is created when this method is first invoked, and it starts listening to native events when the
+     * first subscriber subscribes, and stops listening when the last subscription ends. Events are delivered to
+     * subscribers using the common fork-join pool.
+     * <p>
+     * All subscribers are completed when the media is released.
+     *
+     * @return publisher
+     */
+    public synchronized MediaEventPublisher publisher() {
+        if (publisher == null) {
+            publisher = new MediaEventPublisher(this, ForkJoinPool.commonPool());
+        }
+        return publisher;
+    }
+
     @Override
     protected void release() {
+        synchronized (this) {
+            if (publisher != null) {
+                publisher.close();
+            }
+        }
         eventManager.release();
     }
 
@@ -80,9 +80,11 @@ public interface MediaEventListener {
 
     /**
      * A thumbnail was generated.
+     * <p>
+     * If thumbnail generation failed, or timed out, the picture will be <code>null</code>.
      *
      * @param media media that generated the thumbnail
-     * @param picture thumbnail that was generated
+     * @param picture thumbnail that was generated, or <code>null</code> on failure
      */
     void mediaThumbnailGenerated(Media media, Picture picture);
 
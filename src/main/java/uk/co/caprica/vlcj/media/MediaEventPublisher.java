@@ -0,0 +1,99 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media;
+
+import uk.co.caprica.vlcj.support.flow.EventPublisher;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * A reactive streams publisher of media events.
+ * <p>
+ * Obtain the publisher via {@link EventApi#publisher()}, for example:
+ * <pre>
+ * media.events().publisher().subscribe(subscriber, EventRecord.ofType(MediaEventType.PARSED_CHANGED));
+ * </pre>
+ * Events are delivered to subscribers asynchronously, not on the native event callback thread, so unlike an ordinary
+ * listener it is safe for a subscriber to call back into LibVLC.
+ */
+public final class MediaEventPublisher extends EventPublisher<MediaEventRecord> {
+
+    private final EventApi eventApi;
+
+    private final PublishingEventListener listener = new PublishingEventListener();
+
+    MediaEventPublisher(EventApi eventApi, Executor executor) {
+        super(executor);
+        this.eventApi = eventApi;
+    }
+
+    @Override
+    protected void onActivate() {
+        eventApi.addMediaEventListener(listener);
+    }
+
+    @Override
+    protected void onDeactivate() {
+        eventApi.removeMediaEventListener(listener);
+    }
+
+    /**
+     * Listener that converts native events to published event records.
+     */
+    private final class PublishingEventListener implements MediaEventListener {
+
+        @Override
+        public void mediaMetaChanged(Media media, Meta metaType) {
+            publish(MediaEventRecord.metaChanged(media, metaType));
+        }
+
+        @Override
+        public void mediaSubItemAdded(Media media, MediaRef newChild) {
+            publish(MediaEventRecord.of(media, MediaEventType.SUB_ITEM_ADDED));
+        }
+
+        @Override
+        public void mediaDurationChanged(Media media, long newDuration) {
+            publish(MediaEventRecord.durationChanged(media, newDuration));
+        }
+
+        @Override
+        public void mediaParsedChanged(Media media, MediaParsedStatus newStatus) {
+            publish(MediaEventRecord.parsedChanged(media, newStatus));
+        }
+
+        @Override
+        public void mediaSubItemTreeAdded(Media media, MediaRef item) {
+            publish(MediaEventRecord.of(media, MediaEventType.SUB_ITEM_TREE_ADDED));
+        }
+
+        @Override
+        public void mediaThumbnailGenerated(Media media, Picture picture) {
+            publish(MediaEventRecord.thumbnailGenerated(media, picture));
+        }
+
+        @Override
+        public void mediaAttachedThumbnailsFound(Media media, List<Picture> pictures) {
+            publish(MediaEventRecord.attachedThumbnailsFound(media, pictures));
+        }
+    }
+
+}
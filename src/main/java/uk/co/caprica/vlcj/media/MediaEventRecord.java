@@ -0,0 +1,149 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media;
+
+import uk.co.caprica.vlcj.support.flow.EventRecord;
+
+import java.util.List;
+
+/**
+ * An immutable record of a media event, as published by a {@link MediaEventPublisher}.
+ * <p>
+ * Sub-items are not carried since a native media reference can not outlive the native callback.
+ */
+public final class MediaEventRecord extends EventRecord<Media, MediaEventType> {
+
+    private final Meta metaType;
+
+    private final long newDuration;
+
+    private final MediaParsedStatus newStatus;
+
+    private final Picture picture;
+
+    private final List<Picture> pictures;
+
+    private MediaEventRecord(Media media, MediaEventType type, Meta metaType, long newDuration, MediaParsedStatus newStatus, Picture picture, List<Picture> pictures) {
+        super(media, type);
+        this.metaType = metaType;
+        this.newDuration = newDuration;
+        this.newStatus = newStatus;
+        this.picture = picture;
+        this.pictures = pictures;
+    }
+
+    static MediaEventRecord of(Media media, MediaEventType type) {
+        return new MediaEventRecord(media, type, null, 0, null, null, null);
+    }
+
+    static MediaEventRecord metaChanged(Media media, Meta metaType) {
+        return new MediaEventRecord(media, MediaEventType.META_CHANGED, metaType, 0, null, null, null);
+    }
+
+    static MediaEventRecord durationChanged(Media media, long newDuration) {
+        return new MediaEventRecord(media, MediaEventType.DURATION_CHANGED, null, newDuration, null, null, null);
+    }
+
+    static MediaEventRecord parsedChanged(Media media, MediaParsedStatus newStatus) {
+        return new MediaEventRecord(media, MediaEventType.PARSED_CHANGED, null, 0, newStatus, null, null);
+    }
+
+    static MediaEventRecord thumbnailGenerated(Media media, Picture picture) {
+        return new MediaEventRecord(media, MediaEventType.THUMBNAIL_GENERATED, null, 0, null, picture, null);
+    }
+
+    static MediaEventRecord attachedThumbnailsFound(Media media, List<Picture> pictures) {
+        return new MediaEventRecord(media, MediaEventType.ATTACHED_THUMBNAILS_FOUND, null, 0, null, null, pictures);
+    }
+
+    /**
+     * Get the type of meta data that changed.
+     * <p>
+     * Available for {@link MediaEventType#META_CHANGED}.
+     *
+     * @return meta data type
+     */
+    public Meta metaType() {
+        requireType(MediaEventType.META_CHANGED);
+        return metaType;
+    }
+
+    /**
+     * Get the new duration.
+     * <p>
+     * Available for {@link MediaEventType#DURATION_CHANGED}.
+     *
+     * @return duration, milliseconds
+     */
+    public long newDuration() {
+        requireType(MediaEventType.DURATION_CHANGED);
+        return newDuration;
+    }
+
+    /**
+     * Get the new parsed status.
+     * <p>
+     * Available for {@link MediaEventType#PARSED_CHANGED}.
+     *
+     * @return parsed status
+     */
+    public MediaParsedStatus newStatus() {
+        requireType(MediaEventType.PARSED_CHANGED);
+        return newStatus;
+    }
+
+    /**
+     * Get the generated thumbnail.
+     * <p>
+     * Available for {@link MediaEventType#THUMBNAIL_GENERATED}.
+     *
+     * @return picture, may be <code>null</code> if no thumbnail could be generated
+     */
+    public Picture picture() {
+        requireType(MediaEventType.THUMBNAIL_GENERATED);
+        return picture;
+    }
+
+    /**
+     * Get the attached thumbnails that were found.
+     * <p>
+     * Available for {@link MediaEventType#ATTACHED_THUMBNAILS_FOUND}.
+     *
+     * @return pictures
+     */
+    public List<Picture> pictures() {
+        requireType(MediaEventType.ATTACHED_THUMBNAILS_FOUND);
+        return pictures;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(100);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("type=").append(type()).append(',');
+        sb.append("metaType=").append(metaType).append(',');
+        sb.append("newDuration=").append(newDuration).append(',');
+        sb.append("newStatus=").append(newStatus).append(',');
+        sb.append("picture=").append(picture).append(',');
+        sb.append("pictures=").append(pictures).append(']');
+        return sb.toString();
+    }
+
+}
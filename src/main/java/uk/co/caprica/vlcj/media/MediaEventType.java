@@ -0,0 +1,79 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media;
+
+/**
+ * Enumeration of media event types, for events published by a {@link MediaEventPublisher}.
+ * <p>
+ * The values carried by a {@link MediaEventRecord} of each type are documented on each constant - they correspond to
+ * the parameters of the equivalent {@link MediaEventListener} method.
+ */
+public enum MediaEventType {
+
+    /**
+     * Media meta data changed.
+     * <p>
+     * Values: {@link MediaEventRecord#metaType()}.
+     */
+    META_CHANGED,
+
+    /**
+     * A sub-item was added.
+     * <p>
+     * No values, the media is not carried since a native media reference can not outlive the native callback.
+     */
+    SUB_ITEM_ADDED,
+
+    /**
+     * The media duration changed.
+     * <p>
+     * Values: {@link MediaEventRecord#newDuration()}.
+     */
+    DURATION_CHANGED,
+
+    /**
+     * The media parsed status changed.
+     * <p>
+     * Values: {@link MediaEventRecord#newStatus()}.
+     */
+    PARSED_CHANGED,
+
+    /**
+     * A sub-item tree was added.
+     * <p>
+     * No values, the media is not carried since a native media reference can not outlive the native callback.
+     */
+    SUB_ITEM_TREE_ADDED,
+
+    /**
+     * A thumbnail was generated.
+     * <p>
+     * Values: {@link MediaEventRecord#picture()}.
+     */
+    THUMBNAIL_GENERATED,
+
+    /**
+     * Attached thumbnails were found.
+     * <p>
+     * Values: {@link MediaEventRecord#pictures()}.
+     */
+    ATTACHED_THUMBNAILS_FOUND
+
+}
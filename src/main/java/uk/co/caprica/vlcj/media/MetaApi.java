@@ -24,9 +24,12 @@ import com.sun.jna.ptr.PointerByReference;
 import uk.co.caprica.vlcj.binding.support.strings.NativeString;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_media_get_meta;
@@ -42,6 +45,11 @@ import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_media_set_meta_extra;
  */
 public final class MetaApi extends BaseApi {
 
+    /**
+     * Every type of metadata.
+     */
+    private static final Set<Meta> ALL_META = Collections.unmodifiableSet(EnumSet.allOf(Meta.class));
+
     MetaApi(Media media) {
         super(media);
     }
@@ -74,6 +82,9 @@ public final class MetaApi extends BaseApi {
     public List<String> getExtraNames() {
         PointerByReference namesPointer = new PointerByReference();
         int namesCount = libvlc_media_get_meta_extra_names(mediaInstance, namesPointer);
+        if (namesCount <= 0 || namesPointer.getValue() == null) {
+            return new ArrayList<>(0);
+        }
         List<String> result = new ArrayList<>(namesCount);
         Pointer[] namePointers = namesPointer.getValue().getPointerArray(0L, namesCount);
         for (Pointer namePointer : namePointers) {
@@ -116,26 +127,61 @@ public final class MetaApi extends BaseApi {
      * Get all the metadata values as a {@link MetaData} value object.
      * <p>
      * The returned object is immutable and "disconnected" from the underlying media.
+     * <p>
+     * Every type of metadata, and every extra metadata field, is retrieved - this requires one native call for each one.
+     * If only some of the metadata is needed, {@link #asMetaData(Set, boolean)} or {@link #view()} are cheaper.
      *
      * @return meta data
      */
     public MetaData asMetaData() {
-        Map<Meta,String> values = new HashMap<Meta,String>(Meta.values().length);
-        for (Meta meta : Meta.values()) {
+        return asMetaData(ALL_META, true);
+    }
+
+    /**
+     * Get selected metadata values as a {@link MetaData} value object.
+     * <p>
+     * The returned object is immutable and "disconnected" from the underlying media.
+     * <p>
+     * Only the requested types of metadata are retrieved, each requiring one native call, and extra metadata requires a
+     * native call to get the extra field names and then one for each field. When scanning a large number of media, such
+     * as a media library, requesting only what will actually be used can substantially reduce the cost of retrieval.
+     *
+     * @param metas types of metadata to get
+     * @param extras <code>true</code> to also get all of the extra metadata; <code>false</code> to get none of it
+     * @return meta data
+     */
+    public MetaData asMetaData(Set<Meta> metas, boolean extras) {
+        Map<Meta, String> values = new EnumMap<>(Meta.class);
+        for (Meta meta : metas) {
             String value = get(meta);
             if (value != null) {
                 values.put(meta, value);
             }
         }
-        List<String> extraNames = getExtraNames();
         Map<String, String> extraMeta = new TreeMap<>();
-        for (String extraName : extraNames) {
-            String extraValue = getExtra((extraName));
-            extraMeta.put(extraName, extraValue);
+        if (extras) {
+            for (String extraName : getExtraNames()) {
+                extraMeta.put(extraName, getExtra(extraName));
+            }
         }
         return new MetaData(values, extraMeta);
     }
 
+    /**
+     * Get a lazy view of the metadata.
+     * <p>
+     * No metadata is retrieved until it is accessed via the view, each value is then retrieved at most once.
+     * <p>
+     * Unlike {@link #asMetaData()}, the view is <em>not</em> disconnected from the underlying media - it must not be used
+     * after the media has been released. A disconnected copy of whatever has been retrieved so far can be obtained
+     * via {@link MetaDataView#asMetaData()}.
+     *
+     * @return metadata view
+     */
+    public MetaDataView view() {
+        return new MetaDataView(this);
+    }
+
     private String getMetaValue(Pointer pointer) {
         return NativeString.copyAndFreeNativeString(pointer);
     }
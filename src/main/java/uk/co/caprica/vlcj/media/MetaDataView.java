@@ -0,0 +1,145 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.media;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A lazy view of media metadata.
+ * <p>
+ * Each value is retrieved from the native media when it is first accessed and then cached, including values that are not
+ * set, so repeated access costs nothing and values that are never accessed cost nothing either.
+ * <p>
+ * This view is connected to the underlying media, it must not be used after the media has been released.
+ * <p>
+ * This component is not thread-safe.
+ */
+public final class MetaDataView {
+
+    /**
+     * Marker for a cached value that is not set.
+     */
+    private static final String NOT_SET = new String();
+
+    /**
+     * Native metadata.
+     */
+    private final MetaApi metaApi;
+
+    /**
+     * Cached metadata values.
+     */
+    private final Map<Meta, String> values = new EnumMap<>(Meta.class);
+
+    /**
+     * Cached extra metadata values.
+     */
+    private final Map<String, String> extraValues = new HashMap<>();
+
+    /**
+     * Cached extra metadata field names, <code>null</code> until first needed.
+     */
+    private List<String> extraNames;
+
+    MetaDataView(MetaApi metaApi) {
+        this.metaApi = metaApi;
+    }
+
+    /**
+     * Get a particular metadata value.
+     *
+     * @param meta metadata type
+     * @return metadata value, may be <code>null</code>
+     */
+    public String get(Meta meta) {
+        String value = values.get(meta);
+        if (value == null) {
+            value = metaApi.get(meta);
+            if (value == null) {
+                value = NOT_SET;
+            }
+            values.put(meta, value);
+        }
+        return value != NOT_SET ? value : null;
+    }
+
+    /**
+     * Get the names of the available extra metadata fields.
+     *
+     * @return extra metadata field names
+     */
+    public List<String> extraNames() {
+        if (extraNames == null) {
+            extraNames = Collections.unmodifiableList(metaApi.getExtraNames());
+        }
+        return extraNames;
+    }
+
+    /**
+     * Get a particular extra metadata value.
+     *
+     * @param name extra metadata field name
+     * @return extra metadata value, may be <code>null</code>
+     */
+    public String get(String name) {
+        String value = extraValues.get(name);
+        if (value == null) {
+            value = metaApi.getExtra(name);
+            if (value == null) {
+                value = NOT_SET;
+            }
+            extraValues.put(name, value);
+        }
+        return value != NOT_SET ? value : null;
+    }
+
+    /**
+     * Get the metadata values that have been retrieved so far as a {@link MetaData} value object.
+     * <p>
+     * Nothing further is retrieved from the native media, values that have not yet been accessed via this view are not
+     * present in the returned object.
+     * <p>
+     * The returned object is immutable and "disconnected" from the underlying media.
+     *
+     * @return metadata
+     */
+    public MetaData asMetaData() {
+        Map<Meta, String> metaValues = new EnumMap<>(Meta.class);
+        for (Map.Entry<Meta, String> value : values.entrySet()) {
+            if (value.getValue() != NOT_SET) {
+                metaValues.put(value.getKey(), value.getValue());
+            }
+        }
+        Map<String, String> extraMeta = new TreeMap<>();
+        for (Map.Entry<String, String> value : extraValues.entrySet()) {
+            if (value.getValue() != NOT_SET) {
+                extraMeta.put(value.getKey(), value.getValue());
+            }
+        }
+        return new MetaData(metaValues, extraMeta);
+    }
+
+}
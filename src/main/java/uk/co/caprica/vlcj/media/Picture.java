@@ -23,15 +23,31 @@ import com.sun.jna.Pointer;
 import uk.co.caprica.vlcj.binding.internal.libvlc_picture_t;
 import uk.co.caprica.vlcj.binding.support.types.size_tByReference;
 
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
 import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_picture_get_buffer;
 import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_picture_get_height;
 import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_picture_get_stride;
 import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_picture_get_time;
 import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_picture_get_width;
+import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_picture_release;
+import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_picture_retain;
 import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_picture_type;
 
 /**
  * Picture.
+ * <p>
+ * By default the picture data is copied out of native memory when the picture is created, and is available via
+ * {@link #buffer()}.
+ * <p>
+ * Alternatively, a picture created via {@link #retain(libvlc_picture_t)} keeps the native picture and exposes the
+ * picture data in place, via {@link #byteBuffer()}, without copying it at all - or the picture data can be written
+ * directly into an application buffer or image via {@link #copyTo(ByteBuffer)} or {@link #copyTo(BufferedImage)}. Such
+ * a picture <em>must</em> be released via {@link #release()} when it is no longer needed.
  */
 public final class Picture {
 
@@ -45,23 +61,61 @@ public final class Picture {
 
     private final long time;
 
-    private final byte[] buffer;
-
     private final int size;
 
+    private final PictureBufferPool pool;
+
+    private final libvlc_picture_t nativePicture;
+
+    private final ByteBuffer nativeBuffer;
+
+    private byte[] buffer;
+
+    private boolean released;
+
     /**
      * Create a picture.
      *
      * @param picture native picture instance
      */
     public Picture(libvlc_picture_t picture) {
+        this(picture, null);
+    }
+
+    /**
+     * Create a picture, copying the picture data into a buffer acquired from a pool.
+     * <p>
+     * The buffer is returned to the pool when the picture is released via {@link #release()}.
+     *
+     * @param picture native picture instance
+     * @param pool pool of buffers to copy the picture data into, may be <code>null</code>
+     */
+    public Picture(libvlc_picture_t picture, PictureBufferPool pool) {
+        this(picture, pool, false);
+    }
+
+    private Picture(libvlc_picture_t picture, PictureBufferPool pool, boolean retain) {
+        size_tByReference sizeRef = new size_tByReference();
+        Pointer pointer = libvlc_picture_get_buffer(picture, sizeRef);
+        int size = sizeRef.getValue().intValue();
         this.width  = libvlc_picture_get_width(picture);
         this.height = libvlc_picture_get_height(picture);
         this.type   = PictureType.pictureType(libvlc_picture_type(picture));
         this.stride = type == PictureType.ARGB ? libvlc_picture_get_stride(picture) : 0;
         this.time   = libvlc_picture_get_time(picture);
-        this.buffer = initBuffer(picture);
-        this.size   = this.buffer.length;
+        this.size   = size;
+        if (retain) {
+            libvlc_picture_retain(picture);
+            this.pool          = null;
+            this.nativePicture = picture;
+            this.nativeBuffer  = pointer.getByteBuffer(0, size).asReadOnlyBuffer();
+        } else {
+            this.pool          = pool;
+            this.nativePicture = null;
+            this.nativeBuffer  = null;
+            this.buffer        = pool != null ? pool.acquire(size) : new byte[size];
+            pointer.read(0, buffer, 0, size);
+        }
     }
 
     // Required by vlcj-pro
@@ -73,12 +127,23 @@ public final class Picture {
         this.time = time;
         this.buffer = buffer;
         this.size = size;
+        this.pool = null;
+        this.nativePicture = null;
+        this.nativeBuffer = null;
     }
 
-    private byte[] initBuffer(libvlc_picture_t picture) {
-        size_tByReference size = new size_tByReference();
-        Pointer pointer = libvlc_picture_get_buffer(picture, size);
-        return pointer.getByteArray(0, size.getValue().intValue());
+    /**
+     * Create a picture that keeps the native picture, rather than copying the picture data.
+     * <p>
+     * The native picture is retained, so it remains valid after the native library has finished with it, until this
+     * picture is released via {@link #release()} - which the application <em>must</em> do when it has no further use
+     * for it.
+     *
+     * @param picture native picture instance
+     * @return picture
+     */
+    public static Picture retain(libvlc_picture_t picture) {
+        return new Picture(picture, null, true);
     }
 
     /**
@@ -130,15 +195,27 @@ public final class Picture {
 
     /**
      * Get the picture buffer.
+     * <p>
+     * If the picture data was copied into a pooled buffer, the buffer may be larger than the picture data, so
+     * {@link #size()} must be used to determine how much of the buffer is valid.
+     * <p>
+     * For a picture that keeps the native picture, the picture data is copied the first time this method is invoked -
+     * {@link #byteBuffer()} avoids that copy.
      *
      * @return buffer
      */
-    public byte[] buffer() {
+    public synchronized byte[] buffer() {
+        if (buffer == null) {
+            checkNotReleased();
+            byte[] copy = new byte[size];
+            nativeBuffer.duplicate().get(copy);
+            buffer = copy;
+        }
         return buffer;
     }
 
     /**
-     * Get the picture buffer size.
+     * Get the picture size.
      *
      * @return buffer size
      */
@@ -146,16 +223,130 @@ public final class Picture {
         return size;
     }
 
+    /**
+     * Get a read-only view of the picture data.
+     * <p>
+     * For a picture that keeps the native picture, this is a direct buffer over the native picture data, and it
+     * <em>must not</em> be used after the picture has been released.
+     *
+     * @return picture data, from position zero to a limit of {@link #size()}
+     */
+    public ByteBuffer byteBuffer() {
+        if (nativeBuffer != null) {
+            synchronized (this) {
+                checkNotReleased();
+            }
+            return nativeBuffer.duplicate();
+        } else {
+            return ByteBuffer.wrap(buffer(), 0, size).slice().asReadOnlyBuffer();
+        }
+    }
+
+    /**
+     * Copy the picture data into an application buffer.
+     * <p>
+     * The picture data is written at the current position of the target buffer, and the position is advanced.
+     *
+     * @param target buffer to receive the picture data, must have at least {@link #size()} bytes remaining
+     * @return target buffer
+     */
+    public ByteBuffer copyTo(ByteBuffer target) {
+        return target.put(byteBuffer());
+    }
+
+    /**
+     * Copy raw picture data into an application image.
+     * <p>
+     * The picture type must be {@link PictureType#ARGB} or {@link PictureType#RGBA}, and the image must be of type
+     * {@link BufferedImage#TYPE_INT_RGB} or {@link BufferedImage#TYPE_INT_ARGB} and have the same dimensions as the
+     * picture. Each row of pixels is bulk-copied directly into the image raster, the same image can therefore be
+     * reused for many pictures.
+     *
+     * @param image image to receive the picture data
+     * @return image
+     */
+    public BufferedImage copyTo(BufferedImage image) {
+        if (type != PictureType.ARGB && type != PictureType.RGBA) {
+            throw new IllegalStateException("Picture is not raw pixel data: " + type);
+        }
+        if (image.getType() != BufferedImage.TYPE_INT_RGB && image.getType() != BufferedImage.TYPE_INT_ARGB) {
+            throw new IllegalArgumentException("Image must be TYPE_INT_RGB or TYPE_INT_ARGB");
+        }
+        if (image.getWidth() != width || image.getHeight() != height) {
+            throw new IllegalArgumentException("Image size does not match picture size");
+        }
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        int rowStride = stride > 0 ? stride : width * 4;
+        // ARGB bytes read as a big-endian int are exactly an ARGB image pixel
+        ByteBuffer source = byteBuffer().order(ByteOrder.BIG_ENDIAN);
+        for (int y = 0; y < height; y++) {
+            source.limit(y * rowStride + width * 4).position(y * rowStride);
+            IntBuffer row = source.asIntBuffer();
+            row.get(pixels, y * width, width);
+        }
+        if (type == PictureType.RGBA) {
+            for (int i = 0; i < pixels.length; i++) {
+                pixels[i] = Integer.rotateRight(pixels[i], 8);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Determine whether or not this picture keeps the native picture.
+     *
+     * @return <code>true</code> if this picture keeps the native picture; <code>false</code> if the picture data was copied
+     */
+    public boolean isRetained() {
+        return nativePicture != null;
+    }
+
+    /**
+     * Release this picture.
+     * <p>
+     * If the picture keeps the native picture, the native picture is released and the picture data is no longer
+     * available - except via a buffer previously returned from {@link #buffer()}.
+     * <p>
+     * If the picture data was copied into a pooled buffer, that buffer is returned to the pool and the picture buffer
+     * must no longer be used.
+     * <p>
+     * Otherwise this does nothing.
+     * <p>
+     * Releasing a picture more than once has no effect.
+     */
+    public void release() {
+        if (nativePicture != null || pool != null) {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            if (nativePicture != null) {
+                libvlc_picture_release(nativePicture);
+            } else {
+                pool.release(buffer);
+            }
+        }
+    }
+
+    private void checkNotReleased() {
+        if (released) {
+            throw new IllegalStateException("Picture has been released");
+        }
+    }
+
     @Override
     public String toString() {
-        StringBuilder sb = new StringBuilder(100);
+        StringBuilder sb = new StringBuilder(120);
         sb.append(getClass().getSimpleName()).append('[');
         sb.append("width=").append(width).append(',');
         sb.append("height=").append(height).append(',');
         sb.append("type=").append(type).append(',');
         sb.append("stride=").append(stride).append(',');
         sb.append("time=").append(time).append(',');
-        sb.append("size=").append(size).append(']');
+        sb.append("size=").append(size).append(',');
+        sb.append("retained=").append(nativePicture != null).append(']');
         return sb.toString();
     }
 
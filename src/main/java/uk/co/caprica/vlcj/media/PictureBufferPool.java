@@ -0,0 +1,150 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.media;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of buffers used to receive picture data.
+ * <p>
+ * Generating large numbers of pictures (e.g. thumbnails) would otherwise allocate a new, possibly large, array for
+ * every picture. With a pool, the data for each picture is copied into a pooled buffer, and that buffer is returned to
+ * the pool when the picture is released via {@link Picture#release()}.
+ * <p>
+ * Buffers are pooled in size classes that are powers of two, so a pooled buffer may be larger than the picture data it
+ * contains - {@link Picture#size()} must always be used rather than the length of {@link Picture#buffer()}. A buffer
+ * larger than the largest size class (2^30 bytes) is allocated at its exact size and is never pooled.
+ * <p>
+ * The pool retains no more than a configured number of bytes, buffers released when the pool is full are simply left
+ * to the garbage collector.
+ * <p>
+ * This component is thread-safe.
+ */
+public final class PictureBufferPool {
+
+    /**
+     * Smallest buffer size class.
+     */
+    private static final int MINIMUM_SIZE = 4096;
+
+    /**
+     * Largest buffer size class, doubling this would overflow.
+     */
+    private static final int MAXIMUM_SIZE = 1 << 30;
+
+    /**
+     * Maximum number of bytes retained in the pool.
+     */
+    private final long maximumRetained;
+
+    /**
+     * Pooled buffers, keyed by size class.
+     */
+    private final ConcurrentHashMap<Integer, Queue<byte[]>> buffers = new ConcurrentHashMap<>();
+
+    /**
+     * Number of bytes currently retained in the pool.
+     */
+    private final AtomicLong retained = new AtomicLong();
+
+    /**
+     * Create a picture buffer pool.
+     *
+     * @param maximumRetained maximum number of bytes to retain in the pool
+     */
+    public PictureBufferPool(long maximumRetained) {
+        this.maximumRetained = maximumRetained;
+    }
+
+    /**
+     * Acquire a buffer from the pool, allocating a new one if there is no pooled buffer available.
+     *
+     * @param size minimum size of the buffer
+     * @return buffer, may be larger than the requested size
+     */
+    public byte[] acquire(int size) {
+        if (size > MAXIMUM_SIZE) {
+            return new byte[size];
+        }
+        int sizeClass = sizeClass(size);
+        Queue<byte[]> queue = buffers.get(sizeClass);
+        if (queue != null) {
+            byte[] buffer = queue.poll();
+            if (buffer != null) {
+                retained.addAndGet(-buffer.length);
+                return buffer;
+            }
+        }
+        return new byte[sizeClass];
+    }
+
+    /**
+     * Return a buffer to the pool.
+     * <p>
+     * The buffer must not be used after it has been returned.
+     *
+     * @param buffer buffer
+     */
+    public void release(byte[] buffer) {
+        int length = buffer.length;
+        if (length > MAXIMUM_SIZE || length != sizeClass(length)) {
+            return;
+        }
+        if (retained.addAndGet(length) > maximumRetained) {
+            retained.addAndGet(-length);
+            return;
+        }
+        buffers.computeIfAbsent(length, k -> new ConcurrentLinkedQueue<>()).add(buffer);
+    }
+
+    /**
+     * Get the number of bytes currently retained in the pool.
+     *
+     * @return number of bytes
+     */
+    public long retained() {
+        return retained.get();
+    }
+
+    /**
+     * Discard all of the pooled buffers.
+     */
+    public void clear() {
+        for (Queue<byte[]> queue : buffers.values()) {
+            byte[] buffer;
+            while ((buffer = queue.poll()) != null) {
+                retained.addAndGet(-buffer.length);
+            }
+        }
+    }
+
+    private static int sizeClass(int size) {
+        if (size <= MINIMUM_SIZE) {
+            return MINIMUM_SIZE;
+        }
+        int sizeClass = Integer.highestOneBit(size);
+        return sizeClass == size ? size : sizeClass << 1;
+    }
+
+}
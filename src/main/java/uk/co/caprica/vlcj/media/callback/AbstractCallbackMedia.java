@@ -27,6 +27,7 @@ import uk.co.caprica.vlcj.binding.internal.libvlc_media_open_cb;
 import uk.co.caprica.vlcj.binding.internal.libvlc_media_read_cb;
 import uk.co.caprica.vlcj.binding.internal.libvlc_media_seek_cb;
 import uk.co.caprica.vlcj.binding.support.types.size_t;
+import uk.co.caprica.vlcj.support.metrics.CallbackMediaMetrics;
 
 import java.io.IOException;
 
@@ -39,7 +40,8 @@ import java.io.IOException;
  * possible.
  * <p>
  * In most cases it is likely preferable to deal instead with a Java byte array buffer, for this purpose the
- * {@link DefaultCallbackMedia} sub-class should be used instead of this class.
+ * {@link DefaultCallbackMedia} sub-class should be used instead of this class. To avoid copying, the
+ * {@link DirectCallbackMedia} sub-class exposes the native buffer as a direct {@link java.nio.ByteBuffer}.
  */
 public abstract class AbstractCallbackMedia implements CallbackMedia {
 
@@ -90,6 +92,11 @@ public abstract class AbstractCallbackMedia implements CallbackMedia {
      */
     private final Pointer opaque;
 
+    /**
+     * Component collecting IO metrics, may be <code>null</code>.
+     */
+    private volatile CallbackMediaMetrics metrics;
+
     /**
      * Create a new media instance.
      *
@@ -113,6 +120,24 @@ public abstract class AbstractCallbackMedia implements CallbackMedia {
         return seekable;
     }
 
+    /**
+     * Set a component to collect IO metrics for this media.
+     *
+     * @param metrics metrics collector, or <code>null</code> to disable metrics
+     */
+    public final void setMetrics(CallbackMediaMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Get the component collecting IO metrics for this media.
+     *
+     * @return metrics collector, or <code>null</code> if metrics are not enabled
+     */
+    public final CallbackMediaMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Get the size of the media, if known.
      *
@@ -161,6 +186,10 @@ public abstract class AbstractCallbackMedia implements CallbackMedia {
         @Override
         public int open(Pointer opaque, PointerByReference datap, LongByReference sizep) {
             int result = onOpen() ? SUCCESS : ERROR;
+            CallbackMediaMetrics metrics = AbstractCallbackMedia.this.metrics;
+            if (metrics != null && result == SUCCESS) {
+                metrics.open();
+            }
             if (result == SUCCESS) {
                 sizep.setValue(onGetSize());
             }
@@ -175,6 +204,8 @@ public abstract class AbstractCallbackMedia implements CallbackMedia {
 
         @Override
         public size_t read(Pointer opaque, Pointer buf, size_t len) {
+            CallbackMediaMetrics metrics = AbstractCallbackMedia.this.metrics;
+            long start = metrics != null ? System.nanoTime() : 0;
             int result;
             try {
                 int bytesRead = onRead(buf, len.intValue());
@@ -183,6 +214,9 @@ public abstract class AbstractCallbackMedia implements CallbackMedia {
             catch (IOException e) {
                 result = ERROR;
             }
+            if (metrics != null) {
+                metrics.read(len.intValue(), result, System.nanoTime() - start);
+            }
             return new size_t(result);
         }
     }
@@ -194,6 +228,10 @@ public abstract class AbstractCallbackMedia implements CallbackMedia {
 
         @Override
         public int seek(Pointer opaque, long offset) {
+            CallbackMediaMetrics metrics = AbstractCallbackMedia.this.metrics;
+            if (metrics != null) {
+                metrics.seek(offset);
+            }
             return onSeek(offset) ? SUCCESS : ERROR;
         }
     }
@@ -205,7 +243,12 @@ public abstract class AbstractCallbackMedia implements CallbackMedia {
 
         @Override
         public void close(Pointer opaque) {
+            CallbackMediaMetrics metrics = AbstractCallbackMedia.this.metrics;
+            long start = metrics != null ? System.nanoTime() : 0;
             onClose();
+            if (metrics != null) {
+                metrics.close(System.nanoTime() - start);
+            }
         }
     }
 
@@ -0,0 +1,245 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media.callback;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An off-heap cache of fixed-size blocks of media data.
+ * <p>
+ * The cache holds at most as many blocks as fit in its memory budget, each block is allocated off-heap when it is first
+ * needed. When the cache is full, a block is evicted using the CLOCK algorithm - an approximation of least-recently-used
+ * that does not need to reorder anything on a cache hit.
+ * <p>
+ * Blocks are identified by a source key and a block index, so a single cache may be shared by any number of
+ * {@link CachingCallbackMedia} instances. Media instances that use the same source key share cached blocks, so for
+ * example scrubbing the same file in several media players reads each block from the source only once.
+ * <p>
+ * This component is thread-safe.
+ */
+public final class BlockCache {
+
+    /**
+     * Default block size.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+    private final int blockSize;
+
+    private final int capacity;
+
+    private final Map<BlockKey, Integer> index = new HashMap<>();
+
+    private final BlockKey[] keys;
+
+    private final ByteBuffer[] blocks;
+
+    private final int[] lengths;
+
+    private final boolean[] referenced;
+
+    private int used;
+
+    private int hand;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    /**
+     * Create a block cache with the default block size.
+     *
+     * @param memoryBudget maximum amount of memory, in bytes, to use for cached blocks
+     */
+    public BlockCache(long memoryBudget) {
+        this(DEFAULT_BLOCK_SIZE, memoryBudget);
+    }
+
+    /**
+     * Create a block cache.
+     *
+     * @param blockSize size of each block, in bytes
+     * @param memoryBudget maximum amount of memory, in bytes, to use for cached blocks
+     */
+    public BlockCache(int blockSize, long memoryBudget) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be greater than zero");
+        }
+        long capacity = memoryBudget / blockSize;
+        if (capacity < 1 || capacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Memory budget must hold at least one block");
+        }
+        this.blockSize = blockSize;
+        this.capacity = (int) capacity;
+        this.keys = new BlockKey[this.capacity];
+        this.blocks = new ByteBuffer[this.capacity];
+        this.lengths = new int[this.capacity];
+        this.referenced = new boolean[this.capacity];
+    }
+
+    /**
+     * Get the block size.
+     *
+     * @return block size, in bytes
+     */
+    public int blockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Copy data from a cached block.
+     *
+     * @param source source key
+     * @param block block index
+     * @param offset offset within the block of the first byte to copy
+     * @param buffer buffer to copy into, from its current position
+     * @return number of bytes copied, 0 if the offset is at or beyond the end of a short (final) block, or -1 if the
+     *         block is not cached
+     */
+    public synchronized int read(Object source, long block, int offset, ByteBuffer buffer) {
+        Integer slot = index.get(new BlockKey(source, block));
+        if (slot == null) {
+            misses++;
+            return -1;
+        }
+        hits++;
+        referenced[slot] = true;
+        int length = Math.min(lengths[slot] - offset, buffer.remaining());
+        if (length <= 0) {
+            return 0;
+        }
+        ByteBuffer data = blocks[slot].duplicate();
+        data.limit(offset + length).position(offset);
+        buffer.put(data);
+        return length;
+    }
+
+    /**
+     * Add a block to the cache, evicting another block if necessary.
+     *
+     * @param source source key
+     * @param block block index
+     * @param data block data, from its position to its limit, at most the block size
+     */
+    public synchronized void put(Object source, long block, ByteBuffer data) {
+        BlockKey key = new BlockKey(source, block);
+        Integer slot = index.get(key);
+        if (slot == null) {
+            slot = allocate();
+            keys[slot] = key;
+            index.put(key, slot);
+        }
+        ByteBuffer target = blocks[slot];
+        target.clear();
+        target.put(data.duplicate());
+        lengths[slot] = target.position();
+        referenced[slot] = true;
+    }
+
+    /**
+     * Remove all cached blocks for a source.
+     *
+     * @param source source key
+     */
+    public synchronized void invalidate(Object source) {
+        for (int slot = 0; slot < used; slot++) {
+            if (keys[slot] != null && keys[slot].source.equals(source)) {
+                index.remove(keys[slot]);
+                keys[slot] = null;
+                referenced[slot] = false;
+            }
+        }
+    }
+
+    /**
+     * Get a snapshot of the cache statistics.
+     *
+     * @return statistics
+     */
+    public synchronized BlockCacheStatistics statistics() {
+        return new BlockCacheStatistics(hits, misses, evictions, index.size(), capacity, blockSize);
+    }
+
+    /**
+     * Find a slot for a new block.
+     * <p>
+     * Must be invoked while holding the monitor.
+     *
+     * @return slot
+     */
+    private int allocate() {
+        if (used < capacity) {
+            blocks[used] = ByteBuffer.allocateDirect(blockSize);
+            return used++;
+        }
+        for (;;) {
+            int slot = hand;
+            hand = (hand + 1) % capacity;
+            if (keys[slot] == null) {
+                return slot;
+            }
+            if (referenced[slot]) {
+                referenced[slot] = false;
+            } else {
+                index.remove(keys[slot]);
+                keys[slot] = null;
+                evictions++;
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Key for a cached block.
+     */
+    private static final class BlockKey {
+
+        private final Object source;
+
+        private final long block;
+
+        private BlockKey(Object source, long block) {
+            this.source = source;
+            this.block = block;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof BlockKey)) {
+                return false;
+            }
+            BlockKey other = (BlockKey) obj;
+            return block == other.block && source.equals(other.source);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * source.hashCode() + Long.hashCode(block);
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media.callback;
+
+/**
+ * An immutable snapshot of the statistics for a {@link BlockCache}.
+ */
+public final class BlockCacheStatistics {
+
+    private final long hits;
+
+    private final long misses;
+
+    private final long evictions;
+
+    private final int blocks;
+
+    private final int capacity;
+
+    private final int blockSize;
+
+    BlockCacheStatistics(long hits, long misses, long evictions, int blocks, int capacity, int blockSize) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.blocks = blocks;
+        this.capacity = capacity;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Get the number of block lookups that found the block in the cache.
+     *
+     * @return hit count
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of block lookups that did not find the block in the cache.
+     *
+     * @return miss count
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * Get the proportion of block lookups that found the block in the cache.
+     *
+     * @return hit rate, between 0 and 1
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups > 0 ? (double) hits / lookups : 0.0;
+    }
+
+    /**
+     * Get the number of blocks evicted to make room for other blocks.
+     *
+     * @return eviction count
+     */
+    public long evictions() {
+        return evictions;
+    }
+
+    /**
+     * Get the number of blocks currently cached.
+     *
+     * @return block count
+     */
+    public int blocks() {
+        return blocks;
+    }
+
+    /**
+     * Get the maximum number of blocks that can be cached.
+     *
+     * @return capacity, in blocks
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Get the amount of memory used by the currently cached blocks.
+     *
+     * @return memory used, in bytes
+     */
+    public long memoryUsed() {
+        return (long) blocks * blockSize;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(100);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("hits=").append(hits).append(',');
+        sb.append("misses=").append(misses).append(',');
+        sb.append("hitRate=").append(hitRate()).append(',');
+        sb.append("evictions=").append(evictions).append(',');
+        sb.append("blocks=").append(blocks).append(',');
+        sb.append("capacity=").append(capacity).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media.callback;
+
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Implementation of seekable callback media that caches blocks of media data read from another seekable callback
+ * media.
+ * <p>
+ * The source media is read in whole blocks, aligned to the block size of the {@link BlockCache}, and each block is
+ * added to the cache as it is read. Subsequent reads of the same data, for example when scrubbing back and forth or
+ * when LibVLC re-reads a container index after a seek, are then served from memory.
+ * <p>
+ * A cache may be shared by many media, if media instances use the same source key they also share cached blocks - the
+ * source key must therefore uniquely identify the content of the source media, for example its path.
+ * <p>
+ * The source media must not be used by anything else.
+ */
+public class CachingCallbackMedia extends DirectCallbackMedia {
+
+    private final AbstractCallbackMedia source;
+
+    private final BlockCache cache;
+
+    private final Object sourceKey;
+
+    /**
+     * Staging buffer for blocks read from the source media.
+     */
+    private final ByteBuffer staging;
+
+    /**
+     * Native pointer to the staging buffer.
+     */
+    private final Pointer stagingPointer;
+
+    /**
+     * Size of the source media, or 0 if not known.
+     */
+    private long size;
+
+    /**
+     * Position of the next read from this media.
+     */
+    private long position;
+
+    /**
+     * Position of the next read from the source media.
+     */
+    private long sourcePosition;
+
+    /**
+     * Create caching callback media, with a cache key that is unique to this media.
+     *
+     * @param source seekable source media
+     * @param cache block cache
+     */
+    public CachingCallbackMedia(AbstractCallbackMedia source, BlockCache cache) {
+        this(source, cache, new Object());
+    }
+
+    /**
+     * Create caching callback media.
+     *
+     * @param source seekable source media
+     * @param cache block cache
+     * @param sourceKey key that uniquely identifies the content of the source media
+     */
+    public CachingCallbackMedia(AbstractCallbackMedia source, BlockCache cache, Object sourceKey) {
+        super(true);
+        if (!source.isSeekable()) {
+            throw new IllegalArgumentException("Source media must be seekable");
+        }
+        this.source = source;
+        this.cache = cache;
+        this.sourceKey = sourceKey;
+        this.staging = ByteBuffer.allocateDirect(cache.blockSize());
+        this.stagingPointer = Native.getDirectBufferPointer(staging);
+    }
+
+    @Override
+    protected final long onGetSize() {
+        return size;
+    }
+
+    @Override
+    protected final boolean onOpen() {
+        if (!source.onOpen()) {
+            return false;
+        }
+        size = source.onGetSize();
+        position = 0;
+        sourcePosition = 0;
+        return true;
+    }
+
+    @Override
+    protected final int onRead(ByteBuffer buffer) throws IOException {
+        int blockSize = cache.blockSize();
+        int total = 0;
+        while (buffer.hasRemaining() && (size == 0 || position < size)) {
+            long block = position / blockSize;
+            int offset = (int) (position % blockSize);
+            int read = cache.read(sourceKey, block, offset, buffer);
+            if (read < 0) {
+                int length = readBlock(block);
+                cache.put(sourceKey, block, staging);
+                read = Math.max(0, Math.min(length - offset, buffer.remaining()));
+                if (read > 0) {
+                    ByteBuffer data = staging.duplicate();
+                    data.limit(offset + read).position(offset);
+                    buffer.put(data);
+                }
+            }
+            if (read == 0) {
+                break;
+            }
+            position += read;
+            total += read;
+        }
+        return total > 0 ? total : -1;
+    }
+
+    @Override
+    protected final boolean onSeek(long offset) {
+        if (offset < 0 || (size > 0 && offset > size)) {
+            return false;
+        }
+        position = offset;
+        return true;
+    }
+
+    @Override
+    protected void onClose() {
+        source.onClose();
+    }
+
+    /**
+     * Read a whole block from the source media into the staging buffer.
+     *
+     * @param block block index
+     * @return number of bytes read, less than the block size only for the final block
+     * @throws IOException if an error occurs
+     */
+    private int readBlock(long block) throws IOException {
+        int blockSize = cache.blockSize();
+        long start = block * blockSize;
+        if (sourcePosition != start) {
+            if (!source.onSeek(start)) {
+                throw new IOException("Failed to seek source media");
+            }
+            sourcePosition = start;
+        }
+        int length = 0;
+        while (length < blockSize) {
+            int read = source.onRead(stagingPointer.share(length, blockSize - length), blockSize - length);
+            if (read <= 0) {
+                break;
+            }
+            length += read;
+        }
+        sourcePosition += length;
+        staging.clear().limit(length);
+        return length;
+    }
+}
@@ -29,7 +29,7 @@ import java.io.IOException;
  * A sub-class need only provide an implementation for {@link #onRead(byte[], int)}.
  * <p>
  * This implementation uses a Java byte array, you can instead get direct access to the native buffer by sub-classing
- * {@link AbstractCallbackMedia} directly.
+ * {@link DirectCallbackMedia} or {@link AbstractCallbackMedia} directly.
  */
 public abstract class DefaultCallbackMedia extends AbstractCallbackMedia {
 
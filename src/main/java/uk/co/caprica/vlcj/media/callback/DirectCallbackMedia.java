@@ -0,0 +1,75 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media.callback;
+
+import com.sun.jna.Pointer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Implementation of a {@link CallbackMedia} media that reads media data directly into the native buffer.
+ * <p>
+ * A sub-class need only provide an implementation for {@link #onRead(ByteBuffer)}.
+ * <p>
+ * Unlike {@link DefaultCallbackMedia}, there is no intermediate Java byte array - the native buffer provided by LibVLC
+ * is exposed as a direct {@link ByteBuffer} of the full size requested by LibVLC. This buffer can be filled directly
+ * by, for example, a {@link java.nio.channels.ReadableByteChannel} or a {@link java.nio.channels.FileChannel}, so each
+ * byte of media data is copied only once and each read can be as large as LibVLC asks for.
+ */
+public abstract class DirectCallbackMedia extends AbstractCallbackMedia {
+
+    /**
+     * Create a new media instance.
+     *
+     * @param seekable <code>true</code> if the media is seekable; <code>false</code> if it is not
+     */
+    public DirectCallbackMedia(boolean seekable) {
+        super(seekable);
+    }
+
+    @Override
+    protected final int onRead(Pointer buffer, int bufferSize) throws IOException {
+        if (bufferSize <= 0) {
+            return 0;
+        }
+        return onRead(buffer.getByteBuffer(0, bufferSize));
+    }
+
+    /**
+     * Template method used by sub-classes to populate the buffer with media data.
+     * <p>
+     * The buffer is a direct buffer over native memory, with position zero and limit (and capacity) equal to the number
+     * of bytes requested. The buffer is only valid for the duration of this method call and must not be retained.
+     * <p>
+     * Return -1 to indicate the end of the media. A native read of zero bytes also means the end of the media to
+     * LibVLC, so zero must never be returned to mean "no data available yet" - an implementation reading from a
+     * non-blocking source must instead wait until at least one byte is available.
+     * <p>
+     * It <em>is</em> allowable for implementations to block in this method waiting for IO, but care must be taken not
+     * to block indefinitely otherwise the native media player can not be stopped.
+     *
+     * @param buffer native buffer to fill, starting at its current position
+     * @return number of bytes read, or -1 if the end of the media was reached
+     * @throws IOException if an error occurs
+     */
+    protected abstract int onRead(ByteBuffer buffer) throws IOException;
+
+}
@@ -0,0 +1,114 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media.callback;
+
+import uk.co.caprica.vlcj.support.metrics.HistogramSnapshot;
+
+/**
+ * An immutable snapshot of the statistics for a {@link PrefetchingCallbackMedia}.
+ */
+public final class PrefetchStatistics {
+
+    private final long reads;
+
+    private final long stalls;
+
+    private final long seeks;
+
+    private final long bufferedSeeks;
+
+    private final HistogramSnapshot stallTimes;
+
+    PrefetchStatistics(long reads, long stalls, long seeks, long bufferedSeeks, HistogramSnapshot stallTimes) {
+        this.reads = reads;
+        this.stalls = stalls;
+        this.seeks = seeks;
+        this.bufferedSeeks = bufferedSeeks;
+        this.stallTimes = stallTimes;
+    }
+
+    /**
+     * Get the number of reads requested by LibVLC.
+     *
+     * @return read count
+     */
+    public long reads() {
+        return reads;
+    }
+
+    /**
+     * Get the number of reads that had to wait for data to be fetched from the source.
+     *
+     * @return stall count
+     */
+    public long stalls() {
+        return stalls;
+    }
+
+    /**
+     * Get the proportion of reads that were served immediately from prefetched data.
+     *
+     * @return hit rate, between 0 and 1
+     */
+    public double hitRate() {
+        return reads > 0 ? (double) (reads - stalls) / reads : 0.0;
+    }
+
+    /**
+     * Get the number of seeks requested by LibVLC.
+     *
+     * @return seek count
+     */
+    public long seeks() {
+        return seeks;
+    }
+
+    /**
+     * Get the number of seeks that were satisfied by skipping forward within the prefetched data.
+     *
+     * @return buffered seek count
+     */
+    public long bufferedSeeks() {
+        return bufferedSeeks;
+    }
+
+    /**
+     * Get the distribution of the time, in nanoseconds, that stalled reads waited for data.
+     *
+     * @return stall time histogram
+     */
+    public HistogramSnapshot stallTimes() {
+        return stallTimes;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(100);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("reads=").append(reads).append(',');
+        sb.append("stalls=").append(stalls).append(',');
+        sb.append("hitRate=").append(hitRate()).append(',');
+        sb.append("seeks=").append(seeks).append(',');
+        sb.append("bufferedSeeks=").append(bufferedSeeks).append(',');
+        sb.append("stallTimes=").append(stallTimes).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,393 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media.callback;
+
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import uk.co.caprica.vlcj.support.metrics.Histogram;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of callback media that reads ahead from another callback media asynchronously.
+ * <p>
+ * LibVLC reads media data on its input thread, so ordinarily that thread waits for each read from a slow source (e.g.
+ * a network file system or an encrypted volume) to complete. This component instead reads the source media ahead of
+ * time on a dedicated thread, into an off-heap ring buffer, and serves LibVLC reads from that buffer.
+ * <p>
+ * When LibVLC seeks forward to a position that is already in the buffer, the intervening data is simply discarded.
+ * Otherwise the buffer is cleared, the source media is seeked, and reading ahead starts again from the new position.
+ * <p>
+ * The source media is only ever read on the prefetch thread, and seeked on the LibVLC input thread while the prefetch
+ * thread is not reading, so the source media need not be thread-safe. The source media must not be used by anything
+ * else.
+ * <p>
+ * Statistics, including the hit-rate and the time spent waiting for data, are available via {@link #statistics()}.
+ */
+public class PrefetchingCallbackMedia extends DirectCallbackMedia {
+
+    /**
+     * Default size of each read from the source media.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * Default number of chunks in the ring buffer.
+     */
+    public static final int DEFAULT_DEPTH = 32;
+
+    private final AbstractCallbackMedia source;
+
+    private final int chunkSize;
+
+    /**
+     * Off-heap ring buffer.
+     */
+    private final ByteBuffer ring;
+
+    /**
+     * Native pointer to the ring buffer, used to read from the source media.
+     */
+    private final Pointer ringPointer;
+
+    /**
+     * Lock guarding the ring buffer state.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Lock held while accessing the source media.
+     */
+    private final ReentrantLock sourceLock = new ReentrantLock();
+
+    private final AtomicLong reads = new AtomicLong();
+
+    private final AtomicLong stalls = new AtomicLong();
+
+    private final AtomicLong seeks = new AtomicLong();
+
+    private final AtomicLong bufferedSeeks = new AtomicLong();
+
+    private final Histogram stallTimes = new Histogram();
+
+    /**
+     * Index of the next byte to read from the ring buffer.
+     */
+    private int head;
+
+    /**
+     * Number of bytes available in the ring buffer.
+     */
+    private int count;
+
+    /**
+     * Logical position within the media of the next byte to read from the ring buffer.
+     */
+    private long position;
+
+    /**
+     * Incremented each time the ring buffer is cleared, so that data read from the source media before the ring buffer
+     * was cleared is discarded.
+     */
+    private long generation;
+
+    private boolean endOfStream;
+
+    private IOException error;
+
+    private volatile boolean running;
+
+    private Thread prefetchThread;
+
+    /**
+     * Create prefetching callback media with the default chunk size and depth.
+     *
+     * @param source source media
+     */
+    public PrefetchingCallbackMedia(AbstractCallbackMedia source) {
+        this(source, DEFAULT_CHUNK_SIZE, DEFAULT_DEPTH);
+    }
+
+    /**
+     * Create prefetching callback media.
+     * <p>
+     * The ring buffer size is the chunk size multiplied by the depth.
+     *
+     * @param source source media
+     * @param chunkSize maximum size of each read from the source media
+     * @param depth number of chunks in the ring buffer
+     */
+    public PrefetchingCallbackMedia(AbstractCallbackMedia source, int chunkSize, int depth) {
+        super(source.isSeekable());
+        if (chunkSize <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("Chunk size and depth must be greater than zero");
+        }
+        this.source = source;
+        this.chunkSize = chunkSize;
+        this.ring = ByteBuffer.allocateDirect(Math.multiplyExact(chunkSize, depth));
+        this.ringPointer = Native.getDirectBufferPointer(ring);
+    }
+
+    /**
+     * Get a snapshot of the prefetch statistics.
+     *
+     * @return statistics
+     */
+    public PrefetchStatistics statistics() {
+        return new PrefetchStatistics(reads.get(), stalls.get(), seeks.get(), bufferedSeeks.get(), stallTimes.snapshot());
+    }
+
+    @Override
+    protected final long onGetSize() {
+        return source.onGetSize();
+    }
+
+    @Override
+    protected final boolean onOpen() {
+        if (!source.onOpen()) {
+            return false;
+        }
+        lock.lock();
+        try {
+            clear();
+        }
+        finally {
+            lock.unlock();
+        }
+        running = true;
+        prefetchThread = new Thread(this::prefetch, "callback-media-prefetch");
+        prefetchThread.setDaemon(true);
+        prefetchThread.start();
+        return true;
+    }
+
+    @Override
+    protected final int onRead(ByteBuffer buffer) throws IOException {
+        reads.incrementAndGet();
+        lock.lock();
+        try {
+            if (count == 0 && !endOfStream && error == null) {
+                stalls.incrementAndGet();
+                long start = System.nanoTime();
+                while (count == 0 && !endOfStream && error == null && running) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                stallTimes.record(System.nanoTime() - start);
+            }
+            if (count == 0) {
+                if (error != null) {
+                    throw error;
+                }
+                return -1;
+            }
+            int total = Math.min(count, buffer.remaining());
+            int first = Math.min(total, ring.capacity() - head);
+            buffer.put(slice(head, first));
+            if (first < total) {
+                buffer.put(slice(0, total - first));
+            }
+            advance(total);
+            return total;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected final boolean onSeek(long offset) {
+        seeks.incrementAndGet();
+        lock.lock();
+        try {
+            long skip = offset - position;
+            if (skip >= 0 && skip <= count) {
+                advance((int) skip);
+                bufferedSeeks.incrementAndGet();
+                return true;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+        sourceLock.lock();
+        try {
+            lock.lock();
+            try {
+                clear();
+            }
+            finally {
+                lock.unlock();
+            }
+            boolean seeked = source.onSeek(offset);
+            lock.lock();
+            try {
+                position = offset;
+                notFull.signalAll();
+            }
+            finally {
+                lock.unlock();
+            }
+            return seeked;
+        }
+        finally {
+            sourceLock.unlock();
+        }
+    }
+
+    @Override
+    protected void onClose() {
+        lock.lock();
+        try {
+            running = false;
+            notFull.signalAll();
+            notEmpty.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+        if (prefetchThread != null) {
+            try {
+                prefetchThread.join(TimeUnit.SECONDS.toMillis(5));
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            prefetchThread = null;
+        }
+        sourceLock.lock();
+        try {
+            source.onClose();
+        }
+        finally {
+            sourceLock.unlock();
+        }
+    }
+
+    /**
+     * Prefetch thread body.
+     */
+    private void prefetch() {
+        while (running) {
+            int tail;
+            int size;
+            long generation;
+            lock.lock();
+            try {
+                while (running && (count == ring.capacity() || endOfStream || error != null)) {
+                    notFull.awaitUninterruptibly();
+                }
+                if (!running) {
+                    return;
+                }
+                tail = (head + count) % ring.capacity();
+                size = Math.min(chunkSize, Math.min(ring.capacity() - count, ring.capacity() - tail));
+                generation = this.generation;
+            }
+            finally {
+                lock.unlock();
+            }
+            int read;
+            IOException readError = null;
+            sourceLock.lock();
+            try {
+                if (generation != generation()) {
+                    continue;
+                }
+                read = source.onRead(ringPointer.share(tail, size), size);
+            }
+            catch (IOException e) {
+                read = -1;
+                readError = e;
+            }
+            finally {
+                sourceLock.unlock();
+            }
+            lock.lock();
+            try {
+                if (generation == this.generation) {
+                    if (readError != null) {
+                        error = readError;
+                    } else if (read <= 0) {
+                        endOfStream = true;
+                    } else {
+                        count += read;
+                    }
+                    notEmpty.signalAll();
+                }
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private long generation() {
+        lock.lock();
+        try {
+            return generation;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Clear the ring buffer.
+     * <p>
+     * Must be invoked while holding the lock.
+     */
+    private void clear() {
+        generation++;
+        head = 0;
+        count = 0;
+        position = 0;
+        endOfStream = false;
+        error = null;
+    }
+
+    /**
+     * Consume bytes from the ring buffer.
+     * <p>
+     * Must be invoked while holding the lock.
+     *
+     * @param length number of bytes to consume
+     */
+    private void advance(int length) {
+        head = (head + length) % ring.capacity();
+        count -= length;
+        position += length;
+        notFull.signalAll();
+    }
+
+    private ByteBuffer slice(int index, int length) {
+        ByteBuffer slice = ring.duplicate();
+        slice.limit(index + length).position(index);
+        return slice;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media.callback.nonseekable;
+
+import uk.co.caprica.vlcj.media.callback.DirectCallbackMedia;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+
+/**
+ * Base implementation for non-seekable media using a {@link ReadableByteChannel}.
+ * <p>
+ * Media data is read from the channel directly into the native buffer provided by LibVLC, with no intermediate Java
+ * byte array.
+ * <p>
+ * The channel may be in non-blocking mode (for example a socket channel or a pipe source channel that is also used
+ * elsewhere with a selector), in which case this component waits for the channel to become readable using its own
+ * selector.
+ */
+public abstract class NonSeekableChannelMedia extends DirectCallbackMedia {
+
+    /**
+     * Maximum time to wait for a non-blocking channel to become readable before checking again, in milliseconds.
+     */
+    private static final long SELECT_TIMEOUT = 1000;
+
+    /**
+     * Channel.
+     */
+    private ReadableByteChannel channel;
+
+    /**
+     * Selector used to wait for a non-blocking channel, created if needed.
+     */
+    private Selector selector;
+
+    /**
+     * Create a media instance.
+     */
+    public NonSeekableChannelMedia() {
+        super(false);
+    }
+
+    @Override
+    protected long onGetSize() {
+        return 0;
+    }
+
+    @Override
+    protected final boolean onOpen() {
+        try {
+            channel = onOpenChannel();
+            return true;
+        }
+        catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected final int onRead(ByteBuffer buffer) throws IOException {
+        for (;;) {
+            int read = channel.read(buffer);
+            if (read != 0) {
+                return read;
+            }
+            if (!(channel instanceof SelectableChannel) || !channel.isOpen()) {
+                return -1;
+            }
+            awaitReadable((SelectableChannel) channel);
+        }
+    }
+
+    @Override
+    protected final boolean onSeek(long offset) {
+        return false;
+    }
+
+    @Override
+    protected final void onClose() {
+        try {
+            if (selector != null) {
+                selector.close();
+                selector = null;
+            }
+            onCloseChannel(channel);
+        }
+        catch (IOException e) {
+        }
+    }
+
+    private void awaitReadable(SelectableChannel selectableChannel) throws IOException {
+        if (selector == null) {
+            selector = Selector.open();
+            selectableChannel.register(selector, SelectionKey.OP_READ);
+        }
+        selector.select(SELECT_TIMEOUT);
+        selector.selectedKeys().clear();
+    }
+
+    /**
+     * Template method to open a new channel.
+     *
+     * @return channel
+     * @throws IOException if an error occurs
+     */
+    protected abstract ReadableByteChannel onOpenChannel() throws IOException;
+
+    /**
+     * Template method to close the channel.
+     *
+     * @param channel channel to close (the same that was returned by {@link #onOpenChannel()}
+     * @throws IOException if an error occurs
+     */
+    protected abstract void onCloseChannel(ReadableByteChannel channel) throws IOException;
+
+}
@@ -0,0 +1,304 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media.callback.nonseekable;
+
+import uk.co.caprica.vlcj.media.callback.DirectCallbackMedia;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of non-seekable media that is fed by a reactive streams publisher of media data.
+ * <p>
+ * This media is a {@link Flow.Subscriber}, subscribe it to a publisher (e.g. a {@link java.util.concurrent.SubmissionPublisher}
+ * or an adapter for a network framework) to push media data to LibVLC - no thread is needed to pump the data.
+ * <p>
+ * Pushed data is copied into a bounded off-heap buffer, and LibVLC reads from that buffer. Demand is signalled to the
+ * publisher with hysteresis: data is requested until the amount buffered reaches the high watermark, and is not
+ * requested again until LibVLC has read enough for the amount buffered to fall to the low watermark. A pushed item
+ * that does not fit in the remaining buffer space is held until there is room for it, so each item may be of any size.
+ * <p>
+ * Completion of the publisher signals the end of the media to LibVLC once all buffered data has been read, an error
+ * from the publisher is reported to LibVLC as a read error.
+ * <p>
+ * Items are copied when they are received, so the publisher may reuse the buffers after {@link #onNext(ByteBuffer)}
+ * returns.
+ */
+public class NonSeekablePushMedia extends DirectCallbackMedia implements Flow.Subscriber<ByteBuffer> {
+
+    /**
+     * Default buffer capacity.
+     */
+    public static final int DEFAULT_CAPACITY = 4 * 1024 * 1024;
+
+    private final ByteBuffer ring;
+
+    private final int lowWatermark;
+
+    private final int highWatermark;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private Flow.Subscription subscription;
+
+    /**
+     * Index of the next byte to read from the ring buffer.
+     */
+    private int head;
+
+    /**
+     * Number of bytes available in the ring buffer.
+     */
+    private int count;
+
+    /**
+     * Remainder of a pushed item that did not fit in the ring buffer, may be <code>null</code>.
+     */
+    private ByteBuffer pending;
+
+    /**
+     * Flag set when an item has been requested and not yet received.
+     */
+    private boolean requested;
+
+    private boolean completed;
+
+    private Throwable error;
+
+    private boolean closed;
+
+    /**
+     * Create push media with the default buffer capacity, and watermarks at one quarter and three quarters of that
+     * capacity.
+     */
+    public NonSeekablePushMedia() {
+        this(DEFAULT_CAPACITY, DEFAULT_CAPACITY / 4, DEFAULT_CAPACITY / 4 * 3);
+    }
+
+    /**
+     * Create push media.
+     *
+     * @param capacity buffer capacity, in bytes
+     * @param lowWatermark amount buffered at or below which data is requested again
+     * @param highWatermark amount buffered at or above which data is no longer requested
+     */
+    public NonSeekablePushMedia(int capacity, int lowWatermark, int highWatermark) {
+        super(false);
+        if (capacity <= 0 || lowWatermark < 0 || lowWatermark > highWatermark || highWatermark > capacity) {
+            throw new IllegalArgumentException("Require 0 <= lowWatermark <= highWatermark <= capacity");
+        }
+        this.ring = ByteBuffer.allocateDirect(capacity);
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+    }
+
+    @Override
+    public final void onSubscribe(Flow.Subscription subscription) {
+        boolean accept;
+        lock.lock();
+        try {
+            accept = this.subscription == null && !closed;
+            if (accept) {
+                this.subscription = subscription;
+                requested = true;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+        if (accept) {
+            subscription.request(1);
+        } else {
+            subscription.cancel();
+        }
+    }
+
+    @Override
+    public final void onNext(ByteBuffer item) {
+        boolean request;
+        lock.lock();
+        try {
+            requested = false;
+            if (closed) {
+                return;
+            }
+            int length = Math.min(item.remaining(), ring.capacity() - count);
+            write(item, length);
+            if (item.hasRemaining()) {
+                pending = ByteBuffer.allocate(item.remaining());
+                pending.put(item).flip();
+            }
+            notEmpty.signalAll();
+            request = shouldRequest(highWatermark);
+        }
+        finally {
+            lock.unlock();
+        }
+        if (request) {
+            subscription.request(1);
+        }
+    }
+
+    @Override
+    public final void onError(Throwable throwable) {
+        lock.lock();
+        try {
+            error = throwable;
+            notEmpty.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public final void onComplete() {
+        lock.lock();
+        try {
+            completed = true;
+            notEmpty.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected long onGetSize() {
+        return 0;
+    }
+
+    @Override
+    protected boolean onOpen() {
+        return true;
+    }
+
+    @Override
+    protected final int onRead(ByteBuffer buffer) throws IOException {
+        boolean request;
+        int total;
+        lock.lock();
+        try {
+            while (count == 0 && !completed && error == null && !closed) {
+                notEmpty.awaitUninterruptibly();
+            }
+            if (count == 0) {
+                if (error != null) {
+                    throw new IOException("Media data publisher failed", error);
+                }
+                return -1;
+            }
+            total = Math.min(count, buffer.remaining());
+            int first = Math.min(total, ring.capacity() - head);
+            buffer.put(slice(head, first));
+            if (first < total) {
+                buffer.put(slice(0, total - first));
+            }
+            head = (head + total) % ring.capacity();
+            count -= total;
+            if (pending != null) {
+                write(pending, Math.min(pending.remaining(), ring.capacity() - count));
+                if (!pending.hasRemaining()) {
+                    pending = null;
+                }
+            }
+            request = shouldRequest(lowWatermark + 1);
+        }
+        finally {
+            lock.unlock();
+        }
+        if (request) {
+            subscription.request(1);
+        }
+        return total;
+    }
+
+    @Override
+    protected final boolean onSeek(long offset) {
+        return false;
+    }
+
+    @Override
+    protected void onClose() {
+        Flow.Subscription subscription;
+        lock.lock();
+        try {
+            closed = true;
+            subscription = this.subscription;
+            pending = null;
+            notEmpty.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Determine whether or not to request another item, and if so mark the request as outstanding.
+     * <p>
+     * Must be invoked while holding the lock.
+     *
+     * @param threshold amount buffered below which another item should be requested
+     * @return <code>true</code> if another item should be requested
+     */
+    private boolean shouldRequest(int threshold) {
+        if (!requested && pending == null && !completed && error == null && !closed && subscription != null && count < threshold) {
+            requested = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Copy data into the ring buffer.
+     * <p>
+     * Must be invoked while holding the lock.
+     *
+     * @param data data to copy, its position is advanced
+     * @param length number of bytes to copy, must not exceed the free space
+     */
+    private void write(ByteBuffer data, int length) {
+        int tail = (head + count) % ring.capacity();
+        int first = Math.min(length, ring.capacity() - tail);
+        ByteBuffer source = data.duplicate();
+        source.limit(source.position() + first);
+        slice(tail, first).put(source);
+        if (first < length) {
+            source.limit(source.position() + length - first);
+            slice(0, length - first).put(source);
+        }
+        data.position(data.position() + length);
+        count += length;
+    }
+
+    private ByteBuffer slice(int index, int length) {
+        ByteBuffer slice = ring.duplicate();
+        slice.limit(index + length).position(index);
+        return slice;
+    }
+}
@@ -1,4 +1,5 @@
 /**
- * Components that implement non-seekable media, e.g. just about all Java input streams.
+ * Components that implement non-seekable media, e.g. just about all Java input streams, channels and reactive streams
+ * publishers.
  */
 package uk.co.caprica.vlcj.media.callback.nonseekable;
@@ -0,0 +1,109 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media.callback.seekable;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+
+/**
+ * Implementation of a counter-mode cipher using the standard "AES/CTR/NoPadding" cipher.
+ * <p>
+ * The initial counter block (the IV) is incremented, as a 128-bit big-endian integer, once for each 16 byte block of
+ * the stream - the same as the standard cipher does when decrypting a stream from the start.
+ * <p>
+ * A cipher instance is kept for each thread.
+ */
+public final class AesCtrCipher implements CounterModeCipher {
+
+    /**
+     * AES block size.
+     */
+    private static final int BLOCK_SIZE = 16;
+
+    /**
+     * Modulus for the 128-bit counter.
+     */
+    private static final BigInteger COUNTER_MODULUS = BigInteger.ONE.shiftLeft(128);
+
+    private final SecretKey key;
+
+    private final BigInteger iv;
+
+    private final ThreadLocal<Cipher> cipher;
+
+    /**
+     * Create a cipher.
+     *
+     * @param key AES key
+     * @param iv initial counter block, 16 bytes
+     */
+    public AesCtrCipher(SecretKey key, byte[] iv) {
+        if (iv.length != BLOCK_SIZE) {
+            throw new IllegalArgumentException("IV must be " + BLOCK_SIZE + " bytes");
+        }
+        this.key = key;
+        this.iv = new BigInteger(1, iv);
+        this.cipher = ThreadLocal.withInitial(() -> {
+            try {
+                return Cipher.getInstance("AES/CTR/NoPadding");
+            }
+            catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Override
+    public void decrypt(long offset, ByteBuffer input, ByteBuffer output) throws GeneralSecurityException {
+        Cipher cipher = this.cipher.get();
+        cipher.init(Cipher.DECRYPT_MODE, key, new IvParameterSpec(counter(offset / BLOCK_SIZE)));
+        int skip = (int) (offset % BLOCK_SIZE);
+        if (skip > 0) {
+            cipher.update(new byte[skip]);
+        }
+        cipher.doFinal(input, output);
+    }
+
+    /**
+     * Compute the counter block for a block index.
+     *
+     * @param block block index
+     * @return counter block
+     */
+    private byte[] counter(long block) {
+        byte[] value = iv.add(BigInteger.valueOf(block)).mod(COUNTER_MODULUS).toByteArray();
+        byte[] counter = new byte[BLOCK_SIZE];
+        int length = Math.min(value.length, BLOCK_SIZE);
+        System.arraycopy(value, value.length - length, counter, BLOCK_SIZE - length, length);
+        return counter;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(40);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("algorithm=").append(key.getAlgorithm()).append(']');
+        return sb.toString();
+    }
+}
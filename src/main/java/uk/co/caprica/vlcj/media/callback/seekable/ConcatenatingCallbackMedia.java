@@ -0,0 +1,272 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media.callback.seekable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Implementation of seekable callback media that presents an ordered list of files as a single continuous stream.
+ * <p>
+ * This is useful for media recorded as a sequence of segment files that can simply be concatenated (e.g. MPEG transport
+ * stream segments), these can then be played, and seeked, as one media without the gap between items that there would
+ * be with a media list player.
+ * <p>
+ * The size of each segment is determined when the media is opened, and the segment containing any offset is found with a
+ * binary search. Segment files are opened lazily, using positional {@link FileChannel} reads directly into the native
+ * buffer provided by LibVLC. When reading moves into a segment, the next segment is opened and its first block read in
+ * the background so that the operating system has it cached by the time it is needed. At most the current and next
+ * segments are kept open.
+ * <p>
+ * Sub-classes can provide a different file channel for a segment (for example, from a custom file system provider) by
+ * overriding {@link #openSegment(Path)}.
+ */
+public class ConcatenatingCallbackMedia extends DirectSeekableCallbackMedia {
+
+    /**
+     * Size of the block read from the start of the next segment when it is prefetched.
+     */
+    private static final int PREFETCH_SIZE = 256 * 1024;
+
+    private final List<Path> segments;
+
+    private final Executor executor;
+
+    /**
+     * Offset within the stream of the start of each segment, and finally the total size.
+     */
+    private long[] offsets;
+
+    /**
+     * Open (or opening) segment channels, by segment index.
+     */
+    private final Map<Integer, CompletableFuture<FileChannel>> channels = new HashMap<>();
+
+    /**
+     * Current read position within the stream.
+     */
+    private long position;
+
+    /**
+     * Index of the segment that was last read.
+     */
+    private int currentSegment = -1;
+
+    /**
+     * Create callback media, prefetching using the common fork-join pool.
+     *
+     * @param segments segment files, in order
+     */
+    public ConcatenatingCallbackMedia(List<Path> segments) {
+        this(segments, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create callback media.
+     *
+     * @param segments segment files, in order
+     * @param executor executor used to prefetch the next segment
+     */
+    public ConcatenatingCallbackMedia(List<Path> segments, Executor executor) {
+        if (segments.isEmpty()) {
+            throw new IllegalArgumentException("At least one segment is required");
+        }
+        this.segments = new ArrayList<>(segments);
+        this.executor = executor;
+    }
+
+    @Override
+    protected final long onGetSize() {
+        return offsets[offsets.length - 1];
+    }
+
+    @Override
+    protected final synchronized boolean onOpen() {
+        try {
+            long[] offsets = new long[segments.size() + 1];
+            for (int i = 0; i < segments.size(); i++) {
+                offsets[i + 1] = offsets[i] + Files.size(segments.get(i));
+            }
+            this.offsets = offsets;
+            position = 0;
+            currentSegment = -1;
+            return true;
+        }
+        catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected final synchronized int onRead(ByteBuffer buffer) throws IOException {
+        long size = offsets[offsets.length - 1];
+        if (position >= size) {
+            return -1;
+        }
+        int total = 0;
+        while (buffer.hasRemaining() && position < size) {
+            int segment = segment(position);
+            enter(segment);
+            FileChannel channel = channel(segment);
+            long segmentPosition = position - offsets[segment];
+            int count = (int) Math.min(buffer.remaining(), offsets[segment + 1] - position);
+            ByteBuffer target = buffer.duplicate();
+            target.limit(target.position() + count);
+            int read = channel.read(target, segmentPosition);
+            if (read <= 0) {
+                // The segment is shorter than it was when the media was opened
+                break;
+            }
+            buffer.position(buffer.position() + read);
+            position += read;
+            total += read;
+        }
+        return total > 0 ? total : -1;
+    }
+
+    @Override
+    protected final synchronized boolean onSeek(long offset) {
+        if (offset < 0 || offset > offsets[offsets.length - 1]) {
+            return false;
+        }
+        position = offset;
+        return true;
+    }
+
+    @Override
+    protected synchronized void onClose() {
+        for (CompletableFuture<FileChannel> channel : channels.values()) {
+            channel.thenAccept(ConcatenatingCallbackMedia::closeQuietly);
+        }
+        channels.clear();
+    }
+
+    /**
+     * Template method to enable sub-classes to provide their own file channel for a segment.
+     *
+     * @param segment segment file
+     * @return file channel, opened for reading
+     * @throws IOException if an error occurs
+     */
+    protected FileChannel openSegment(Path segment) throws IOException {
+        return FileChannel.open(segment, StandardOpenOption.READ);
+    }
+
+    /**
+     * Find the segment containing an offset.
+     *
+     * @param offset offset within the stream, less than the total size
+     * @return segment index
+     */
+    private int segment(long offset) {
+        int index = Arrays.binarySearch(offsets, offset);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        // Skip past any empty segments that start at the same offset
+        while (offsets[index + 1] <= offset) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Note that reading has moved to a segment, closing segments that are no longer needed and prefetching the next.
+     *
+     * @param segment segment index
+     */
+    private void enter(int segment) {
+        if (segment == currentSegment) {
+            return;
+        }
+        currentSegment = segment;
+        Iterator<Map.Entry<Integer, CompletableFuture<FileChannel>>> it = channels.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, CompletableFuture<FileChannel>> entry = it.next();
+            int index = entry.getKey();
+            if (index != segment && index != segment + 1) {
+                entry.getValue().thenAccept(ConcatenatingCallbackMedia::closeQuietly);
+                it.remove();
+            }
+        }
+        if (segment + 1 < segments.size() && !channels.containsKey(segment + 1)) {
+            Path next = segments.get(segment + 1);
+            channels.put(segment + 1, CompletableFuture.supplyAsync(() -> prefetch(next), executor));
+        }
+    }
+
+    /**
+     * Get the channel for a segment, opening it if necessary.
+     * <p>
+     * If the segment is being prefetched, this waits for the prefetch to complete. If the prefetch failed, opening the
+     * segment is tried again.
+     *
+     * @param segment segment index
+     * @return channel
+     * @throws IOException if an error occurs
+     */
+    private FileChannel channel(int segment) throws IOException {
+        CompletableFuture<FileChannel> channel = channels.get(segment);
+        if (channel != null) {
+            try {
+                return channel.join();
+            }
+            catch (CompletionException e) {
+                channels.remove(segment);
+            }
+        }
+        FileChannel opened = openSegment(segments.get(segment));
+        channels.put(segment, CompletableFuture.completedFuture(opened));
+        return opened;
+    }
+
+    private FileChannel prefetch(Path segment) {
+        try {
+            FileChannel channel = openSegment(segment);
+            channel.read(ByteBuffer.allocateDirect(PREFETCH_SIZE), 0);
+            return channel;
+        }
+        catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        }
+        catch (IOException e) {
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media.callback.seekable;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+
+/**
+ * Specification for a counter-mode stream cipher that can decrypt from any offset within a stream.
+ * <p>
+ * In counter mode, the key stream for any offset can be computed directly from the counter, so decryption does not
+ * depend on any preceding data - this is what allows {@link DecryptingCallbackMedia} to decrypt blocks in parallel and
+ * to seek.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @see AesCtrCipher
+ */
+public interface CounterModeCipher {
+
+    /**
+     * Decrypt data.
+     * <p>
+     * All of the remaining input is decrypted into the output, the positions of both buffers are advanced.
+     *
+     * @param offset offset within the stream of the first byte of input
+     * @param input encrypted data
+     * @param output buffer to receive the decrypted data, must have at least as much remaining as the input
+     * @throws GeneralSecurityException if an error occurs
+     */
+    void decrypt(long offset, ByteBuffer input, ByteBuffer output) throws GeneralSecurityException;
+
+}
@@ -0,0 +1,282 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media.callback.seekable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Implementation of seekable callback media for an encrypted file, that decrypts blocks of the file in parallel.
+ * <p>
+ * The file must be encrypted with a counter-mode cipher (e.g. {@link AesCtrCipher}), with the same size as the
+ * plain-text media. With counter mode each block of the file can be decrypted independently, so this component keeps a
+ * window of chunks ahead of the current read position being read and decrypted in parallel on an executor (by default
+ * the common fork-join pool), and a seek simply moves the window.
+ * <p>
+ * Each position in the window has its own pair of off-heap buffers, allocated once, for the encrypted and decrypted
+ * data - so there is no allocation per read. Media data is copied from the decrypted buffer directly into the native
+ * buffer provided by LibVLC.
+ * <p>
+ * Sub-classes can provide a different file channel (for example, from a custom file system provider) by overriding
+ * {@link #openChannel()}.
+ */
+public class DecryptingCallbackMedia extends DirectSeekableCallbackMedia {
+
+    /**
+     * Default chunk size.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
+
+    /**
+     * Default number of chunks in the read-ahead window.
+     */
+    public static final int DEFAULT_WINDOW = 8;
+
+    private final Path path;
+
+    private final CounterModeCipher cipher;
+
+    private final int chunkSize;
+
+    private final Executor executor;
+
+    /**
+     * Window slots, chunk <code>n</code> always uses slot <code>n % slots.length</code>.
+     */
+    private final Slot[] slots;
+
+    private FileChannel fileChannel;
+
+    private long size;
+
+    private long position;
+
+    /**
+     * Create callback media with the default chunk size and window, decrypting on the common fork-join pool.
+     *
+     * @param path encrypted file path
+     * @param cipher cipher
+     */
+    public DecryptingCallbackMedia(Path path, CounterModeCipher cipher) {
+        this(path, cipher, DEFAULT_CHUNK_SIZE, DEFAULT_WINDOW, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create callback media with the default chunk size and window, decrypting on the common fork-join pool.
+     *
+     * @param file encrypted file
+     * @param cipher cipher
+     */
+    public DecryptingCallbackMedia(File file, CounterModeCipher cipher) {
+        this(file.toPath(), cipher);
+    }
+
+    /**
+     * Create callback media.
+     *
+     * @param path encrypted file path
+     * @param cipher cipher
+     * @param chunkSize size of each chunk that is read and decrypted as a unit
+     * @param window number of chunks to read and decrypt ahead of the current position
+     * @param executor executor used to read and decrypt chunks
+     */
+    public DecryptingCallbackMedia(Path path, CounterModeCipher cipher, int chunkSize, int window, Executor executor) {
+        if (chunkSize <= 0 || window <= 0) {
+            throw new IllegalArgumentException("Chunk size and window must be greater than zero");
+        }
+        this.path = path;
+        this.cipher = cipher;
+        this.chunkSize = chunkSize;
+        this.executor = executor;
+        this.slots = new Slot[window];
+        for (int i = 0; i < window; i++) {
+            slots[i] = new Slot(chunkSize);
+        }
+    }
+
+    @Override
+    protected final long onGetSize() {
+        return size;
+    }
+
+    @Override
+    protected final synchronized boolean onOpen() {
+        try {
+            fileChannel = openChannel();
+            size = fileChannel.size();
+            position = 0;
+            return true;
+        }
+        catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected final synchronized int onRead(ByteBuffer buffer) throws IOException {
+        if (position >= size) {
+            return -1;
+        }
+        long firstChunk = position / chunkSize;
+        long lastChunk = (size - 1) / chunkSize;
+        for (long chunk = firstChunk; chunk < firstChunk + slots.length && chunk <= lastChunk; chunk++) {
+            schedule(chunk);
+        }
+        int total = 0;
+        while (buffer.hasRemaining() && position < size) {
+            long chunk = position / chunkSize;
+            if (chunk >= firstChunk + slots.length) {
+                break;
+            }
+            Slot slot = slots[(int) (chunk % slots.length)];
+            int length;
+            try {
+                length = slot.future.join();
+            }
+            catch (CompletionException e) {
+                slot.chunk = -1;
+                throw new IOException("Failed to decrypt media", e.getCause());
+            }
+            int offset = (int) (position - chunk * chunkSize);
+            int count = Math.min(buffer.remaining(), length - offset);
+            if (count <= 0) {
+                break;
+            }
+            ByteBuffer data = slot.decrypted.duplicate();
+            data.limit(offset + count).position(offset);
+            buffer.put(data);
+            position += count;
+            total += count;
+        }
+        return total > 0 ? total : -1;
+    }
+
+    @Override
+    protected final synchronized boolean onSeek(long offset) {
+        if (offset < 0 || offset > size) {
+            return false;
+        }
+        position = offset;
+        return true;
+    }
+
+    @Override
+    protected synchronized void onClose() {
+        for (Slot slot : slots) {
+            if (slot.future != null) {
+                slot.future.handle((length, throwable) -> null).join();
+            }
+            slot.chunk = -1;
+            slot.future = null;
+        }
+        try {
+            fileChannel.close();
+        }
+        catch (IOException e) {
+        }
+    }
+
+    /**
+     * Template method to enable sub-classes to provide their own file channel.
+     *
+     * @return file channel, opened for reading
+     * @throws IOException if an error occurs
+     */
+    protected FileChannel openChannel() throws IOException {
+        return FileChannel.open(path, StandardOpenOption.READ);
+    }
+
+    /**
+     * Make sure a chunk is being read and decrypted.
+     * <p>
+     * If the slot for the chunk was in use for a different chunk, the new task is chained after the previous task so the
+     * slot buffers are never used by two tasks at once.
+     *
+     * @param chunk chunk index
+     */
+    private void schedule(long chunk) {
+        Slot slot = slots[(int) (chunk % slots.length)];
+        if (slot.chunk == chunk) {
+            return;
+        }
+        CompletableFuture<?> previous = slot.future != null ? slot.future.handle((length, throwable) -> null) : CompletableFuture.completedFuture(null);
+        FileChannel fileChannel = this.fileChannel;
+        slot.chunk = chunk;
+        slot.future = previous.thenApplyAsync(ignored -> load(fileChannel, slot, chunk), executor);
+    }
+
+    /**
+     * Read and decrypt a chunk.
+     *
+     * @param fileChannel file channel
+     * @param slot slot to use
+     * @param chunk chunk index
+     * @return number of bytes decrypted
+     */
+    private int load(FileChannel fileChannel, Slot slot, long chunk) {
+        try {
+            long offset = chunk * chunkSize;
+            ByteBuffer encrypted = slot.encrypted;
+            encrypted.clear();
+            while (encrypted.hasRemaining()) {
+                int read = fileChannel.read(encrypted, offset + encrypted.position());
+                if (read < 0) {
+                    break;
+                }
+            }
+            encrypted.flip();
+            ByteBuffer decrypted = slot.decrypted;
+            decrypted.clear();
+            cipher.decrypt(offset, encrypted, decrypted);
+            return decrypted.position();
+        }
+        catch (IOException | GeneralSecurityException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * A position in the read-ahead window.
+     */
+    private static final class Slot {
+
+        private final ByteBuffer encrypted;
+
+        private final ByteBuffer decrypted;
+
+        private long chunk = -1;
+
+        private CompletableFuture<Integer> future;
+
+        private Slot(int chunkSize) {
+            this.encrypted = ByteBuffer.allocateDirect(chunkSize);
+            this.decrypted = ByteBuffer.allocateDirect(chunkSize);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media.callback.seekable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Implementation of seekable callback media for files, that uses positional reads from a {@link FileChannel}.
+ * <p>
+ * Media data is read directly into the native buffer provided by LibVLC with {@link FileChannel#read(ByteBuffer, long)}
+ * so there is no intermediate Java byte array, there is no limit on the size of the file, and seeking simply sets the
+ * position for the next read - there is no channel state to go stale when LibVLC seeks back and forth (as it does for
+ * example with MP4 files that have the "moov" atom at the end).
+ * <p>
+ * The file is read with ordinary buffered IO, so operating system read-ahead still applies.
+ * <p>
+ * Sub-classes can provide a different file channel (for example, from a custom file system provider) by overriding
+ * {@link #openChannel()}.
+ */
+public class FileChannelCallbackMedia extends DirectSeekableCallbackMedia {
+
+    /**
+     * Local file path.
+     */
+    private final Path path;
+
+    /**
+     * File channel.
+     */
+    private FileChannel fileChannel;
+
+    /**
+     * Size of the file.
+     */
+    private long size;
+
+    /**
+     * Position of the next read within the file.
+     */
+    private long position;
+
+    /**
+     * Create callback media.
+     *
+     * @param path file path
+     */
+    public FileChannelCallbackMedia(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Create callback media.
+     *
+     * @param file file
+     */
+    public FileChannelCallbackMedia(File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Create callback media.
+     *
+     * @param filename file name
+     */
+    public FileChannelCallbackMedia(String filename) {
+        this(Paths.get(filename));
+    }
+
+    @Override
+    protected final long onGetSize() {
+        return size;
+    }
+
+    @Override
+    protected final synchronized boolean onOpen() {
+        try {
+            fileChannel = openChannel();
+            size = fileChannel.size();
+            position = 0;
+            return true;
+        }
+        catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected final synchronized int onRead(ByteBuffer buffer) throws IOException {
+        if (position >= size) {
+            return -1;
+        }
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = fileChannel.read(buffer, position + total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        position += total;
+        return total > 0 ? total : -1;
+    }
+
+    @Override
+    protected final synchronized boolean onSeek(long offset) {
+        if (offset < 0 || offset > size) {
+            return false;
+        }
+        position = offset;
+        return true;
+    }
+
+    @Override
+    protected synchronized void onClose() {
+        try {
+            fileChannel.close();
+        }
+        catch (IOException e) {
+        }
+    }
+
+    /**
+     * Template method to enable sub-classes to provide their own file channel.
+     *
+     * @return file channel, opened for reading
+     * @throws IOException if an error occurs
+     */
+    protected FileChannel openChannel() throws IOException {
+        return FileChannel.open(path, StandardOpenOption.READ);
+    }
+}
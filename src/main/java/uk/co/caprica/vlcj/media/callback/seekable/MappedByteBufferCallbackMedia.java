@@ -33,8 +33,7 @@ import java.nio.MappedByteBuffer;
  * <p>
  * That means this media can not support file sizes greater than {@link Integer#MAX_VALUE}.
  * <p>
- * A custom implementation could support long-based operations by encapsulating multiple {@link MappedByteBuffer}
- * instances at various offsets within the file.
+ * For larger files use {@link WindowedFileMappedCallbackMedia}, which maps the file in windows.
  */
 public class MappedByteBufferCallbackMedia extends SeekableCallbackMedia {
 
@@ -0,0 +1,111 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media.callback.seekable;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Implementation of seekable callback media that plays media data held in memory.
+ * <p>
+ * The media data is provided by a {@link MemorySource}, which is shared and never copied - any number of media may use
+ * the same source concurrently. The source is retained while this media is open, and released when it is closed.
+ * <p>
+ * Media data is copied directly from the source into the native buffer provided by LibVLC.
+ */
+public class MemoryCallbackMedia extends DirectSeekableCallbackMedia {
+
+    private final MemorySource source;
+
+    /**
+     * Views of the source segments, private to this media.
+     */
+    private ByteBuffer[] views;
+
+    /**
+     * Current read position within the media data.
+     */
+    private long position;
+
+    /**
+     * Create callback media.
+     *
+     * @param source memory source
+     */
+    public MemoryCallbackMedia(MemorySource source) {
+        this.source = source;
+    }
+
+    @Override
+    protected final long onGetSize() {
+        return source.size();
+    }
+
+    @Override
+    protected final boolean onOpen() {
+        try {
+            source.retain();
+        }
+        catch (IllegalStateException e) {
+            return false;
+        }
+        views = source.views();
+        position = 0;
+        return true;
+    }
+
+    @Override
+    protected final int onRead(ByteBuffer buffer) {
+        if (position >= source.size()) {
+            return -1;
+        }
+        int total = 0;
+        int segment = source.segment(position);
+        while (buffer.hasRemaining() && segment < views.length) {
+            ByteBuffer view = views[segment];
+            int offset = (int) (position - source.offset(segment));
+            int count = Math.min(buffer.remaining(), view.capacity() - offset);
+            if (count > 0) {
+                view.limit(offset + count).position(offset);
+                buffer.put(view);
+                position += count;
+                total += count;
+            }
+            segment++;
+        }
+        return total;
+    }
+
+    @Override
+    protected final boolean onSeek(long offset) {
+        if (offset < 0 || offset > source.size()) {
+            return false;
+        }
+        position = offset;
+        return true;
+    }
+
+    @Override
+    protected void onClose() {
+        if (views != null) {
+            views = null;
+            source.release();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media.callback.seekable;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A reference-counted, read-only, store of media data held in memory, for use with {@link MemoryCallbackMedia}.
+ * <p>
+ * The media data may be composed of any number of segments, each segment is a {@link ByteBuffer} (heap or direct) that
+ * is never copied - only read-only views of the segments are kept, so any number of media (and media players) can play
+ * the same media data concurrently.
+ * <p>
+ * A new memory source has a reference count of one, held by whoever created it. Each {@link MemoryCallbackMedia}
+ * retains the source while it is open. When the last reference is released the optional release action is invoked,
+ * for example to return the segments to a pool.
+ */
+public final class MemorySource {
+
+    /**
+     * Read-only views of the segments.
+     */
+    private final ByteBuffer[] segments;
+
+    /**
+     * Offset within the media data of the start of each segment.
+     */
+    private final long[] offsets;
+
+    private final long size;
+
+    private final Runnable releaseAction;
+
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private MemorySource(ByteBuffer[] segments, Runnable releaseAction) {
+        this.segments = new ByteBuffer[segments.length];
+        this.offsets = new long[segments.length];
+        long size = 0;
+        for (int i = 0; i < segments.length; i++) {
+            this.segments[i] = segments[i].slice().asReadOnlyBuffer();
+            this.offsets[i] = size;
+            size += this.segments[i].remaining();
+        }
+        this.size = size;
+        this.releaseAction = releaseAction;
+    }
+
+    /**
+     * Create a memory source from segments.
+     * <p>
+     * The data in each segment, from its position to its limit, is used. The segment contents must not be changed
+     * while the source is in use.
+     *
+     * @param segments segments, in order
+     * @return memory source
+     */
+    public static MemorySource of(ByteBuffer... segments) {
+        return new MemorySource(segments, null);
+    }
+
+    /**
+     * Create a memory source from segments, with an action to invoke when the last reference is released.
+     *
+     * @param releaseAction action to invoke when the last reference is released
+     * @param segments segments, in order
+     * @return memory source
+     */
+    public static MemorySource of(Runnable releaseAction, ByteBuffer... segments) {
+        return new MemorySource(segments, releaseAction);
+    }
+
+    /**
+     * Create a memory source from a byte array.
+     * <p>
+     * The array is not copied, its contents must not be changed while the source is in use.
+     *
+     * @param data media data
+     * @return memory source
+     */
+    public static MemorySource of(byte[] data) {
+        return of(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Get the total size of the media data.
+     *
+     * @return size, in bytes
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Get the current reference count.
+     *
+     * @return reference count
+     */
+    public int references() {
+        return references.get();
+    }
+
+    /**
+     * Retain a reference to this source.
+     *
+     * @return this source
+     * @throws IllegalStateException if this source has already been released
+     */
+    public MemorySource retain() {
+        int count;
+        do {
+            count = references.get();
+            if (count <= 0) {
+                throw new IllegalStateException("Memory source has been released");
+            }
+        } while (!references.compareAndSet(count, count + 1));
+        return this;
+    }
+
+    /**
+     * Release a reference to this source.
+     */
+    public void release() {
+        int count = references.decrementAndGet();
+        if (count == 0 && releaseAction != null) {
+            releaseAction.run();
+        } else if (count < 0) {
+            throw new IllegalStateException("Memory source has already been released");
+        }
+    }
+
+    /**
+     * Create new views of the segments, so that each reader has its own buffer positions.
+     *
+     * @return segment views
+     */
+    ByteBuffer[] views() {
+        ByteBuffer[] views = new ByteBuffer[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            views[i] = segments[i].duplicate();
+        }
+        return views;
+    }
+
+    /**
+     * Find the segment containing an offset.
+     *
+     * @param offset offset within the media data, less than the size
+     * @return segment index
+     */
+    int segment(long offset) {
+        int index = Arrays.binarySearch(offsets, offset);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        // Skip past any empty segments that start at the same offset
+        while (index < segments.length - 1 && offsets[index + 1] <= offset) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Get the offset within the media data of the start of a segment.
+     *
+     * @param segment segment index
+     * @return offset
+     */
+    long offset(int segment) {
+        return offsets[segment];
+    }
+
+}
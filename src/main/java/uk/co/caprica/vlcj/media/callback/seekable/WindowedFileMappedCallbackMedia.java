@@ -0,0 +1,199 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.media.callback.seekable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Implementation of seekable callback media for files, that maps the file in windows.
+ * <p>
+ * Unlike {@link FileMappedByteBufferCallbackMedia}, the file is not mapped in its entirety with a single
+ * {@link MappedByteBuffer} so there is no limit on the size of the file. Instead, a window of the file is mapped at a
+ * time, with windows aligned to multiples of the window size. A window is mapped lazily, when a read needs data that is
+ * outside of the current window, so seeking is cheap.
+ * <p>
+ * Media data is copied from the mapped window directly into the native buffer provided by LibVLC, this is a single
+ * native memory copy with no intermediate Java byte array.
+ * <p>
+ * Previously mapped windows are unmapped when they are garbage collected.
+ */
+public class WindowedFileMappedCallbackMedia extends DirectSeekableCallbackMedia {
+
+    /**
+     * Default window size.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * Local file path.
+     */
+    private final Path path;
+
+    /**
+     * Size of each mapped window.
+     */
+    private final int windowSize;
+
+    /**
+     * File channel.
+     */
+    private FileChannel fileChannel;
+
+    /**
+     * Size of the file.
+     */
+    private long size;
+
+    /**
+     * Current read position within the file.
+     */
+    private long position;
+
+    /**
+     * Currently mapped window, may be <code>null</code>.
+     */
+    private MappedByteBuffer window;
+
+    /**
+     * Offset within the file of the currently mapped window.
+     */
+    private long windowStart;
+
+    /**
+     * Create callback media.
+     *
+     * @param path file path
+     * @param windowSize size of each mapped window
+     */
+    public WindowedFileMappedCallbackMedia(Path path, int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be greater than zero");
+        }
+        this.path = path;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Create callback media with the default window size.
+     *
+     * @param path file path
+     */
+    public WindowedFileMappedCallbackMedia(Path path) {
+        this(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Create callback media with the default window size.
+     *
+     * @param file file
+     */
+    public WindowedFileMappedCallbackMedia(File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Create callback media with the default window size.
+     *
+     * @param filename file name
+     */
+    public WindowedFileMappedCallbackMedia(String filename) {
+        this(Paths.get(filename));
+    }
+
+    @Override
+    protected final long onGetSize() {
+        return size;
+    }
+
+    @Override
+    protected final boolean onOpen() {
+        try {
+            fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+            size = fileChannel.size();
+            position = 0;
+            window = null;
+            return true;
+        }
+        catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected final int onRead(ByteBuffer buffer) throws IOException {
+        if (position >= size) {
+            return -1;
+        }
+        int total = 0;
+        while (buffer.hasRemaining() && position < size) {
+            MappedByteBuffer window = window(position);
+            int offset = (int) (position - windowStart);
+            int count = Math.min(buffer.remaining(), window.capacity() - offset);
+            ByteBuffer source = window.duplicate();
+            source.limit(offset + count).position(offset);
+            buffer.put(source);
+            position += count;
+            total += count;
+        }
+        return total;
+    }
+
+    @Override
+    protected final boolean onSeek(long offset) {
+        if (offset < 0 || offset > size) {
+            return false;
+        }
+        position = offset;
+        return true;
+    }
+
+    @Override
+    protected void onClose() {
+        window = null;
+        try {
+            fileChannel.close();
+        }
+        catch (IOException e) {
+        }
+    }
+
+    /**
+     * Get the window containing a position, mapping it if necessary.
+     *
+     * @param position position within the file
+     * @return mapped window
+     * @throws IOException if an error occurs
+     */
+    private MappedByteBuffer window(long position) throws IOException {
+        if (window == null || position < windowStart || position >= windowStart + window.capacity()) {
+            long start = position - (position % windowSize);
+            window = fileChannel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, size - start));
+            windowStart = start;
+        }
+        return window;
+    }
+}
@@ -60,7 +60,7 @@ final class MediaAttachedThumbnailsFoundEvent extends MediaEvent {
         List<Picture> pictures = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
             libvlc_picture_t picture = libvlc_picture_list_at(thumbnails, new size_t(i));
-            pictures.add(new Picture(picture));
+            pictures.add(newPicture(picture));
         }
         listener.mediaAttachedThumbnailsFound(component, pictures);
     }
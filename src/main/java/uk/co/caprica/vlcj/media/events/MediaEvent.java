@@ -20,8 +20,10 @@
 package uk.co.caprica.vlcj.media.events;
 
 import uk.co.caprica.vlcj.binding.internal.libvlc_instance_t;
+import uk.co.caprica.vlcj.binding.internal.libvlc_picture_t;
 import uk.co.caprica.vlcj.media.Media;
 import uk.co.caprica.vlcj.media.MediaEventListener;
+import uk.co.caprica.vlcj.media.Picture;
 import uk.co.caprica.vlcj.support.eventmanager.BaseEvent;
 
 /**
@@ -41,4 +43,18 @@ abstract class MediaEvent extends BaseEvent<Media, MediaEventListener> {
         super(libvlcInstance, media);
     }
 
+    /**
+     * Create a picture to deliver with an event, as configured by the media event behaviour.
+     *
+     * @param picture native picture instance
+     * @return picture
+     */
+    protected final Picture newPicture(libvlc_picture_t picture) {
+        if (component.events().getRetainPictures()) {
+            return Picture.retain(picture);
+        } else {
+            return new Picture(picture, component.events().getPictureBufferPool());
+        }
+    }
+
 }
@@ -48,7 +48,7 @@ final class MediaThumbnailGeneratedEvent extends MediaEvent {
 
     @Override
     public void notify(MediaEventListener listener) {
-        Picture picture = new Picture(thumbnail);
+        Picture picture = thumbnail != null ? newPicture(thumbnail) : null;
         listener.mediaThumbnailGenerated(component, picture);
     }
 
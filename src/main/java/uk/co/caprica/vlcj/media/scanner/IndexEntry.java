@@ -0,0 +1,101 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.media.scanner;
+
+/**
+ * Immutable entry in a {@link LibraryIndex}.
+ * <p>
+ * An entry records the identity of the file when it was scanned - its modified time and size - together with the scan
+ * result, so the file only needs to be scanned again if either of those values changes.
+ */
+public final class IndexEntry {
+
+    private final String path;
+
+    private final long mtime;
+
+    private final long size;
+
+    private final ScanResult result;
+
+    /**
+     * Create an index entry.
+     *
+     * @param path absolute file path
+     * @param mtime file modified time, seconds
+     * @param size file size
+     * @param result scan result
+     */
+    public IndexEntry(String path, long mtime, long size, ScanResult result) {
+        this.path = path;
+        this.mtime = mtime;
+        this.size = size;
+        this.result = result;
+    }
+
+    /**
+     * Get the absolute file path.
+     *
+     * @return path
+     */
+    public String path() {
+        return path;
+    }
+
+    /**
+     * Get the file modified time when the file was scanned.
+     *
+     * @return modified time, seconds
+     */
+    public long mtime() {
+        return mtime;
+    }
+
+    /**
+     * Get the file size when the file was scanned.
+     *
+     * @return size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Get the scan result.
+     *
+     * @return scan result
+     */
+    public ScanResult result() {
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(300);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("path=").append(path).append(',');
+        sb.append("mtime=").append(mtime).append(',');
+        sb.append("size=").append(size).append(',');
+        sb.append("result=").append(result).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,536 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.media.scanner;
+
+import uk.co.caprica.vlcj.media.MediaParsedStatus;
+import uk.co.caprica.vlcj.media.Meta;
+import uk.co.caprica.vlcj.media.MetaData;
+import uk.co.caprica.vlcj.media.TrackType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An incremental index of the scan results for a library of media files.
+ * <p>
+ * Each entry is keyed by absolute file path and records the modified time and size of the file when it was scanned. An
+ * {@link #update(MediaScanner, Stream) update} checks those values for every file and only scans files that are new or
+ * have changed, entries for files that no longer exist are removed. Since almost every file in a library is unchanged
+ * between one scan and the next, a repeated scan costs little more than listing the files.
+ * <p>
+ * The file identity is the same modified time (in seconds) and size that {@link uk.co.caprica.vlcj.media.StatsApi}
+ * reports, but it is read from the file system - checking a file must not require creating, let alone parsing, native
+ * media.
+ * <p>
+ * Files whose parse timed out or was cancelled are scanned again on the next update even if they have not changed.
+ * <p>
+ * The index is kept entirely in memory, with an inverted index of the meta data values, so queries by meta data value
+ * do not need to visit every entry. The index can be saved to, and loaded from, a compact compressed file.
+ * <p>
+ * This component is thread-safe.
+ */
+public final class LibraryIndex {
+
+    /**
+     * Identifies an index file.
+     */
+    private static final int MAGIC = 0x564c4958;
+
+    /**
+     * Version of the index file format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Index entries, keyed by absolute file path.
+     */
+    private final Map<String, IndexEntry> entries = new HashMap<>();
+
+    /**
+     * Inverted index of normalised meta data values to the paths of the entries having that value.
+     */
+    private final Map<Meta, Map<String, Set<String>>> metaIndex = new EnumMap<>(Meta.class);
+
+    /**
+     * Create an empty library index.
+     */
+    public LibraryIndex() {
+    }
+
+    /**
+     * Load a library index from a file.
+     * <p>
+     * If the file does not exist an empty index is returned.
+     *
+     * @param file index file
+     * @return library index
+     * @throws IOException if the file could not be read, or is not an index file
+     */
+    public static LibraryIndex load(Path file) throws IOException {
+        LibraryIndex index = new LibraryIndex();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file), 65536)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a library index file: " + file);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported library index file version " + version + ": " + file);
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                index.put(readEntry(in));
+            }
+        }
+        catch (NoSuchFileException e) {
+            return index;
+        }
+        return index;
+    }
+
+    /**
+     * Save this library index to a file.
+     * <p>
+     * The index is written to a temporary file that then atomically replaces the index file, so a failure part-way
+     * through never leaves a corrupt index file.
+     *
+     * @param file index file
+     * @throws IOException if the file could not be written
+     */
+    public void save(Path file) throws IOException {
+        List<IndexEntry> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(entries.values());
+        }
+        Path directory = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, "library", ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp), 65536)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(snapshot.size());
+                for (IndexEntry entry : snapshot) {
+                    writeEntry(out, entry);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Update this index for a set of files.
+     * <p>
+     * Every file in the stream is checked against the index, and only files that are new or have changed are scanned.
+     * When the update completes, entries for any files not in the stream are removed - so the stream should contain
+     * every file in the library, e.g. from {@link Files#walk(Path, java.nio.file.FileVisitOption...)}.
+     * <p>
+     * If the update fails, or is cancelled, no entries are removed.
+     *
+     * @param scanner scanner used to scan new and changed files
+     * @param paths every file in the library
+     * @return future completed with a summary of the update when the update has finished
+     */
+    public CompletableFuture<Update> update(MediaScanner scanner, Stream<Path> paths) {
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        Map<String, long[]> identities = new ConcurrentHashMap<>();
+        LongAdder unchanged = new LongAdder();
+        LongAdder scanned = new LongAdder();
+        Stream<Path> changed = paths.filter(path -> {
+            String key = path.toAbsolutePath().toString();
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            }
+            catch (IOException e) {
+                return false;
+            }
+            seen.add(key);
+            long mtime = attributes.lastModifiedTime().to(TimeUnit.SECONDS);
+            long size = attributes.size();
+            IndexEntry entry = get(key);
+            if (entry != null && entry.mtime() == mtime && entry.size() == size && !retry(entry.result().status())) {
+                unchanged.increment();
+                return false;
+            }
+            identities.put(key, new long[] {mtime, size});
+            return true;
+        });
+        return scanner.scanPaths(changed, result -> {
+            long[] identity = identities.remove(result.mrl());
+            if (identity != null) {
+                put(new IndexEntry(result.mrl(), identity[0], identity[1], result));
+                scanned.increment();
+            }
+        }).thenApply(v -> new Update(unchanged.sum(), scanned.sum(), retainAll(seen)));
+    }
+
+    /**
+     * Get the entry for a file.
+     *
+     * @param path file
+     * @return entry, or <code>null</code> if the file is not in the index
+     */
+    public IndexEntry get(Path path) {
+        return get(path.toAbsolutePath().toString());
+    }
+
+    /**
+     * Get the entry for a file.
+     *
+     * @param path absolute file path
+     * @return entry, or <code>null</code> if the file is not in the index
+     */
+    public synchronized IndexEntry get(String path) {
+        return entries.get(path);
+    }
+
+    /**
+     * Add, or replace, an entry.
+     *
+     * @param entry entry
+     */
+    public synchronized void put(IndexEntry entry) {
+        IndexEntry previous = entries.put(entry.path(), entry);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(entry);
+    }
+
+    /**
+     * Remove the entry for a file.
+     *
+     * @param path absolute file path
+     * @return removed entry, or <code>null</code> if the file was not in the index
+     */
+    public synchronized IndexEntry remove(String path) {
+        IndexEntry previous = entries.remove(path);
+        if (previous != null) {
+            unindex(previous);
+        }
+        return previous;
+    }
+
+    /**
+     * Get the number of entries.
+     *
+     * @return number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Find the entries having a particular meta data value.
+     * <p>
+     * Values are compared ignoring case. This is answered from the inverted index.
+     *
+     * @param meta meta data type
+     * @param value meta data value
+     * @return matching entries
+     */
+    public synchronized List<IndexEntry> find(Meta meta, String value) {
+        Map<String, Set<String>> values = metaIndex.get(meta);
+        Set<String> paths = values != null ? values.get(normalise(value)) : null;
+        if (paths == null) {
+            return Collections.emptyList();
+        }
+        List<IndexEntry> result = new ArrayList<>(paths.size());
+        for (String path : paths) {
+            result.add(entries.get(path));
+        }
+        return result;
+    }
+
+    /**
+     * Find the entries matching an arbitrary condition.
+     * <p>
+     * This visits every entry.
+     *
+     * @param condition condition
+     * @return matching entries
+     */
+    public synchronized List<IndexEntry> find(Predicate<IndexEntry> condition) {
+        List<IndexEntry> result = new ArrayList<>();
+        for (IndexEntry entry : entries.values()) {
+            if (condition.test(entry)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the distinct values of a meta data type, with the number of entries having each value.
+     * <p>
+     * Values are normalised to lower-case. This is answered from the inverted index.
+     *
+     * @param meta meta data type
+     * @return values and counts, in value order
+     */
+    public synchronized Map<String, Integer> values(Meta meta) {
+        Map<String, Integer> result = new TreeMap<>();
+        Map<String, Set<String>> values = metaIndex.get(meta);
+        if (values != null) {
+            for (Map.Entry<String, Set<String>> value : values.entrySet()) {
+                result.put(value.getKey(), value.getValue().size());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Remove every entry whose path is not in a set of paths.
+     *
+     * @param paths paths to retain
+     * @return number of entries removed
+     */
+    private synchronized long retainAll(Set<String> paths) {
+        long removed = 0;
+        Iterator<Map.Entry<String, IndexEntry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            IndexEntry entry = it.next().getValue();
+            if (!paths.contains(entry.path())) {
+                it.remove();
+                unindex(entry);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private void index(IndexEntry entry) {
+        MetaData meta = entry.result().meta();
+        if (meta != null) {
+            for (Map.Entry<Meta, String> value : meta.values().entrySet()) {
+                metaIndex.computeIfAbsent(value.getKey(), k -> new HashMap<>()).computeIfAbsent(normalise(value.getValue()), k -> new HashSet<>()).add(entry.path());
+            }
+        }
+    }
+
+    private void unindex(IndexEntry entry) {
+        MetaData meta = entry.result().meta();
+        if (meta != null) {
+            for (Map.Entry<Meta, String> value : meta.values().entrySet()) {
+                Map<String, Set<String>> values = metaIndex.get(value.getKey());
+                if (values != null) {
+                    String key = normalise(value.getValue());
+                    Set<String> paths = values.get(key);
+                    if (paths != null) {
+                        paths.remove(entry.path());
+                        if (paths.isEmpty()) {
+                            values.remove(key);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static String normalise(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean retry(MediaParsedStatus status) {
+        return status == MediaParsedStatus.TIMEOUT || status == MediaParsedStatus.CANCELLED;
+    }
+
+    private static void writeEntry(DataOutputStream out, IndexEntry entry) throws IOException {
+        ScanResult result = entry.result();
+        writeString(out, entry.path());
+        out.writeLong(entry.mtime());
+        out.writeLong(entry.size());
+        out.writeByte(result.status().intValue());
+        out.writeLong(result.duration());
+        MetaData meta = result.meta();
+        if (meta != null) {
+            Map<Meta, String> values = meta.values();
+            Map<String, String> extraValues = meta.extraValues();
+            out.writeShort(values.size());
+            for (Map.Entry<Meta, String> value : values.entrySet()) {
+                out.writeByte(value.getKey().intValue());
+                writeString(out, value.getValue());
+            }
+            out.writeShort(extraValues.size());
+            for (Map.Entry<String, String> value : extraValues.entrySet()) {
+                writeString(out, value.getKey());
+                writeString(out, value.getValue());
+            }
+        } else {
+            out.writeShort(-1);
+        }
+        List<TrackInfo> tracks = result.tracks();
+        out.writeShort(tracks.size());
+        for (TrackInfo track : tracks) {
+            out.writeByte(track.type() != null ? track.type().intValue() : -1);
+            out.writeInt(track.codec());
+            writeString(out, track.codecName());
+            writeString(out, track.codecDescription());
+            out.writeInt(track.bitRate());
+            writeString(out, track.language());
+            writeString(out, track.description());
+            out.writeInt(track.width());
+            out.writeInt(track.height());
+            out.writeInt(track.frameRate());
+            out.writeInt(track.frameRateBase());
+            out.writeInt(track.channels());
+            out.writeInt(track.rate());
+        }
+    }
+
+    private static IndexEntry readEntry(DataInputStream in) throws IOException {
+        String path = readString(in);
+        long mtime = in.readLong();
+        long size = in.readLong();
+        MediaParsedStatus status = MediaParsedStatus.mediaParsedStatus(in.readByte());
+        long duration = in.readLong();
+        MetaData meta = null;
+        int valueCount = in.readShort();
+        if (valueCount >= 0) {
+            Map<Meta, String> values = new EnumMap<>(Meta.class);
+            for (int i = 0; i < valueCount; i++) {
+                values.put(Meta.meta(in.readByte()), readString(in));
+            }
+            int extraCount = in.readShort();
+            Map<String, String> extraValues = new TreeMap<>();
+            for (int i = 0; i < extraCount; i++) {
+                extraValues.put(readString(in), readString(in));
+            }
+            meta = new MetaData(values, extraValues);
+        }
+        int trackCount = in.readShort();
+        List<TrackInfo> tracks = new ArrayList<>(trackCount);
+        for (int i = 0; i < trackCount; i++) {
+            tracks.add(new TrackInfo(TrackType.trackType(in.readByte()), in.readInt(), readString(in), readString(in), in.readInt(), readString(in), readString(in), in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt()));
+        }
+        return new IndexEntry(path, mtime, size, new ScanResult(path, status, duration, meta, tracks));
+    }
+
+    /**
+     * Write a string that may be <code>null</code>, and unlike {@link DataOutputStream#writeUTF(String)} may be longer
+     * than 64KB.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value != null) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else {
+            out.writeInt(-1);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Immutable summary of an index update.
+     */
+    public static final class Update {
+
+        private final long unchanged;
+
+        private final long scanned;
+
+        private final long removed;
+
+        private Update(long unchanged, long scanned, long removed) {
+            this.unchanged = unchanged;
+            this.scanned = scanned;
+            this.removed = removed;
+        }
+
+        /**
+         * Get the number of files that were unchanged, and so were not scanned.
+         *
+         * @return number of files
+         */
+        public long unchanged() {
+            return unchanged;
+        }
+
+        /**
+         * Get the number of files that were new or changed, and so were scanned.
+         *
+         * @return number of files
+         */
+        public long scanned() {
+            return scanned;
+        }
+
+        /**
+         * Get the number of entries removed because their files no longer exist.
+         *
+         * @return number of entries
+         */
+        public long removed() {
+            return removed;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(60);
+            sb.append(getClass().getSimpleName()).append('[');
+            sb.append("unchanged=").append(unchanged).append(',');
+            sb.append("scanned=").append(scanned).append(',');
+            sb.append("removed=").append(removed).append(']');
+            return sb.toString();
+        }
+    }
+
+}
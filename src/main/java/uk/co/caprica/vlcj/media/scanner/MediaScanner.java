@@ -0,0 +1,559 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.media.scanner;
+
+import uk.co.caprica.vlcj.factory.MediaPlayerFactory;
+import uk.co.caprica.vlcj.media.Media;
+import uk.co.caprica.vlcj.media.MediaEventAdapter;
+import uk.co.caprica.vlcj.media.MediaParsedStatus;
+import uk.co.caprica.vlcj.media.MetaData;
+import uk.co.caprica.vlcj.media.ParseFlag;
+import uk.co.caprica.vlcj.player.base.Track;
+import uk.co.caprica.vlcj.player.base.TrackList;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * A component that scans large numbers of media items, parsing each one to extract its meta data, duration and track
+ * information.
+ * <p>
+ * The number of native parse requests in flight at the same time is bounded by the configured concurrency, and every
+ * parse request has a timeout. A parse request that does not complete in time gives a result with a status of
+ * {@link MediaParsedStatus#TIMEOUT}.
+ * <p>
+ * Media items may be submitted individually, or scanned as a stream - a stream is consumed lazily, only as fast as
+ * parse slots become free, so very large streams (e.g. walking a file system) are never held in memory. Results are
+ * delivered as each item completes, so not necessarily in the order the items were submitted.
+ * <p>
+ * Results are delivered, and futures completed, using the common fork-join pool - never on a native callback thread.
+ * <p>
+ * The scanner must be released when it is no longer needed.
+ */
+public final class MediaScanner {
+
+    /**
+     * Default parse flags.
+     */
+    private static final ParseFlag[] DEFAULT_FLAGS = new ParseFlag[] {ParseFlag.PARSE_LOCAL, ParseFlag.FETCH_LOCAL};
+
+    /**
+     * Executor used to read parse results and to complete the futures.
+     */
+    private final Executor executor = ForkJoinPool.commonPool();
+
+    /**
+     * Factory used to create the media.
+     */
+    private final MediaPlayerFactory factory;
+
+    /**
+     * Maximum number of parse requests in flight at the same time.
+     */
+    private final int concurrency;
+
+    /**
+     * Parse timeout for each item, milliseconds.
+     */
+    private final int timeout;
+
+    /**
+     * Parse flags.
+     */
+    private final ParseFlag[] flags;
+
+    /**
+     * Sources of items waiting to be scanned, in the order they were submitted.
+     */
+    private final Deque<Source> sources = new ArrayDeque<>();
+
+    /**
+     * Items currently being parsed.
+     */
+    private final Set<Item> active = new HashSet<>();
+
+    /**
+     * Number of parse slots reserved by a dispatch that is taking an item from a source, outside of the lock.
+     */
+    private int reserved;
+
+    /**
+     * Set when this scanner has been released.
+     */
+    private boolean released;
+
+    /**
+     * Create a media scanner that parses local media and fetches local meta data.
+     *
+     * @param factory factory used to create the media
+     * @param concurrency maximum number of parse requests in flight at the same time
+     * @param timeout parse timeout for each item, milliseconds
+     */
+    public MediaScanner(MediaPlayerFactory factory, int concurrency, int timeout) {
+        this(factory, concurrency, timeout, DEFAULT_FLAGS);
+    }
+
+    /**
+     * Create a media scanner.
+     *
+     * @param factory factory used to create the media
+     * @param concurrency maximum number of parse requests in flight at the same time
+     * @param timeout parse timeout for each item, milliseconds
+     * @param flags parse flags
+     */
+    public MediaScanner(MediaPlayerFactory factory, int concurrency, int timeout, ParseFlag... flags) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        this.factory = factory;
+        this.concurrency = concurrency;
+        this.timeout = timeout;
+        this.flags = flags;
+    }
+
+    /**
+     * Scan a single media item.
+     *
+     * @param mrl media resource locator, or file path
+     * @return future completed with the scan result
+     */
+    public CompletableFuture<ScanResult> submit(String mrl) {
+        CompletableFuture<ScanResult> result = new CompletableFuture<>();
+        Source source = new Source(Collections.singletonList(mrl).iterator(), result::complete);
+        source.future.whenComplete((value, exception) -> {
+            if (exception != null) {
+                result.completeExceptionally(exception);
+            }
+        });
+        add(source);
+        return result;
+    }
+
+    /**
+     * Scan a stream of media items.
+     * <p>
+     * The stream is consumed lazily, as parse slots become free. The consumer is invoked with the result for each item as
+     * it completes, one at a time.
+     * <p>
+     * If the consumer throws an exception, no further items are taken from the stream and the returned future completes
+     * exceptionally once the items already in progress have completed.
+     *
+     * @param mrls media resource locators, or file paths
+     * @param consumer component to receive each result
+     * @return future completed when every item in the stream has been scanned
+     */
+    public CompletableFuture<Void> scan(Stream<String> mrls, Consumer<ScanResult> consumer) {
+        Source source = new Source(mrls.iterator(), consumer);
+        add(source);
+        return source.future;
+    }
+
+    /**
+     * Scan a stream of files.
+     *
+     * @see #scan(Stream, Consumer)
+     *
+     * @param paths files
+     * @param consumer component to receive each result
+     * @return future completed when every file in the stream has been scanned
+     */
+    public CompletableFuture<Void> scanPaths(Stream<Path> paths, Consumer<ScanResult> consumer) {
+        return scan(paths.map(path -> path.toAbsolutePath().toString()), consumer);
+    }
+
+    /**
+     * Get the number of items currently being parsed.
+     *
+     * @return number of items
+     */
+    public synchronized int activeCount() {
+        return active.size();
+    }
+
+    /**
+     * Release this scanner.
+     * <p>
+     * No further items are started, and parsing of the items in progress is stopped - those items complete with a status
+     * of {@link MediaParsedStatus#CANCELLED}. The futures of submitted items that were never started are cancelled.
+     */
+    public void release() {
+        List<Source> waiting;
+        List<Item> inProgress;
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+            released = true;
+            waiting = new ArrayList<>(sources);
+            sources.clear();
+            inProgress = new ArrayList<>(active);
+        }
+        for (Source source : waiting) {
+            source.cancel();
+        }
+        for (Item item : inProgress) {
+            item.stop();
+        }
+    }
+
+    private void add(Source source) {
+        synchronized (this) {
+            if (released) {
+                throw new IllegalStateException("Media scanner has been released");
+            }
+            sources.add(source);
+        }
+        dispatch();
+    }
+
+    /**
+     * Start as many items as there are free parse slots.
+     * <p>
+     * A parse slot is reserved while holding the lock, but the next item is taken from the source outside of the lock
+     * since a lazily evaluated stream may block (e.g. walking a file system).
+     */
+    private void dispatch() {
+        for (;;) {
+            Source source;
+            synchronized (this) {
+                if (released || active.size() + reserved >= concurrency) {
+                    return;
+                }
+                source = sources.peek();
+                if (source == null) {
+                    return;
+                }
+                reserved++;
+            }
+            Item item = source.take();
+            boolean exhausted = false;
+            synchronized (this) {
+                reserved--;
+                if (item == null) {
+                    // Only the dispatch that removes the source marks it as exhausted
+                    exhausted = sources.remove(source);
+                } else if (released) {
+                    // The source was cancelled when this scanner was released, so the item is simply not started
+                    return;
+                } else {
+                    active.add(item);
+                }
+            }
+            if (item != null) {
+                item.start();
+            } else if (exhausted) {
+                // Outside of the lock since this may complete the future
+                source.exhausted();
+            }
+        }
+    }
+
+    /**
+     * An item has completed, free its parse slot.
+     *
+     * @param item item
+     */
+    private void completed(Item item) {
+        synchronized (this) {
+            active.remove(item);
+        }
+        dispatch();
+    }
+
+    /**
+     * A source of items, with the state of the scan for those items.
+     */
+    private final class Source {
+
+        private final Iterator<String> iterator;
+
+        private final Consumer<ScanResult> consumer;
+
+        /**
+         * Lock used to serialise access to the iterator, which is not thread-safe.
+         */
+        private final Object iteratorLock = new Object();
+
+        /**
+         * Lock used to deliver results to the consumer one at a time, without holding the monitor for this source.
+         */
+        private final Object consumerLock = new Object();
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private int outstanding;
+
+        private boolean exhausted;
+
+        private Throwable failure;
+
+        Source(Iterator<String> iterator, Consumer<ScanResult> consumer) {
+            this.iterator = iterator;
+            this.consumer = consumer;
+        }
+
+        /**
+         * Take the next item from this source.
+         * <p>
+         * Invoked outside of the scanner lock.
+         *
+         * @return item, or <code>null</code> if this source is exhausted
+         */
+        private Item take() {
+            synchronized (iteratorLock) {
+                synchronized (this) {
+                    if (failure != null) {
+                        return null;
+                    }
+                }
+                String mrl;
+                try {
+                    if (!iterator.hasNext()) {
+                        return null;
+                    }
+                    mrl = iterator.next();
+                }
+                catch (RuntimeException e) {
+                    synchronized (this) {
+                        if (failure == null) {
+                            failure = e;
+                        }
+                    }
+                    return null;
+                }
+                synchronized (this) {
+                    outstanding++;
+                }
+                return new Item(mrl, this);
+            }
+        }
+
+        /**
+         * An item from this source has completed.
+         *
+         * @param result scan result
+         */
+        private void completed(ScanResult result) {
+            if (consumer != null) {
+                synchronized (consumerLock) {
+                    boolean failed;
+                    synchronized (this) {
+                        failed = failure != null;
+                    }
+                    if (!failed) {
+                        try {
+                            consumer.accept(result);
+                        }
+                        catch (RuntimeException e) {
+                            synchronized (this) {
+                                if (failure == null) {
+                                    failure = e;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            boolean done;
+            synchronized (this) {
+                outstanding--;
+                done = exhausted && outstanding == 0;
+            }
+            if (done) {
+                finish();
+            }
+        }
+
+        private void exhausted() {
+            boolean done;
+            synchronized (this) {
+                exhausted = true;
+                done = outstanding == 0;
+            }
+            if (done) {
+                finish();
+            }
+        }
+
+        private void cancel() {
+            synchronized (this) {
+                exhausted = true;
+                if (failure == null) {
+                    failure = new CancellationException("Media scanner was released");
+                }
+            }
+            finish();
+        }
+
+        private void finish() {
+            Throwable failure;
+            synchronized (this) {
+                failure = this.failure;
+            }
+            if (failure == null) {
+                future.complete(null);
+            } else if (failure instanceof CancellationException) {
+                future.cancel(false);
+            } else {
+                future.completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * A single media item being scanned.
+     */
+    private final class Item extends MediaEventAdapter {
+
+        private final String mrl;
+
+        private final Source source;
+
+        private Media media;
+
+        private boolean finished;
+
+        private Item(String mrl, Source source) {
+            this.mrl = mrl;
+            this.source = source;
+        }
+
+        /**
+         * Start parsing this item, this is invoked outside of any lock.
+         */
+        private void start() {
+            Media media = factory.media().newMedia(mrl);
+            if (media == null) {
+                executor.execute(() -> complete(new ScanResult(mrl, MediaParsedStatus.FAILED, -1, null, Collections.emptyList())));
+                return;
+            }
+            synchronized (this) {
+                this.media = media;
+            }
+            media.events().addMediaEventListener(this);
+            if (!media.parsing().parse(timeout, flags)) {
+                executor.execute(() -> finish(MediaParsedStatus.FAILED));
+            }
+        }
+
+        @Override
+        public void mediaParsedChanged(Media media, MediaParsedStatus newStatus) {
+            switch (newStatus) {
+                case DONE:
+                case SKIPPED:
+                case FAILED:
+                case TIMEOUT:
+                case CANCELLED:
+                    executor.execute(() -> finish(newStatus));
+                    break;
+            }
+        }
+
+        /**
+         * Stop parsing this item.
+         */
+        private void stop() {
+            Media media;
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+                media = this.media;
+            }
+            if (media != null) {
+                media.parsing().stop();
+            }
+        }
+
+        /**
+         * Read the parse results and release the media, this is invoked by the executor.
+         *
+         * @param status parsed status
+         */
+        private void finish(MediaParsedStatus status) {
+            Media media;
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+                finished = true;
+                media = this.media;
+            }
+            ScanResult result;
+            try {
+                if (status == MediaParsedStatus.DONE) {
+                    result = new ScanResult(mrl, status, media.info().duration(), media.meta().asMetaData(), tracks(media));
+                } else {
+                    result = new ScanResult(mrl, status, -1, null, Collections.emptyList());
+                }
+            }
+            finally {
+                media.events().removeMediaEventListener(this);
+                media.release();
+            }
+            complete(result);
+        }
+
+        private void complete(ScanResult result) {
+            try {
+                source.completed(result);
+            }
+            finally {
+                MediaScanner.this.completed(this);
+            }
+        }
+    }
+
+    private static List<TrackInfo> tracks(Media media) {
+        List<TrackInfo> tracks = new ArrayList<>();
+        addTracks(tracks, media.tracks().videoTracks());
+        addTracks(tracks, media.tracks().audioTracks());
+        addTracks(tracks, media.tracks().textTracks());
+        return tracks;
+    }
+
+    private static void addTracks(List<TrackInfo> result, TrackList<? extends Track> trackList) {
+        if (trackList != null) {
+            try {
+                for (Track track : trackList.tracks()) {
+                    result.add(TrackInfo.of(track));
+                }
+            }
+            finally {
+                trackList.release();
+            }
+        }
+    }
+
+}
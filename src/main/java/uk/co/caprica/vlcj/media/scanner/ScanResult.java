@@ -0,0 +1,129 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.media.scanner;
+
+import uk.co.caprica.vlcj.media.MediaParsedStatus;
+import uk.co.caprica.vlcj.media.MetaData;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable result of scanning a single media item.
+ * <p>
+ * If the media could not be parsed, the status indicates why, and the other values are empty.
+ */
+public final class ScanResult {
+
+    private final String mrl;
+
+    private final MediaParsedStatus status;
+
+    private final long duration;
+
+    private final MetaData meta;
+
+    private final List<TrackInfo> tracks;
+
+    /**
+     * Create a scan result.
+     *
+     * @param mrl media resource locator
+     * @param status parsed status
+     * @param duration duration, milliseconds, or -1 if not known
+     * @param meta meta data, may be <code>null</code>
+     * @param tracks track information
+     */
+    public ScanResult(String mrl, MediaParsedStatus status, long duration, MetaData meta, List<TrackInfo> tracks) {
+        this.mrl = mrl;
+        this.status = status;
+        this.duration = duration;
+        this.meta = meta;
+        this.tracks = Collections.unmodifiableList(tracks);
+    }
+
+    /**
+     * Get the media resource locator.
+     *
+     * @return media resource locator
+     */
+    public String mrl() {
+        return mrl;
+    }
+
+    /**
+     * Get the parsed status.
+     *
+     * @return status
+     */
+    public MediaParsedStatus status() {
+        return status;
+    }
+
+    /**
+     * Determine whether or not the media was successfully parsed.
+     *
+     * @return <code>true</code> if the media was parsed; <code>false</code> if it was not
+     */
+    public boolean parsed() {
+        return status == MediaParsedStatus.DONE;
+    }
+
+    /**
+     * Get the duration.
+     *
+     * @return duration, milliseconds, or -1 if not known
+     */
+    public long duration() {
+        return duration;
+    }
+
+    /**
+     * Get the meta data.
+     *
+     * @return meta data, or <code>null</code> if the media was not parsed
+     */
+    public MetaData meta() {
+        return meta;
+    }
+
+    /**
+     * Get the track information.
+     *
+     * @return tracks
+     */
+    public List<TrackInfo> tracks() {
+        return tracks;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(300);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("mrl=").append(mrl).append(',');
+        sb.append("status=").append(status).append(',');
+        sb.append("duration=").append(duration).append(',');
+        sb.append("meta=").append(meta).append(',');
+        sb.append("tracks=").append(tracks).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,260 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.media.scanner;
+
+import uk.co.caprica.vlcj.media.TrackType;
+import uk.co.caprica.vlcj.player.base.AudioTrack;
+import uk.co.caprica.vlcj.player.base.Track;
+import uk.co.caprica.vlcj.player.base.VideoTrack;
+
+/**
+ * Immutable track information.
+ * <p>
+ * Unlike {@link Track}, this holds no reference to any native resource so it can be kept indefinitely.
+ * <p>
+ * Values that do not apply to a particular type of track (e.g. the width of an audio track) are zero.
+ */
+public final class TrackInfo {
+
+    private final TrackType type;
+
+    private final int codec;
+
+    private final String codecName;
+
+    private final String codecDescription;
+
+    private final int bitRate;
+
+    private final String language;
+
+    private final String description;
+
+    private final int width;
+
+    private final int height;
+
+    private final int frameRate;
+
+    private final int frameRateBase;
+
+    private final int channels;
+
+    private final int rate;
+
+    /**
+     * Create track information.
+     *
+     * @param type track type
+     * @param codec codec identifier
+     * @param codecName readable codec identifier
+     * @param codecDescription codec description
+     * @param bitRate bit-rate
+     * @param language language, may be <code>null</code>
+     * @param description description, may be <code>null</code>
+     * @param width video width
+     * @param height video height
+     * @param frameRate video frame rate
+     * @param frameRateBase video frame rate base
+     * @param channels audio channels
+     * @param rate audio rate
+     */
+    public TrackInfo(TrackType type, int codec, String codecName, String codecDescription, int bitRate, String language, String description, int width, int height, int frameRate, int frameRateBase, int channels, int rate) {
+        this.type = type;
+        this.codec = codec;
+        this.codecName = codecName;
+        this.codecDescription = codecDescription;
+        this.bitRate = bitRate;
+        this.language = language;
+        this.description = description;
+        this.width = width;
+        this.height = height;
+        this.frameRate = frameRate;
+        this.frameRateBase = frameRateBase;
+        this.channels = channels;
+        this.rate = rate;
+    }
+
+    /**
+     * Create track information from a track.
+     *
+     * @param track track
+     * @return track information
+     */
+    public static TrackInfo of(Track track) {
+        int width = 0;
+        int height = 0;
+        int frameRate = 0;
+        int frameRateBase = 0;
+        int channels = 0;
+        int rate = 0;
+        if (track instanceof VideoTrack) {
+            VideoTrack videoTrack = (VideoTrack) track;
+            width = videoTrack.width();
+            height = videoTrack.height();
+            frameRate = videoTrack.frameRate();
+            frameRateBase = videoTrack.frameRateBase();
+        } else if (track instanceof AudioTrack) {
+            AudioTrack audioTrack = (AudioTrack) track;
+            channels = audioTrack.channels();
+            rate = audioTrack.rate();
+        }
+        return new TrackInfo(track.trackType(), track.codec(), track.codecName(), track.codecDescription(), track.bitRate(), track.language(), track.description(), width, height, frameRate, frameRateBase, channels, rate);
+    }
+
+    /**
+     * Get the track type.
+     *
+     * @return track type
+     */
+    public TrackType type() {
+        return type;
+    }
+
+    /**
+     * Get the codec identifier.
+     *
+     * @return codec identifier
+     */
+    public int codec() {
+        return codec;
+    }
+
+    /**
+     * Get the readable codec identifier.
+     *
+     * @return codec name
+     */
+    public String codecName() {
+        return codecName;
+    }
+
+    /**
+     * Get the codec description.
+     *
+     * @return codec description
+     */
+    public String codecDescription() {
+        return codecDescription;
+    }
+
+    /**
+     * Get the bit-rate.
+     *
+     * @return bit-rate
+     */
+    public int bitRate() {
+        return bitRate;
+    }
+
+    /**
+     * Get the language.
+     *
+     * @return language, may be <code>null</code>
+     */
+    public String language() {
+        return language;
+    }
+
+    /**
+     * Get the description.
+     *
+     * @return description, may be <code>null</code>
+     */
+    public String description() {
+        return description;
+    }
+
+    /**
+     * Get the video width.
+     *
+     * @return width
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Get the video height.
+     *
+     * @return height
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Get the video frame rate.
+     *
+     * @return frame rate
+     */
+    public int frameRate() {
+        return frameRate;
+    }
+
+    /**
+     * Get the video frame rate base.
+     *
+     * @return frame rate base
+     */
+    public int frameRateBase() {
+        return frameRateBase;
+    }
+
+    /**
+     * Get the number of audio channels.
+     *
+     * @return channels
+     */
+    public int channels() {
+        return channels;
+    }
+
+    /**
+     * Get the audio rate.
+     *
+     * @return rate
+     */
+    public int rate() {
+        return rate;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(200);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("type=").append(type).append(',');
+        sb.append("codec=0x").append(Integer.toHexString(codec)).append(',');
+        sb.append("codecName=").append(codecName).append(',');
+        sb.append("codecDescription=").append(codecDescription).append(',');
+        sb.append("bitRate=").append(bitRate).append(',');
+        sb.append("language=").append(language).append(',');
+        sb.append("description=").append(description).append(',');
+        sb.append("width=").append(width).append(',');
+        sb.append("height=").append(height).append(',');
+        sb.append("frameRate=").append(frameRate).append(',');
+        sb.append("frameRateBase=").append(frameRateBase).append(',');
+        sb.append("channels=").append(channels).append(',');
+        sb.append("rate=").append(rate).append(']');
+        return sb.toString();
+    }
+
+}
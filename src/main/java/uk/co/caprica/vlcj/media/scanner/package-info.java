@@ -0,0 +1,4 @@
+/**
+ * Components that scan large numbers of media files to extract their meta data and track information.
+ */
+package uk.co.caprica.vlcj.media.scanner;
@@ -0,0 +1,521 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.media.thumbnail;
+
+import uk.co.caprica.vlcj.media.Picture;
+import uk.co.caprica.vlcj.media.PictureType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A two-tier cache of thumbnails, in memory and on disk.
+ * <p>
+ * Both tiers are bounded by size, in bytes of picture data, and evict the least recently used thumbnails first. A
+ * thumbnail found on disk is promoted to the memory tier. The disk tier survives restarts, the least recently used
+ * ordering is preserved between restarts via the file modified times.
+ * <p>
+ * Thumbnails are identified by a {@link ThumbnailKey}, which includes the modified time and size of the media file. When
+ * a key is seen for a media resource locator with a different modified time or size than before, i.e. the file has
+ * changed, all thumbnails cached for the previous version of that file are removed. Entries on disk for a previous
+ * version of a file that changed while the application was not running can never match again, and are simply evicted
+ * in due course.
+ * <p>
+ * The cache keeps its own copy of the picture data, so pictures put into the cache may be released (e.g. returned to a
+ * {@link uk.co.caprica.vlcj.media.PictureBufferPool}) afterwards. Pictures returned from the cache share the cached
+ * picture data, which must therefore not be modified.
+ * <p>
+ * Each disk entry records its complete key, so a hash collision between two keys can never return the wrong thumbnail.
+ * Entries are written to a temporary file and then atomically moved into place, so a partially written entry is never
+ * read. An entry that can not be read is removed.
+ * <p>
+ * This component is thread-safe. Disk input and output are performed on the calling thread, but never while holding a
+ * lock.
+ */
+public final class ThumbnailCache {
+
+    /**
+     * Identifies a cache entry file.
+     */
+    private static final int MAGIC = 0x56544843;
+
+    /**
+     * Version of the cache entry file format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * File name extension for cache entry files.
+     */
+    private static final String EXTENSION = ".thumb";
+
+    /**
+     * Directory containing the disk tier.
+     */
+    private final Path directory;
+
+    /**
+     * Maximum number of bytes of picture data in the memory tier.
+     */
+    private final long memoryCapacity;
+
+    /**
+     * Maximum number of bytes of picture data in the disk tier.
+     */
+    private final long diskCapacity;
+
+    /**
+     * Memory tier, in least recently used order.
+     */
+    private final LinkedHashMap<ThumbnailKey, Picture> memory = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Disk tier index, entry file name to file size, in least recently used order.
+     */
+    private final LinkedHashMap<String, Long> disk = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Most recently seen file identity for each media resource locator.
+     */
+    private final Map<String, ThumbnailKey> identities = new HashMap<>();
+
+    private long memorySize;
+
+    private long diskSize;
+
+    private final LongAdder memoryHits = new LongAdder();
+
+    private final LongAdder diskHits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a thumbnail cache.
+     * <p>
+     * The directory is created if it does not exist, and any existing entries in it are indexed.
+     *
+     * @param directory directory for the disk tier
+     * @param memoryCapacity maximum number of bytes of picture data to keep in memory
+     * @param diskCapacity maximum number of bytes to keep on disk
+     * @throws IOException if the directory could not be created or read
+     */
+    public ThumbnailCache(Path directory, long memoryCapacity, long diskCapacity) throws IOException {
+        this.directory = directory;
+        this.memoryCapacity = memoryCapacity;
+        this.diskCapacity = diskCapacity;
+        Files.createDirectories(directory);
+        index();
+    }
+
+    /**
+     * Get a thumbnail from the cache.
+     *
+     * @param key key
+     * @return thumbnail, or <code>null</code> if the thumbnail is not cached
+     */
+    public Picture get(ThumbnailKey key) {
+        String name = fileName(key);
+        List<String> removed;
+        boolean onDisk;
+        synchronized (this) {
+            removed = checkIdentity(key);
+            Picture picture = memory.get(key);
+            if (picture != null) {
+                memoryHits.increment();
+                return picture;
+            }
+            onDisk = disk.get(name) != null;
+        }
+        delete(removed);
+        if (!onDisk) {
+            misses.increment();
+            return null;
+        }
+        Path file = directory.resolve(name);
+        Picture picture = read(file, key);
+        if (picture == null) {
+            remove(name);
+            misses.increment();
+            return null;
+        }
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        }
+        catch (IOException e) {
+            // Only affects the least recently used ordering after a restart
+        }
+        synchronized (this) {
+            putMemory(key, picture);
+        }
+        diskHits.increment();
+        return picture;
+    }
+
+    /**
+     * Put a thumbnail into the cache.
+     * <p>
+     * The cache keeps its own copy of the picture data.
+     *
+     * @param key key
+     * @param picture thumbnail
+     */
+    public void put(ThumbnailKey key, Picture picture) {
+        byte[] data = new byte[picture.size()];
+        picture.byteBuffer().get(data);
+        Picture copy = new Picture(picture.width(), picture.height(), picture.type(), picture.stride(), picture.time(), data, data.length);
+        String name = fileName(key);
+        List<String> removed;
+        synchronized (this) {
+            removed = checkIdentity(key);
+            putMemory(key, copy);
+        }
+        delete(removed);
+        Path file = directory.resolve(name);
+        long size = write(file, key, copy);
+        if (size < 0) {
+            return;
+        }
+        List<String> evicted = new ArrayList<>();
+        synchronized (this) {
+            Long previous = disk.put(name, size);
+            diskSize += size - (previous != null ? previous : 0);
+            Iterator<Map.Entry<String, Long>> it = disk.entrySet().iterator();
+            while (diskSize > diskCapacity && it.hasNext()) {
+                Map.Entry<String, Long> eldest = it.next();
+                if (eldest.getKey().equals(name)) {
+                    continue;
+                }
+                diskSize -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                it.remove();
+            }
+        }
+        delete(evicted);
+    }
+
+    /**
+     * Remove all thumbnails for a media resource locator.
+     *
+     * @param mrl media resource locator
+     */
+    public void invalidate(String mrl) {
+        List<String> removed;
+        synchronized (this) {
+            identities.remove(mrl);
+            removed = removeAll(mrl);
+        }
+        delete(removed);
+    }
+
+    /**
+     * Remove all thumbnails from the cache.
+     */
+    public void clear() {
+        List<String> removed;
+        synchronized (this) {
+            identities.clear();
+            memory.clear();
+            memorySize = 0;
+            removed = new ArrayList<>(disk.keySet());
+            disk.clear();
+            diskSize = 0;
+        }
+        delete(removed);
+    }
+
+    /**
+     * Get the number of bytes of picture data in the memory tier.
+     *
+     * @return number of bytes
+     */
+    public synchronized long memorySize() {
+        return memorySize;
+    }
+
+    /**
+     * Get the number of bytes in the disk tier.
+     *
+     * @return number of bytes
+     */
+    public synchronized long diskSize() {
+        return diskSize;
+    }
+
+    /**
+     * Get the number of lookups satisfied by the memory tier.
+     *
+     * @return number of hits
+     */
+    public long memoryHits() {
+        return memoryHits.sum();
+    }
+
+    /**
+     * Get the number of lookups satisfied by the disk tier.
+     *
+     * @return number of hits
+     */
+    public long diskHits() {
+        return diskHits.sum();
+    }
+
+    /**
+     * Get the number of lookups that were not satisfied.
+     *
+     * @return number of misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Check the file identity in a key against the identity most recently seen for the same media resource locator,
+     * removing all of the cached thumbnails for the previous identity if it has changed.
+     * <p>
+     * Must be invoked while holding the monitor, the caller must delete the removed disk entry files after releasing it.
+     *
+     * @param key key
+     * @return names of removed disk entry files
+     */
+    private List<String> checkIdentity(ThumbnailKey key) {
+        ThumbnailKey previous = identities.put(key.mrl(), key);
+        if (previous != null && (previous.mtime() != key.mtime() || previous.size() != key.size())) {
+            return removeAll(key.mrl());
+        }
+        return List.of();
+    }
+
+    /**
+     * Remove all entries for a media resource locator from both tiers.
+     * <p>
+     * Must be invoked while holding the monitor.
+     *
+     * @param mrl media resource locator
+     * @return names of removed disk entry files
+     */
+    private List<String> removeAll(String mrl) {
+        Iterator<Map.Entry<ThumbnailKey, Picture>> memoryIt = memory.entrySet().iterator();
+        while (memoryIt.hasNext()) {
+            Map.Entry<ThumbnailKey, Picture> entry = memoryIt.next();
+            if (entry.getKey().mrl().equals(mrl)) {
+                memorySize -= entry.getValue().size();
+                memoryIt.remove();
+            }
+        }
+        String prefix = hash(mrl) + "-";
+        List<String> removed = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> diskIt = disk.entrySet().iterator();
+        while (diskIt.hasNext()) {
+            Map.Entry<String, Long> entry = diskIt.next();
+            if (entry.getKey().startsWith(prefix)) {
+                diskSize -= entry.getValue();
+                removed.add(entry.getKey());
+                diskIt.remove();
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Must be invoked while holding the monitor.
+     */
+    private void putMemory(ThumbnailKey key, Picture picture) {
+        Picture previous = memory.put(key, picture);
+        memorySize += picture.size() - (previous != null ? previous.size() : 0);
+        Iterator<Map.Entry<ThumbnailKey, Picture>> it = memory.entrySet().iterator();
+        while (memorySize > memoryCapacity && it.hasNext()) {
+            Map.Entry<ThumbnailKey, Picture> eldest = it.next();
+            memorySize -= eldest.getValue().size();
+            it.remove();
+        }
+    }
+
+    private void remove(String name) {
+        synchronized (this) {
+            Long size = disk.remove(name);
+            if (size != null) {
+                diskSize -= size;
+            }
+        }
+        delete(List.of(name));
+    }
+
+    private void delete(List<String> names) {
+        for (String name : names) {
+            try {
+                Files.deleteIfExists(directory.resolve(name));
+            }
+            catch (IOException e) {
+                // The orphaned file will simply never be used again
+            }
+        }
+    }
+
+    /**
+     * Index the existing entries in the disk tier, in least recently used order.
+     *
+     * @throws IOException if the directory could not be read
+     */
+    private void index() throws IOException {
+        List<Path> files = new ArrayList<>();
+        Map<Path, Long> modified = new HashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : stream) {
+                files.add(file);
+                modified.put(file, Files.getLastModifiedTime(file).toMillis());
+            }
+        }
+        files.sort((a, b) -> Long.compare(modified.get(a), modified.get(b)));
+        List<String> evicted = new ArrayList<>();
+        synchronized (this) {
+            for (Path file : files) {
+                long size = Files.size(file);
+                disk.put(file.getFileName().toString(), size);
+                diskSize += size;
+            }
+            Iterator<Map.Entry<String, Long>> it = disk.entrySet().iterator();
+            while (diskSize > diskCapacity && it.hasNext()) {
+                Map.Entry<String, Long> eldest = it.next();
+                diskSize -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                it.remove();
+            }
+        }
+        delete(evicted);
+    }
+
+    private Picture read(Path file, ThumbnailKey key) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            ThumbnailKey storedKey = new ThumbnailKey(in.readUTF(), in.readLong(), in.readLong(), in.readLong(), in.readInt(), in.readInt(), in.readBoolean(), PictureType.pictureType(in.readInt()));
+            if (!storedKey.equals(key)) {
+                return null;
+            }
+            int width = in.readInt();
+            int height = in.readInt();
+            PictureType type = PictureType.pictureType(in.readInt());
+            int stride = in.readInt();
+            long time = in.readLong();
+            int size = in.readInt();
+            byte[] buffer = new byte[size];
+            in.readFully(buffer);
+            return new Picture(width, height, type, stride, time, buffer, size);
+        }
+        catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Write a disk entry.
+     *
+     * @param file entry file
+     * @param key key
+     * @param picture thumbnail
+     * @return size of the entry file, or -1 if it could not be written
+     */
+    private long write(Path file, ThumbnailKey key, Picture picture) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, "thumb", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(key.mrl());
+                out.writeLong(key.mtime());
+                out.writeLong(key.size());
+                out.writeLong(key.time());
+                out.writeInt(key.width());
+                out.writeInt(key.height());
+                out.writeBoolean(key.crop());
+                out.writeInt(key.pictureType().intValue());
+                out.writeInt(picture.width());
+                out.writeInt(picture.height());
+                out.writeInt(picture.type().intValue());
+                out.writeInt(picture.stride());
+                out.writeLong(picture.time());
+                out.writeInt(picture.size());
+                out.write(picture.buffer(), 0, picture.size());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return Files.size(file);
+        }
+        catch (IOException e) {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                }
+                catch (IOException ignored) {
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Get the name of the disk entry file for a key.
+     * <p>
+     * The name starts with a hash of the media resource locator so that all of the entries for the same media can be
+     * found without reading them.
+     *
+     * @param key key
+     * @return file name
+     */
+    private static String fileName(ThumbnailKey key) {
+        String rest = key.mtime() + ":" + key.size() + ":" + key.time() + ":" + key.width() + ":" + key.height() + ":" + key.crop() + ":" + key.pictureType();
+        return hash(key.mrl()) + "-" + hash(rest) + EXTENSION;
+    }
+
+    private static String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(32);
+            for (int i = 0; i < 16; i++) {
+                sb.append(Character.forDigit((digest[i] >> 4) & 0xf, 16)).append(Character.forDigit(digest[i] & 0xf, 16));
+            }
+            return sb.toString();
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,246 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.media.thumbnail;
+
+import uk.co.caprica.vlcj.media.Media;
+import uk.co.caprica.vlcj.media.PictureType;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Immutable key identifying a cached thumbnail.
+ * <p>
+ * The key includes the identity of the media file - its modified time and size - as well as the media resource locator,
+ * so if the file changes, previously cached thumbnails for that file no longer match.
+ *
+ * @see ThumbnailCache
+ */
+public final class ThumbnailKey {
+
+    private final String mrl;
+
+    private final long mtime;
+
+    private final long size;
+
+    private final long time;
+
+    private final int width;
+
+    private final int height;
+
+    private final boolean crop;
+
+    private final PictureType pictureType;
+
+    /**
+     * Create a thumbnail key.
+     *
+     * @param mrl media resource locator
+     * @param mtime media file modified time
+     * @param size media file size
+     * @param time time of the thumbnail from media start, milliseconds
+     * @param width width of the thumbnail
+     * @param height height of the thumbnail
+     * @param crop <code>true</code> if the thumbnail is cropped; <code>false</code> if not
+     * @param pictureType picture format of the thumbnail
+     */
+    public ThumbnailKey(String mrl, long mtime, long size, long time, int width, int height, boolean crop, PictureType pictureType) {
+        this.mrl = mrl;
+        this.mtime = mtime;
+        this.size = size;
+        this.time = time;
+        this.width = width;
+        this.height = height;
+        this.crop = crop;
+        this.pictureType = pictureType;
+    }
+
+    /**
+     * Create a thumbnail key for media.
+     * <p>
+     * The identity of the media file is obtained via {@link uk.co.caprica.vlcj.media.StatsApi}, the native library
+     * does not always make these values available so for local file media the file system is used instead.
+     *
+     * @param media media
+     * @param time time of the thumbnail from media start, milliseconds
+     * @param options options used to generate the thumbnail
+     * @return key, or <code>null</code> if the identity of the media file could not be determined
+     */
+    public static ThumbnailKey of(Media media, long time, ThumbnailOptions options) {
+        String mrl = media.info().mrl();
+        if (mrl == null) {
+            return null;
+        }
+        long mtime = media.stats().mtime();
+        long size = media.stats().size();
+        if (mtime < 0 || size < 0) {
+            BasicFileAttributes attributes = fileAttributes(mrl);
+            if (attributes == null) {
+                return null;
+            }
+            mtime = attributes.lastModifiedTime().toMillis() / 1000;
+            size = attributes.size();
+        }
+        return new ThumbnailKey(mrl, mtime, size, time, options.width(), options.height(), options.crop(), options.pictureType());
+    }
+
+    /**
+     * Create a key for a different time within the same media, with the same options.
+     *
+     * @param time time of the thumbnail from media start, milliseconds
+     * @return key
+     */
+    public ThumbnailKey withTime(long time) {
+        return new ThumbnailKey(mrl, mtime, size, time, width, height, crop, pictureType);
+    }
+
+    private static BasicFileAttributes fileAttributes(String mrl) {
+        if (!mrl.startsWith("file:")) {
+            return null;
+        }
+        try {
+            Path path = Paths.get(URI.create(mrl));
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        }
+        catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get the media resource locator.
+     *
+     * @return media resource locator
+     */
+    public String mrl() {
+        return mrl;
+    }
+
+    /**
+     * Get the media file modified time.
+     *
+     * @return modified time
+     */
+    public long mtime() {
+        return mtime;
+    }
+
+    /**
+     * Get the media file size.
+     *
+     * @return size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Get the time of the thumbnail from media start.
+     *
+     * @return time, milliseconds
+     */
+    public long time() {
+        return time;
+    }
+
+    /**
+     * Get the width of the thumbnail.
+     *
+     * @return width
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Get the height of the thumbnail.
+     *
+     * @return height
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Determine whether or not the thumbnail is cropped.
+     *
+     * @return <code>true</code> if the thumbnail is cropped; <code>false</code> if not
+     */
+    public boolean crop() {
+        return crop;
+    }
+
+    /**
+     * Get the picture format of the thumbnail.
+     *
+     * @return picture format
+     */
+    public PictureType pictureType() {
+        return pictureType;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ThumbnailKey)) {
+            return false;
+        }
+        ThumbnailKey other = (ThumbnailKey) obj;
+        return mtime == other.mtime && size == other.size && time == other.time && width == other.width && height == other.height && crop == other.crop && pictureType == other.pictureType && mrl.equals(other.mrl);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = mrl.hashCode();
+        result = 31 * result + Long.hashCode(mtime);
+        result = 31 * result + Long.hashCode(size);
+        result = 31 * result + Long.hashCode(time);
+        result = 31 * result + width;
+        result = 31 * result + height;
+        result = 31 * result + (crop ? 1 : 0);
+        result = 31 * result + pictureType.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(200);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("mrl=").append(mrl).append(',');
+        sb.append("mtime=").append(mtime).append(',');
+        sb.append("size=").append(size).append(',');
+        sb.append("time=").append(time).append(',');
+        sb.append("width=").append(width).append(',');
+        sb.append("height=").append(height).append(',');
+        sb.append("crop=").append(crop).append(',');
+        sb.append("pictureType=").append(pictureType).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.media.thumbnail;
+
+import uk.co.caprica.vlcj.media.PictureType;
+import uk.co.caprica.vlcj.media.ThumbnailerSeekSpeed;
+
+/**
+ * Immutable options for generating thumbnails.
+ *
+ * @see uk.co.caprica.vlcj.media.ThumbnailApi
+ */
+public final class ThumbnailOptions {
+
+    /**
+     * Seek speed.
+     */
+    private final ThumbnailerSeekSpeed speed;
+
+    /**
+     * Width for the thumbnail.
+     */
+    private final int width;
+
+    /**
+     * Height for the thumbnail.
+     */
+    private final int height;
+
+    /**
+     * Whether or not the thumbnail should be cropped.
+     */
+    private final boolean crop;
+
+    /**
+     * Picture format for the thumbnail.
+     */
+    private final PictureType pictureType;
+
+    /**
+     * Timeout for thumbnail generation, milliseconds.
+     */
+    private final long timeout;
+
+    /**
+     * Create thumbnail options.
+     * <p>
+     * If one of width or height is zero the original image aspect ratio will be preserved.
+     *
+     * @param speed seek speed (fast, or precise)
+     * @param width width for the thumbnail
+     * @param height height for the thumbnail
+     * @param crop <code>true</code> if the thumbnail should be cropped; <code>false</code> if not
+     * @param pictureType picture format for the thumbnail
+     * @param timeout timeout for thumbnail generation, milliseconds, or zero for no timeout
+     */
+    public ThumbnailOptions(ThumbnailerSeekSpeed speed, int width, int height, boolean crop, PictureType pictureType, long timeout) {
+        this.speed = speed;
+        this.width = width;
+        this.height = height;
+        this.crop = crop;
+        this.pictureType = pictureType;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Get the seek speed.
+     *
+     * @return seek speed
+     */
+    public ThumbnailerSeekSpeed speed() {
+        return speed;
+    }
+
+    /**
+     * Get the width for the thumbnail.
+     *
+     * @return width
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Get the height for the thumbnail.
+     *
+     * @return height
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Determine whether or not the thumbnail should be cropped.
+     *
+     * @return <code>true</code> if the thumbnail should be cropped; <code>false</code> if not
+     */
+    public boolean crop() {
+        return crop;
+    }
+
+    /**
+     * Get the picture format for the thumbnail.
+     *
+     * @return picture format
+     */
+    public PictureType pictureType() {
+        return pictureType;
+    }
+
+    /**
+     * Get the timeout for thumbnail generation.
+     *
+     * @return timeout, milliseconds
+     */
+    public long timeout() {
+        return timeout;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ThumbnailOptions)) {
+            return false;
+        }
+        ThumbnailOptions other = (ThumbnailOptions) obj;
+        return speed == other.speed && width == other.width && height == other.height && crop == other.crop && pictureType == other.pictureType && timeout == other.timeout;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = speed.hashCode();
+        result = 31 * result + width;
+        result = 31 * result + height;
+        result = 31 * result + (crop ? 1 : 0);
+        result = 31 * result + pictureType.hashCode();
+        result = 31 * result + Long.hashCode(timeout);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(120);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("speed=").append(speed).append(',');
+        sb.append("width=").append(width).append(',');
+        sb.append("height=").append(height).append(',');
+        sb.append("crop=").append(crop).append(',');
+        sb.append("pictureType=").append(pictureType).append(',');
+        sb.append("timeout=").append(timeout).append(']');
+        return sb.toString();
+    }
+
+}
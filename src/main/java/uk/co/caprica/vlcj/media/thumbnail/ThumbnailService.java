@@ -0,0 +1,509 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.media.thumbnail;
+
+import uk.co.caprica.vlcj.factory.MediaPlayerFactory;
+import uk.co.caprica.vlcj.media.Media;
+import uk.co.caprica.vlcj.media.MediaEventAdapter;
+import uk.co.caprica.vlcj.media.MediaRef;
+import uk.co.caprica.vlcj.media.Picture;
+import uk.co.caprica.vlcj.media.PictureBufferPool;
+import uk.co.caprica.vlcj.media.ThumbnailRequest;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A service that generates large numbers of thumbnails.
+ * <p>
+ * Thumbnails are requested in batches, a batch being any number of times within a single media. Each thumbnail is
+ * delivered via its own {@link CompletableFuture}, completed with the thumbnail picture, or <code>null</code> if the
+ * thumbnail could not be generated (e.g. the native thumbnail request failed or timed out).
+ * <p>
+ * A batch reuses a single media instance for all of its thumbnails, so the media is created only once per batch rather
+ * than once per thumbnail, and the thumbnails of a batch are generated one after another. The native thumbnail event
+ * does not identify the request that generated it, so there is never more than one request in flight for the same media
+ * instance.
+ * <p>
+ * The number of batches in progress at the same time, and therefore the number of native thumbnail requests in flight at
+ * the same time, is bounded by the configured concurrency. Further batches wait in a queue, in the order they were
+ * submitted.
+ * <p>
+ * Cancelling the future for a thumbnail that has not yet been requested simply skips it, cancelling the future for a
+ * thumbnail that is currently being generated also cancels the native request.
+ * <p>
+ * If a {@link PictureBufferPool} is used, picture data is delivered into pooled buffers and the application
+ * <em>must</em> release each picture via {@link Picture#release()} when it has no further use for it. The picture for a
+ * future that was cancelled is released automatically.
+ * <p>
+ * If a {@link ThumbnailCache} is used, each thumbnail is looked up in the cache before a native request is made, and
+ * each generated thumbnail is put into the cache. Pictures returned from the cache do not use pooled buffers, releasing
+ * them is harmless.
+ * <p>
+ * Futures are never completed on a native callback thread, so dependent stages may safely call back into LibVLC.
+ * <p>
+ * The service must be released when it is no longer needed.
+ */
+public final class ThumbnailService {
+
+    /**
+     * Executor used to issue the native requests and to complete the futures.
+     */
+    private final Executor executor = ForkJoinPool.commonPool();
+
+    /**
+     * Factory used to create the media.
+     */
+    private final MediaPlayerFactory factory;
+
+    /**
+     * Maximum number of batches in progress at the same time.
+     */
+    private final int concurrency;
+
+    /**
+     * Optional pool of buffers to receive the picture data.
+     */
+    private final PictureBufferPool pool;
+
+    /**
+     * Optional thumbnail cache.
+     */
+    private final ThumbnailCache cache;
+
+    /**
+     * Batches waiting for a slot.
+     */
+    private final Queue<Batch> waiting = new ArrayDeque<>();
+
+    /**
+     * Batches in progress.
+     */
+    private final Set<Batch> active = new HashSet<>();
+
+    /**
+     * Set when this service has been released.
+     */
+    private boolean released;
+
+    /**
+     * Create a thumbnail service.
+     *
+     * @param factory factory used to create the media
+     * @param concurrency maximum number of thumbnail requests in flight at the same time
+     */
+    public ThumbnailService(MediaPlayerFactory factory, int concurrency) {
+        this(factory, concurrency, null);
+    }
+
+    /**
+     * Create a thumbnail service that delivers thumbnails into pooled buffers.
+     *
+     * @param factory factory used to create the media
+     * @param concurrency maximum number of thumbnail requests in flight at the same time
+     * @param pool pool of buffers to receive the picture data, may be <code>null</code>
+     */
+    public ThumbnailService(MediaPlayerFactory factory, int concurrency, PictureBufferPool pool) {
+        this(factory, concurrency, pool, null);
+    }
+
+    /**
+     * Create a thumbnail service that delivers thumbnails into pooled buffers and uses a thumbnail cache.
+     *
+     * @param factory factory used to create the media
+     * @param concurrency maximum number of thumbnail requests in flight at the same time
+     * @param pool pool of buffers to receive the picture data, may be <code>null</code>
+     * @param cache thumbnail cache, may be <code>null</code>
+     */
+    public ThumbnailService(MediaPlayerFactory factory, int concurrency, PictureBufferPool pool, ThumbnailCache cache) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        this.factory = factory;
+        this.concurrency = concurrency;
+        this.pool = pool;
+        this.cache = cache;
+    }
+
+    /**
+     * Request a batch of thumbnails for a media resource locator.
+     *
+     * @param mrl media resource locator
+     * @param options options for generating the thumbnails
+     * @param times times from media start, milliseconds
+     * @return futures for each thumbnail, in the same order as the times
+     */
+    public List<CompletableFuture<Picture>> submit(String mrl, ThumbnailOptions options, long... times) {
+        return submit(new Batch(mrl, null, options, times));
+    }
+
+    /**
+     * Request a batch of thumbnails for a media reference.
+     * <p>
+     * The service takes its own reference to the media, the caller is still responsible for releasing the given media
+     * reference.
+     *
+     * @param mediaRef media reference
+     * @param options options for generating the thumbnails
+     * @param times times from media start, milliseconds
+     * @return futures for each thumbnail, in the same order as the times
+     */
+    public List<CompletableFuture<Picture>> submit(MediaRef mediaRef, ThumbnailOptions options, long... times) {
+        return submit(new Batch(null, factory.media().newMedia(mediaRef), options, times));
+    }
+
+    /**
+     * Request a single thumbnail for a media resource locator.
+     *
+     * @param mrl media resource locator
+     * @param options options for generating the thumbnail
+     * @param time time from media start, milliseconds
+     * @return future for the thumbnail
+     */
+    public CompletableFuture<Picture> submit(String mrl, ThumbnailOptions options, long time) {
+        return submit(mrl, options, new long[] {time}).get(0);
+    }
+
+    /**
+     * Get the number of batches currently in progress.
+     *
+     * @return number of batches
+     */
+    public synchronized int activeCount() {
+        return active.size();
+    }
+
+    /**
+     * Get the number of batches currently waiting to be started.
+     *
+     * @return number of batches
+     */
+    public synchronized int waitingCount() {
+        return waiting.size();
+    }
+
+    /**
+     * Release this service.
+     * <p>
+     * The futures for all thumbnails not yet generated are cancelled.
+     */
+    public void release() {
+        List<Batch> batches;
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+            released = true;
+            batches = new ArrayList<>(waiting);
+            batches.addAll(active);
+            waiting.clear();
+        }
+        for (Batch batch : batches) {
+            batch.cancel();
+        }
+    }
+
+    private List<CompletableFuture<Picture>> submit(Batch batch) {
+        boolean start;
+        synchronized (this) {
+            if (released) {
+                batch.cancel();
+                throw new IllegalStateException("Thumbnail service has been released");
+            }
+            start = active.size() < concurrency;
+            if (start) {
+                active.add(batch);
+            } else {
+                waiting.add(batch);
+            }
+        }
+        if (start) {
+            executor.execute(batch::start);
+        }
+        return batch.futures();
+    }
+
+    /**
+     * A batch has finished, start the next waiting batch if there is one.
+     *
+     * @param batch batch that finished
+     */
+    private void finished(Batch batch) {
+        Batch next;
+        synchronized (this) {
+            active.remove(batch);
+            next = waiting.poll();
+            if (next != null) {
+                active.add(next);
+            }
+        }
+        if (next != null) {
+            executor.execute(next::start);
+        }
+    }
+
+    /**
+     * A single thumbnail.
+     */
+    private static final class Task {
+
+        private final long time;
+
+        private final CompletableFuture<Picture> future = new CompletableFuture<>();
+
+        private Task(long time) {
+            this.time = time;
+        }
+    }
+
+    /**
+     * A batch of thumbnails for the same media.
+     */
+    private final class Batch extends MediaEventAdapter {
+
+        private final String mrl;
+
+        private final ThumbnailOptions options;
+
+        private final Queue<Task> tasks;
+
+        private final List<CompletableFuture<Picture>> futures;
+
+        private Media media;
+
+        private ThumbnailKey key;
+
+        private Task current;
+
+        private ThumbnailRequest currentRequest;
+
+        private boolean done;
+
+        private Batch(String mrl, Media media, ThumbnailOptions options, long[] times) {
+            this.mrl = mrl;
+            this.media = media;
+            this.options = options;
+            this.tasks = new ArrayDeque<>(times.length);
+            List<CompletableFuture<Picture>> futures = new ArrayList<>(times.length);
+            for (long time : times) {
+                Task task = new Task(time);
+                tasks.add(task);
+                futures.add(task.future);
+                task.future.whenComplete((picture, exception) -> {
+                    if (task.future.isCancelled()) {
+                        cancelled(task);
+                    }
+                });
+            }
+            this.futures = Collections.unmodifiableList(futures);
+        }
+
+        private List<CompletableFuture<Picture>> futures() {
+            return futures;
+        }
+
+        /**
+         * Start the batch, this is invoked by the executor.
+         */
+        private void start() {
+            Media media;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                if (this.media == null) {
+                    this.media = factory.media().newMedia(mrl);
+                }
+                media = this.media;
+            }
+            if (media != null) {
+                if (cache != null) {
+                    key = ThumbnailKey.of(media, 0, options);
+                }
+                media.events().setPictureBufferPool(pool);
+                media.events().addMediaEventListener(this);
+            }
+            next();
+        }
+
+        /**
+         * Issue the native request for the next thumbnail that has not been cancelled, or finish the batch if there are
+         * none left, this is invoked by the executor.
+         */
+        private void next() {
+            for (;;) {
+                Task task;
+                Media media;
+                boolean finish = false;
+                synchronized (this) {
+                    current = null;
+                    currentRequest = null;
+                    while ((task = tasks.poll()) != null && task.future.isDone()) {
+                    }
+                    media = this.media;
+                    if (task != null && media != null) {
+                        current = task;
+                    } else {
+                        if (done) {
+                            return;
+                        }
+                        done = true;
+                        finish = true;
+                        if (task != null) {
+                            tasks.add(task);
+                        }
+                    }
+                }
+                if (finish) {
+                    finish(media);
+                    return;
+                }
+                if (key != null) {
+                    Picture cached = cache.get(key.withTime(task.time));
+                    if (cached != null) {
+                        task.future.complete(cached);
+                        continue;
+                    }
+                }
+                ThumbnailRequest request = media.thumbnails().requestByTime(task.time, options.speed(), options.width(), options.height(), options.crop(), options.pictureType(), options.timeout());
+                if (request == null) {
+                    task.future.complete(null);
+                    continue;
+                }
+                boolean stale;
+                synchronized (this) {
+                    stale = current != task;
+                    if (!stale) {
+                        currentRequest = request;
+                    }
+                }
+                if (stale) {
+                    request.release();
+                }
+                return;
+            }
+        }
+
+        @Override
+        public void mediaThumbnailGenerated(Media media, Picture picture) {
+            Task task;
+            ThumbnailRequest request;
+            synchronized (this) {
+                task = current;
+                request = currentRequest;
+                current = null;
+                currentRequest = null;
+            }
+            if (task == null) {
+                if (picture != null) {
+                    picture.release();
+                }
+                return;
+            }
+            executor.execute(() -> {
+                if (request != null) {
+                    request.release();
+                }
+                if (key != null && picture != null) {
+                    cache.put(key.withTime(task.time), picture);
+                }
+                if (!task.future.complete(picture) && picture != null) {
+                    picture.release();
+                }
+                next();
+            });
+        }
+
+        /**
+         * A thumbnail future was cancelled by the application.
+         *
+         * @param task task that was cancelled
+         */
+        private void cancelled(Task task) {
+            ThumbnailRequest request;
+            synchronized (this) {
+                if (current != task || currentRequest == null) {
+                    return;
+                }
+                request = currentRequest;
+                current = null;
+                currentRequest = null;
+            }
+            executor.execute(() -> {
+                request.cancel();
+                next();
+            });
+        }
+
+        /**
+         * Cancel all remaining thumbnails of this batch.
+         */
+        private void cancel() {
+            List<Task> remaining;
+            boolean inFlight;
+            synchronized (this) {
+                remaining = new ArrayList<>(tasks);
+                tasks.clear();
+                inFlight = current != null;
+                if (inFlight) {
+                    remaining.add(current);
+                }
+            }
+            for (Task task : remaining) {
+                task.future.cancel(false);
+            }
+            // Cancelling a thumbnail that is in flight moves on to the next thumbnail, otherwise move on here
+            if (!inFlight) {
+                executor.execute(this::next);
+            }
+        }
+
+        /**
+         * Finish this batch, completing any remaining futures and releasing the media.
+         *
+         * @param media media, may be <code>null</code>
+         */
+        private void finish(Media media) {
+            Task task;
+            while ((task = pollTask()) != null) {
+                task.future.complete(null);
+            }
+            if (media != null) {
+                media.events().removeMediaEventListener(this);
+                media.release();
+            }
+            finished(this);
+        }
+
+        private synchronized Task pollTask() {
+            return tasks.poll();
+        }
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Components that generate, and cache, large numbers of media thumbnails.
+ */
+package uk.co.caprica.vlcj.media.thumbnail;
@@ -19,6 +19,10 @@
 
 package uk.co.caprica.vlcj.medialist;
 
+import uk.co.caprica.vlcj.support.metrics.EventMetrics;
+
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Behaviour pertaining to media list events.
  */
@@ -26,6 +30,8 @@ public final class EventApi extends BaseApi {
 
     private final MediaListNativeEventManager eventManager;
 
+    private MediaListEventPublisher publisher;
+
     EventApi(MediaList mediaList) {
         super(mediaList);
 
@@ -50,8 +56,51 @@ public final class EventApi extends BaseApi {
         eventManager.removeEventListener(listener);
     }
 
+    /**
+     * Set a component to collect metrics for the dispatch of native events to listeners.
+     * <p>
+     * The same metrics component may be shared with other components.
+     *
+     * @param metrics metrics collector, or <code>null</code> to disable metrics
+     */
+    public void setMetrics(EventMetrics metrics) {
+        eventManager.setMetrics(metrics);
+    }
+
+    /**
+     * Get the component collecting metrics for the dispatch of native events to listeners.
+     *
+     * @return metrics collector, or <code>null</code> if metrics are not enabled
+     */
+    public EventMetrics getMetrics() {
+        return eventManager.getMetrics();
+    }
+
+    /**
+     * Get a reactive streams publisher of media list events.
+     * <p>
+     * The publisher is created when this method is first invoked, and it starts listening to native events when the
+     * first subscriber subscribes, and stops listening when the last subscription ends. Events are delivered to
+     * subscribers using the common fork-join pool.
+     * <p>
+     * All subscribers are completed when the media list is released.
+     *
+     * @return publisher
+     */
+    public synchronized MediaListEventPublisher publisher() {
+        if (publisher == null) {
+            publisher = new MediaListEventPublisher(this, ForkJoinPool.commonPool());
+        }
+        return publisher;
+    }
+
     @Override
     protected void release() {
+        synchronized (this) {
+            if (publisher != null) {
+                publisher.close();
+            }
+        }
         eventManager.release();
     }
 
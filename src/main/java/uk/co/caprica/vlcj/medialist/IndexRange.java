@@ -0,0 +1,84 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.medialist;
+
+/**
+ * An immutable contiguous range of media list indexes.
+ */
+public final class IndexRange {
+
+    /**
+     * First index in the range.
+     */
+    private final int start;
+
+    /**
+     * Last index in the range, inclusive.
+     */
+    private final int end;
+
+    /**
+     * Create an index range.
+     *
+     * @param start first index in the range
+     * @param end last index in the range, inclusive
+     */
+    public IndexRange(int start, int end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Get the first index in the range.
+     *
+     * @return start index
+     */
+    public int start() {
+        return start;
+    }
+
+    /**
+     * Get the last index in the range.
+     *
+     * @return end index, inclusive
+     */
+    public int end() {
+        return end;
+    }
+
+    /**
+     * Get the number of indexes in the range.
+     *
+     * @return count
+     */
+    public int count() {
+        return end - start + 1;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(40);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("start=").append(start).append(',');
+        sb.append("end=").append(end).append(']');
+        return sb.toString();
+    }
+
+}
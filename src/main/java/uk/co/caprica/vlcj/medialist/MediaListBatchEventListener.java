@@ -0,0 +1,66 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.medialist;
+
+import uk.co.caprica.vlcj.media.MediaRef;
+
+import javax.swing.*;
+import java.util.List;
+
+/**
+ * Specification for a component that is interested in receiving batches of media list item events.
+ * <p>
+ * Batches are delivered by a {@link MediaListEventBatcher}, on a dedicated batching thread. This is <em>not</em> the
+ * native event thread so it is safe to call back into LibVLC, but it is also not the Swing Event Dispatch thread so if
+ * updating user interface components in response to these events care must be taken to use
+ * {@link SwingUtilities#invokeLater(Runnable)}.
+ * <p>
+ * The media references are only valid for the duration of the method call, they must <em>not</em> be released by the
+ * listener. If a listener needs to keep a media reference it must use either {@link MediaRef#newMediaRef()} or
+ * {@link MediaRef#newMedia()}.
+ */
+public interface MediaListBatchEventListener {
+
+    /**
+     * A batch of media items was added to the list.
+     * <p>
+     * The index ranges are coalesced from the indexes reported for each individual item, in order, so for example
+     * appending many items to the list gives a single range.
+     *
+     * @param mediaList list
+     * @param items media items that were added, in the order they were added
+     * @param ranges coalesced ranges of indexes at which the items were added
+     */
+    void mediaListItemsAdded(MediaList mediaList, List<MediaRef> items, List<IndexRange> ranges);
+
+    /**
+     * A batch of media items was deleted from the list.
+     * <p>
+     * The index ranges are coalesced from the indexes reported for each individual item, in order, so for example
+     * deleting a contiguous block of items gives a single range - expressed as the indexes the items had before that
+     * block was deleted.
+     *
+     * @param mediaList list
+     * @param items media items that were deleted, in the order they were deleted
+     * @param ranges coalesced ranges of indexes at which the items were deleted
+     */
+    void mediaListItemsDeleted(MediaList mediaList, List<MediaRef> items, List<IndexRange> ranges);
+
+}
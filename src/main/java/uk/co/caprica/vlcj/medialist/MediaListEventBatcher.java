@@ -0,0 +1,229 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.medialist;
+
+import uk.co.caprica.vlcj.media.MediaRef;
+import uk.co.caprica.vlcj.support.eventmanager.EventBatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A media list event listener that collects item added and item deleted events and delivers them in batches.
+ * <p>
+ * When a media discoverer or a large playlist load adds thousands of items to a list, an ordinary listener receives
+ * thousands of individual events. This component instead collects those events over a short window and delivers them
+ * to a {@link MediaListBatchEventListener} as a single batch with coalesced index ranges.
+ * <p>
+ * A batch is delivered when the batching window, which starts when the first event of the batch is received, expires,
+ * or when {@link #flush()} is invoked - an application that adds many items itself can flush when it has finished. A
+ * run of added items and a run of deleted items are never mixed in the same batch, so ordering is preserved.
+ * <p>
+ * Batching is opt-in, simply add this component as an ordinary media list event listener:
+ * <pre>
+ * MediaListEventBatcher batcher = new MediaListEventBatcher(batchListener, 100, TimeUnit.MILLISECONDS);
+ * mediaList.events().addMediaListEventListener(batcher);
+ * </pre>
+ * The media of each item is retained while it is waiting in a batch, and released after the batch has been delivered.
+ * <p>
+ * This component must be released when it is no longer needed, after it has been removed as a listener.
+ */
+public final class MediaListEventBatcher extends MediaListEventAdapter {
+
+    /**
+     * Component that receives the batches.
+     */
+    private final MediaListBatchEventListener listener;
+
+    /**
+     * Component that collects the batches.
+     */
+    private final EventBatcher<BatchKind, Item> batcher;
+
+    /**
+     * Create a media list event batcher.
+     *
+     * @param listener component that receives the batches
+     * @param window batching window
+     * @param unit time unit for the batching window
+     */
+    public MediaListEventBatcher(MediaListBatchEventListener listener, long window, TimeUnit unit) {
+        this.listener = listener;
+        this.batcher = new EventBatcher<>(window, unit, this::deliver);
+    }
+
+    @Override
+    public void mediaListItemAdded(MediaList mediaList, MediaRef item, int index) {
+        batcher.add(new BatchKind(mediaList, true), new Item(item.newMediaRef(), index));
+    }
+
+    @Override
+    public void mediaListItemDeleted(MediaList mediaList, MediaRef item, int index) {
+        batcher.add(new BatchKind(mediaList, false), new Item(item.newMediaRef(), index));
+    }
+
+    /**
+     * Deliver any pending batch without waiting for the batching window to expire.
+     * <p>
+     * The batch is still delivered asynchronously.
+     */
+    public void flush() {
+        batcher.flush();
+    }
+
+    /**
+     * Release this component.
+     * <p>
+     * Any pending batch is delivered first.
+     */
+    public void release() {
+        batcher.release();
+    }
+
+    private void deliver(BatchKind kind, List<Item> items) {
+        List<MediaRef> mediaRefs = new ArrayList<>(items.size());
+        for (Item item : items) {
+            mediaRefs.add(item.mediaRef);
+        }
+        try {
+            List<IndexRange> ranges = kind.added ? addedRanges(items) : deletedRanges(items);
+            if (kind.added) {
+                listener.mediaListItemsAdded(kind.mediaList, mediaRefs, ranges);
+            } else {
+                listener.mediaListItemsDeleted(kind.mediaList, mediaRefs, ranges);
+            }
+        }
+        finally {
+            for (MediaRef mediaRef : mediaRefs) {
+                mediaRef.release();
+            }
+        }
+    }
+
+    /**
+     * Coalesce the indexes of added items.
+     * <p>
+     * Each item added at the index immediately after the previous one extends the current range.
+     *
+     * @param items added items
+     * @return index ranges
+     */
+    private static List<IndexRange> addedRanges(List<Item> items) {
+        List<IndexRange> ranges = new ArrayList<>();
+        int start = -1;
+        int end = -1;
+        for (Item item : items) {
+            if (start != -1 && item.index == end + 1) {
+                end = item.index;
+            } else {
+                if (start != -1) {
+                    ranges.add(new IndexRange(start, end));
+                }
+                start = item.index;
+                end = item.index;
+            }
+        }
+        if (start != -1) {
+            ranges.add(new IndexRange(start, end));
+        }
+        return ranges;
+    }
+
+    /**
+     * Coalesce the indexes of deleted items.
+     * <p>
+     * Deleting at the same index as the previous item (the following items shift down) extends the current range
+     * upwards, deleting at the index immediately before the previous item extends the current range downwards.
+     *
+     * @param items deleted items
+     * @return index ranges
+     */
+    private static List<IndexRange> deletedRanges(List<Item> items) {
+        List<IndexRange> ranges = new ArrayList<>();
+        int start = -1;
+        int end = -1;
+        for (Item item : items) {
+            if (start != -1 && item.index == start) {
+                end++;
+            } else if (start != -1 && item.index == start - 1) {
+                start = item.index;
+            } else {
+                if (start != -1) {
+                    ranges.add(new IndexRange(start, end));
+                }
+                start = item.index;
+                end = item.index;
+            }
+        }
+        if (start != -1) {
+            ranges.add(new IndexRange(start, end));
+        }
+        return ranges;
+    }
+
+    /**
+     * Kind of item in a batch.
+     */
+    private static final class BatchKind {
+
+        private final MediaList mediaList;
+
+        private final boolean added;
+
+        private BatchKind(MediaList mediaList, boolean added) {
+            this.mediaList = mediaList;
+            this.added = added;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof BatchKind)) {
+                return false;
+            }
+            BatchKind other = (BatchKind) obj;
+            return mediaList == other.mediaList && added == other.added;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(mediaList) + (added ? 1 : 0);
+        }
+    }
+
+    /**
+     * An item waiting in a batch.
+     */
+    private static final class Item {
+
+        private final MediaRef mediaRef;
+
+        private final int index;
+
+        private Item(MediaRef mediaRef, int index) {
+            this.mediaRef = mediaRef;
+            this.index = index;
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.medialist;
+
+import uk.co.caprica.vlcj.media.MediaRef;
+import uk.co.caprica.vlcj.support.flow.EventPublisher;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A reactive streams publisher of media list events.
+ * <p>
+ * Obtain the publisher via {@link EventApi#publisher()}, for example:
+ * <pre>
+ * mediaList.events().publisher().subscribe(subscriber, EventRecord.ofType(MediaListEventType.ITEM_ADDED));
+ * </pre>
+ * Events are delivered to subscribers asynchronously, not on the native event callback thread, so unlike an ordinary
+ * listener it is safe for a subscriber to call back into LibVLC.
+ */
+public final class MediaListEventPublisher extends EventPublisher<MediaListEventRecord> {
+
+    private final EventApi eventApi;
+
+    private final PublishingEventListener listener = new PublishingEventListener();
+
+    MediaListEventPublisher(EventApi eventApi, Executor executor) {
+        super(executor);
+        this.eventApi = eventApi;
+    }
+
+    @Override
+    protected void onActivate() {
+        eventApi.addMediaListEventListener(listener);
+    }
+
+    @Override
+    protected void onDeactivate() {
+        eventApi.removeMediaListEventListener(listener);
+    }
+
+    /**
+     * Listener that converts native events to published event records.
+     */
+    private final class PublishingEventListener implements MediaListEventListener {
+
+        @Override
+        public void mediaListWillAddItem(MediaList mediaList, MediaRef item, int index) {
+            publish(new MediaListEventRecord(mediaList, MediaListEventType.WILL_ADD_ITEM, index));
+        }
+
+        @Override
+        public void mediaListItemAdded(MediaList mediaList, MediaRef item, int index) {
+            publish(new MediaListEventRecord(mediaList, MediaListEventType.ITEM_ADDED, index));
+        }
+
+        @Override
+        public void mediaListWillDeleteItem(MediaList mediaList, MediaRef item, int index) {
+            publish(new MediaListEventRecord(mediaList, MediaListEventType.WILL_DELETE_ITEM, index));
+        }
+
+        @Override
+        public void mediaListItemDeleted(MediaList mediaList, MediaRef item, int index) {
+            publish(new MediaListEventRecord(mediaList, MediaListEventType.ITEM_DELETED, index));
+        }
+
+        @Override
+        public void mediaListEndReached(MediaList mediaList) {
+            publish(new MediaListEventRecord(mediaList, MediaListEventType.END_REACHED, -1));
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.medialist;
+
+import uk.co.caprica.vlcj.support.flow.EventRecord;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * An immutable record of a media list event, as published by a {@link MediaListEventPublisher}.
+ * <p>
+ * The media of an item is not carried since a native media reference can not outlive the native callback.
+ */
+public final class MediaListEventRecord extends EventRecord<MediaList, MediaListEventType> {
+
+    private static final Set<MediaListEventType> ITEM_EVENTS = EnumSet.of(
+        MediaListEventType.WILL_ADD_ITEM,
+        MediaListEventType.ITEM_ADDED,
+        MediaListEventType.WILL_DELETE_ITEM,
+        MediaListEventType.ITEM_DELETED
+    );
+
+    private final int index;
+
+    MediaListEventRecord(MediaList mediaList, MediaListEventType type, int index) {
+        super(mediaList, type);
+        this.index = index;
+    }
+
+    /**
+     * Get the index of the item.
+     * <p>
+     * Available for {@link MediaListEventType#WILL_ADD_ITEM}, {@link MediaListEventType#ITEM_ADDED},
+     * {@link MediaListEventType#WILL_DELETE_ITEM} and {@link MediaListEventType#ITEM_DELETED}.
+     *
+     * @return index
+     */
+    public int index() {
+        requireType(ITEM_EVENTS);
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(60);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("type=").append(type()).append(',');
+        sb.append("index=").append(index).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.medialist;
+
+/**
+ * Enumeration of media list event types, for events published by a {@link MediaListEventPublisher}.
+ * <p>
+ * The values carried by a {@link MediaListEventRecord} of each type are documented on each constant - they correspond
+ * to the parameters of the equivalent {@link MediaListEventListener} method.
+ */
+public enum MediaListEventType {
+
+    /**
+     * An item is about to be added.
+     * <p>
+     * Values: {@link MediaListEventRecord#index()}. The media is not carried since a native media reference can not
+     * outlive the native callback.
+     */
+    WILL_ADD_ITEM,
+
+    /**
+     * An item was added.
+     * <p>
+     * Values: {@link MediaListEventRecord#index()}. The media is not carried since a native media reference can not
+     * outlive the native callback.
+     */
+    ITEM_ADDED,
+
+    /**
+     * An item is about to be deleted.
+     * <p>
+     * Values: {@link MediaListEventRecord#index()}. The media is not carried since a native media reference can not
+     * outlive the native callback.
+     */
+    WILL_DELETE_ITEM,
+
+    /**
+     * An item was deleted.
+     * <p>
+     * Values: {@link MediaListEventRecord#index()}. The media is not carried since a native media reference can not
+     * outlive the native callback.
+     */
+    ITEM_DELETED,
+
+    /**
+     * The end of the list was reached.
+     */
+    END_REACHED
+
+}
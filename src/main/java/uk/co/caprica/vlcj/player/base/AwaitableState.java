@@ -0,0 +1,76 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.base;
+
+/**
+ * Enumeration of media player states, or conditions, that can be awaited asynchronously.
+ *
+ * @see EventApi#awaitState(AwaitableState)
+ */
+public enum AwaitableState {
+
+    /**
+     * The media started playing.
+     */
+    PLAYING,
+
+    /**
+     * The media was paused.
+     */
+    PAUSED,
+
+    /**
+     * The media player stopped.
+     */
+    STOPPED,
+
+    /**
+     * The media finished playing.
+     */
+    FINISHED,
+
+    /**
+     * The media player raised an error.
+     */
+    ERROR,
+
+    /**
+     * A video output was created, i.e. the first frame of video is about to be rendered.
+     * <p>
+     * Media that has no video will never reach this state.
+     */
+    FIRST_FRAME,
+
+    /**
+     * Buffering reached 100%.
+     */
+    BUFFERED,
+
+    /**
+     * The length of the media is known.
+     */
+    LENGTH_KNOWN,
+
+    /**
+     * The media was successfully parsed.
+     */
+    PARSED
+
+}
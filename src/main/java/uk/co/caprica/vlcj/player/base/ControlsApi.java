@@ -19,6 +19,9 @@
 
 package uk.co.caprica.vlcj.player.base;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_media_player_jump_time;
@@ -79,7 +82,27 @@ public final class ControlsApi extends BaseApi {
      * @return <code>true</code> if the media started playing, <code>false</code> on error
      */
     public boolean start() {
-        return new MediaPlayerPlayLatch(mediaPlayer).play();
+        return await(playAsync());
+    }
+
+    /**
+     * Begin play-back, without waiting for the media to start playing or for an error to occur.
+     * <p>
+     * If called when the play-back is paused, the play-back will resume from the current position.
+     * <p>
+     * The returned future completes with <code>true</code> if the media started playing, or <code>false</code> if the
+     * media could not be played or there was an error. A timeout can be applied with
+     * {@link CompletableFuture#orTimeout(long, java.util.concurrent.TimeUnit)}.
+     *
+     * @return future
+     * @see EventApi#awaitState(AwaitableState)
+     */
+    public CompletableFuture<Boolean> playAsync() {
+        CompletableFuture<Boolean> playing = mediaPlayer.events().stateAwaiter().await(AwaitableState.PLAYING);
+        if (!play()) {
+            playing.complete(false);
+        }
+        return playing;
     }
 
     /**
@@ -97,8 +120,11 @@ public final class ControlsApi extends BaseApi {
      * @see #isStopRequested()
      */
     public boolean stop() {
-        stopRequested.set(true);
-        return new MediaPlayerStopLatch(mediaPlayer).stop();
+        CompletableFuture<Boolean> stopped = mediaPlayer.events().stateAwaiter().await(AwaitableState.STOPPED);
+        if (!stopAsync()) {
+            stopped.complete(false);
+        }
+        return await(stopped);
     }
 
     /**
@@ -114,6 +140,7 @@ public final class ControlsApi extends BaseApi {
      */
     public boolean stopAsync() {
         stopRequested.set(true);
+        mediaPlayer.flightRecorder().stopRequested();
         return libvlc_media_player_stop_async(mediaPlayerInstance) == 0;
     }
 
@@ -279,6 +306,7 @@ public final class ControlsApi extends BaseApi {
      * @return <code>true</code> if successful; <code>false</code> otherwise
      */
     public boolean setTime(long time, boolean fast) {
+        mediaPlayer.flightRecorder().seekRequested(time, -1, fast);
         return libvlc_media_player_set_time(mediaPlayerInstance, Math.max(time, 0), fast ? 1 : 0) == 0;
     }
 
@@ -293,6 +321,7 @@ public final class ControlsApi extends BaseApi {
      * @return <code>true</code> if successful; <code>false</code> otherwise
      */
     public boolean jumpTime(long time) {
+        mediaPlayer.flightRecorder().seekRequested(time, -1, false);
         return libvlc_media_player_jump_time(mediaPlayerInstance, Math.max(time, 0)) == 0;
     }
 
@@ -306,9 +335,53 @@ public final class ControlsApi extends BaseApi {
      * @return <code>true</code> if successful; <code>false</code> otherwise
      */
     public boolean setPosition(double position, boolean fast) {
+        mediaPlayer.flightRecorder().seekRequested(-1, position, fast);
         return libvlc_media_player_set_position(mediaPlayerInstance, Math.max(position, 0), fast ? 1 : 0) == 0;
     }
 
+    /**
+     * Jump to a specific moment, without waiting for the seek to complete.
+     * <p>
+     * The returned future completes with <code>true</code> when the play-back time reaches the requested time, or
+     * <code>false</code> if the seek could not be requested, or the media player stopped or raised an error first.
+     * <p>
+     * LibVLC does not raise an event specifically for a completed seek, and time changed events are raised continuously
+     * during play-back, so the seek is taken to be complete when a time changed event reports a time within one second
+     * of the requested time. If the seek never reaches the requested time (e.g. the time is beyond the end of the
+     * media) the future does not complete, so applications should normally apply a timeout.
+     *
+     * @param time time since the beginning, in milliseconds
+     * @return future
+     * @see #setTime(long)
+     */
+    public CompletableFuture<Boolean> seekAsync(long time) {
+        CompletableFuture<Boolean> seeked = mediaPlayer.events().stateAwaiter().awaitSeek(time);
+        if (!setTime(time)) {
+            seeked.complete(false);
+        }
+        return seeked;
+    }
+
+    /**
+     * Jump to a specific position, without waiting for the seek to complete.
+     * <p>
+     * The returned future completes with <code>true</code> when the play-back position reaches the requested position
+     * (within 1%), or <code>false</code> if the seek could not be requested, or the media player stopped or raised an
+     * error first.
+     *
+     * @param position position value, a percentage (e.g. 0.15 is 15%)
+     * @return future
+     * @see #setPosition(double)
+     * @see #seekAsync(long)
+     */
+    public CompletableFuture<Boolean> seekAsync(double position) {
+        CompletableFuture<Boolean> seeked = mediaPlayer.events().stateAwaiter().awaitSeek(position);
+        if (!setPosition(position)) {
+            seeked.complete(false);
+        }
+        return seeked;
+    }
+
     /**
      * Set an AB loop by time.
      * <p>
@@ -396,4 +469,23 @@ public final class ControlsApi extends BaseApi {
     public boolean getRepeat() {
         return repeat;
     }
+
+    /**
+     * Block until a future completes.
+     *
+     * @param future future
+     * @return result of the future, or <code>false</code> if the wait was interrupted or the future failed
+     */
+    private static boolean await(CompletableFuture<Boolean> future) {
+        try {
+            return future.get();
+        }
+        catch (InterruptedException e) {
+            future.cancel(false);
+            return false;
+        }
+        catch (ExecutionException | CancellationException e) {
+            return false;
+        }
+    }
 }
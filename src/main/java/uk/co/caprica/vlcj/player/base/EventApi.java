@@ -20,11 +20,15 @@
 package uk.co.caprica.vlcj.player.base;
 
 import uk.co.caprica.vlcj.media.MediaEventListener;
+import uk.co.caprica.vlcj.media.MediaParsedStatus;
 import uk.co.caprica.vlcj.player.base.events.MediaPlayerEvent;
+import uk.co.caprica.vlcj.support.metrics.EventMetrics;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -38,6 +42,10 @@ public final class EventApi extends BaseApi {
 
     private final MediaPlayerNativeEventManager eventManager;
 
+    private MediaPlayerEventPublisher publisher;
+
+    private MediaPlayerStateAwaiter stateAwaiter;
+
     private final PlaybackTimeHandler playbackTimeHandler = new PlaybackTimeHandler();
 
     private final List<MediaPlayerTimerListener> timerListenerList = new CopyOnWriteArrayList<>();
@@ -175,12 +183,127 @@ public final class EventApi extends BaseApi {
         }
     }
 
+    /**
+     * Set a component to collect metrics for the dispatch of native events to listeners.
+     * <p>
+     * The same metrics component may be shared with other components.
+     *
+     * @param metrics metrics collector, or <code>null</code> to disable metrics
+     */
+    public void setMetrics(EventMetrics metrics) {
+        eventManager.setMetrics(metrics);
+    }
+
+    /**
+     * Get the component collecting metrics for the dispatch of native events to listeners.
+     *
+     * @return metrics collector, or <code>null</code> if metrics are not enabled
+     */
+    public EventMetrics getMetrics() {
+        return eventManager.getMetrics();
+    }
+
+    /**
+     * Get a reactive streams publisher of media player events.
+     * <p>
+     * The publisher is created when this method is first invoked, and it starts listening to native events when the
+     * first subscriber subscribes, and stops listening when the last subscription ends. Events are delivered to
+     * subscribers using the common fork-join pool.
+     * <p>
+     * All subscribers are completed when the media player is released.
+     *
+     * @return publisher
+     */
+    public synchronized MediaPlayerEventPublisher publisher() {
+        if (publisher == null) {
+            publisher = new MediaPlayerEventPublisher(this, ForkJoinPool.commonPool());
+        }
+        return publisher;
+    }
+
+    /**
+     * Wait asynchronously for the media player to reach a state.
+     * <p>
+     * The returned future completes with <code>true</code> when the state is reached, or with <code>false</code> if
+     * the media player raises an error first. Some states that are already current when this method is invoked complete
+     * the future immediately: {@link AwaitableState#PLAYING}, {@link AwaitableState#FIRST_FRAME},
+     * {@link AwaitableState#LENGTH_KNOWN} and {@link AwaitableState#PARSED}. Other states are transitions and so are
+     * only reached by a subsequent event.
+     * <p>
+     * No thread is used while waiting. The future is completed on a thread from the common fork-join pool, never on the
+     * native event callback thread, so dependent stages may safely call back into LibVLC.
+     * <p>
+     * Cancelling the future removes the wait.
+     *
+     * @param state state to wait for
+     * @return future
+     */
+    public CompletableFuture<Boolean> awaitState(AwaitableState state) {
+        CompletableFuture<Boolean> future = stateAwaiter().await(state);
+        if (isCurrent(state)) {
+            future.complete(true);
+        }
+        return future;
+    }
+
+    /**
+     * Wait asynchronously, with a timeout, for the media player to reach a state.
+     * <p>
+     * If the timeout expires the future completes exceptionally with a {@link java.util.concurrent.TimeoutException}.
+     *
+     * @param state state to wait for
+     * @param timeout timeout
+     * @param unit time unit for the timeout
+     * @return future
+     * @see #awaitState(AwaitableState)
+     */
+    public CompletableFuture<Boolean> awaitState(AwaitableState state, long timeout, TimeUnit unit) {
+        return awaitState(state).orTimeout(timeout, unit);
+    }
+
+    /**
+     * Get the component used to wait for media player states, creating it if necessary.
+     *
+     * @return state awaiter
+     */
+    synchronized MediaPlayerStateAwaiter stateAwaiter() {
+        if (stateAwaiter == null) {
+            stateAwaiter = new MediaPlayerStateAwaiter();
+            addMediaPlayerEventListener(stateAwaiter);
+            addMediaEventListener(stateAwaiter.mediaEventListener());
+        }
+        return stateAwaiter;
+    }
+
+    private boolean isCurrent(AwaitableState state) {
+        switch (state) {
+            case PLAYING:
+                return mediaPlayer.status().isPlaying();
+            case FIRST_FRAME:
+                return mediaPlayer.status().videoOutputs() > 0;
+            case LENGTH_KNOWN:
+                return mediaPlayer.status().length() > 0;
+            case PARSED:
+                return mediaPlayer.media().isValid() && mediaPlayer.media().parsing().status() == MediaParsedStatus.DONE;
+            default:
+                return false;
+        }
+    }
+
     void raiseEvent(MediaPlayerEvent event) {
         eventManager.raiseEvent(event);
     }
 
     @Override
     protected void release() {
+        synchronized (this) {
+            if (publisher != null) {
+                publisher.close();
+            }
+            if (stateAwaiter != null) {
+                stateAwaiter.release();
+            }
+        }
         eventManager.release();
 
         timerListenerList.clear();
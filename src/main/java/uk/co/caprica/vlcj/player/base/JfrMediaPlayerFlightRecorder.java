@@ -0,0 +1,220 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.base;
+
+import jdk.jfr.FlightRecorder;
+import uk.co.caprica.vlcj.support.jfr.MediaBufferingEvent;
+import uk.co.caprica.vlcj.support.jfr.MediaChangeEvent;
+import uk.co.caprica.vlcj.support.jfr.MediaErrorEvent;
+import uk.co.caprica.vlcj.support.jfr.MediaFirstFrameEvent;
+import uk.co.caprica.vlcj.support.jfr.MediaOpenEvent;
+import uk.co.caprica.vlcj.support.jfr.MediaSeekEvent;
+import uk.co.caprica.vlcj.support.jfr.MediaStopEvent;
+
+/**
+ * Implementation of a media player flight recorder that emits flight recorder events.
+ * <p>
+ * This class must only be loaded if the flight recorder module is present, see {@link MediaPlayerFlightRecorder#create()}.
+ * <p>
+ * Events that span a period of time (e.g. opening media) are begun when the first state change is seen and committed
+ * when the corresponding final state change is seen. An event is only created if that event type is enabled in a flight
+ * recording when the period begins, so when flight recording is not in use nothing is retained.
+ * <p>
+ * Requests (seek, stop) are made on application threads whereas native events are processed on the native event
+ * callback thread, so pending events are held in volatile fields.
+ */
+final class JfrMediaPlayerFlightRecorder extends MediaPlayerFlightRecorder {
+
+    private volatile String mrl;
+
+    private volatile MediaChangeEvent changeEvent;
+
+    private volatile MediaOpenEvent openEvent;
+
+    private volatile MediaBufferingEvent bufferingEvent;
+
+    private volatile MediaFirstFrameEvent firstFrameEvent;
+
+    private volatile MediaSeekEvent seekEvent;
+
+    private volatile MediaStopEvent stopEvent;
+
+    @Override
+    boolean isActive() {
+        return FlightRecorder.isInitialized();
+    }
+
+    @Override
+    void mediaChanging(String mrl) {
+        MediaChangeEvent changeEvent = new MediaChangeEvent();
+        if (changeEvent.isEnabled()) {
+            changeEvent.begin();
+            this.changeEvent = changeEvent;
+        }
+        this.mrl = mrl;
+        openEvent = null;
+        bufferingEvent = null;
+        firstFrameEvent = null;
+        seekEvent = null;
+    }
+
+    @Override
+    void mediaChanged() {
+        MediaChangeEvent changeEvent = this.changeEvent;
+        if (changeEvent != null) {
+            this.changeEvent = null;
+            changeEvent.end();
+            if (changeEvent.shouldCommit()) {
+                changeEvent.mrl = mrl;
+                changeEvent.commit();
+            }
+        }
+    }
+
+    @Override
+    void opening() {
+        MediaOpenEvent openEvent = new MediaOpenEvent();
+        if (openEvent.isEnabled()) {
+            openEvent.begin();
+            this.openEvent = openEvent;
+        }
+        MediaFirstFrameEvent firstFrameEvent = new MediaFirstFrameEvent();
+        if (firstFrameEvent.isEnabled()) {
+            firstFrameEvent.begin();
+            this.firstFrameEvent = firstFrameEvent;
+        }
+    }
+
+    @Override
+    void buffering(float newCache) {
+        MediaBufferingEvent bufferingEvent = this.bufferingEvent;
+        if (bufferingEvent == null) {
+            if (newCache < 100.0f) {
+                bufferingEvent = new MediaBufferingEvent();
+                if (bufferingEvent.isEnabled()) {
+                    bufferingEvent.begin();
+                    this.bufferingEvent = bufferingEvent;
+                }
+            }
+        } else if (newCache >= 100.0f) {
+            this.bufferingEvent = null;
+            bufferingEvent.end();
+            if (bufferingEvent.shouldCommit()) {
+                bufferingEvent.mrl = mrl;
+                bufferingEvent.commit();
+            }
+        }
+    }
+
+    @Override
+    void playing() {
+        commitOpen(true);
+    }
+
+    @Override
+    void vout(int count) {
+        MediaFirstFrameEvent firstFrameEvent = this.firstFrameEvent;
+        if (firstFrameEvent != null && count > 0) {
+            this.firstFrameEvent = null;
+            firstFrameEvent.end();
+            if (firstFrameEvent.shouldCommit()) {
+                firstFrameEvent.mrl = mrl;
+                firstFrameEvent.commit();
+            }
+        }
+    }
+
+    @Override
+    void error() {
+        commitOpen(false);
+        firstFrameEvent = null;
+        bufferingEvent = null;
+        MediaErrorEvent errorEvent = new MediaErrorEvent();
+        if (errorEvent.shouldCommit()) {
+            errorEvent.mrl = mrl;
+            errorEvent.commit();
+        }
+    }
+
+    @Override
+    void seekRequested(long time, double position, boolean fast) {
+        MediaSeekEvent seekEvent = new MediaSeekEvent();
+        if (seekEvent.isEnabled()) {
+            seekEvent.time = time;
+            seekEvent.position = position;
+            seekEvent.fast = fast;
+            seekEvent.begin();
+            this.seekEvent = seekEvent;
+        }
+    }
+
+    @Override
+    void seeked() {
+        MediaSeekEvent seekEvent = this.seekEvent;
+        if (seekEvent != null) {
+            this.seekEvent = null;
+            seekEvent.end();
+            if (seekEvent.shouldCommit()) {
+                seekEvent.mrl = mrl;
+                seekEvent.commit();
+            }
+        }
+    }
+
+    @Override
+    void stopRequested() {
+        MediaStopEvent stopEvent = new MediaStopEvent();
+        if (stopEvent.isEnabled()) {
+            stopEvent.begin();
+            this.stopEvent = stopEvent;
+        }
+    }
+
+    @Override
+    void stopped() {
+        openEvent = null;
+        bufferingEvent = null;
+        firstFrameEvent = null;
+        seekEvent = null;
+        MediaStopEvent stopEvent = this.stopEvent;
+        if (stopEvent != null) {
+            this.stopEvent = null;
+            stopEvent.end();
+            if (stopEvent.shouldCommit()) {
+                stopEvent.mrl = mrl;
+                stopEvent.commit();
+            }
+        }
+    }
+
+    private void commitOpen(boolean success) {
+        MediaOpenEvent openEvent = this.openEvent;
+        if (openEvent != null) {
+            this.openEvent = null;
+            openEvent.end();
+            if (openEvent.shouldCommit()) {
+                openEvent.mrl = mrl;
+                openEvent.success = success;
+                openEvent.commit();
+            }
+        }
+    }
+
+}
@@ -452,18 +452,26 @@ public final class MediaApi extends BaseApi {
      * @return <code>true</code> if the media was successfully changed; <code>false</code> on error, or if newMedia was <code>null</code>
      */
     private boolean changeMedia(Media newMedia) {
-        if (this.media != null) {
-            this.media.release();
+        MediaPlayerFlightRecorder flightRecorder = mediaPlayer.flightRecorder();
+        String mrl = newMedia != null && flightRecorder.isActive() ? newMedia.info().mrl() : null;
+        flightRecorder.mediaChanging(mrl);
+        try {
+            if (this.media != null) {
+                this.media.release();
+            }
+            if (newMedia != null) {
+                this.media = newMedia;
+                setPersistentEventListeners();
+                applyMedia();
+                return true;
+            } else {
+                this.media = null;
+                libvlc_media_player_set_media(mediaPlayerInstance, null);
+                return false;
+            }
         }
-        if (newMedia != null) {
-            this.media = newMedia;
-            setPersistentEventListeners();
-            applyMedia();
-            return true;
-        } else {
-            this.media = null;
-            libvlc_media_player_set_media(mediaPlayerInstance, null);
-            return false;
+        finally {
+            flightRecorder.mediaChanged();
         }
     }
 
@@ -53,6 +53,11 @@ public class MediaPlayer {
      */
     private final TaskExecutor executor = new TaskExecutor();
 
+    /**
+     * Component used to emit flight recorder events for the media player life-cycle.
+     */
+    private final MediaPlayerFlightRecorder flightRecorder = MediaPlayerFlightRecorder.create();
+
     /**
      * Arbitrary object associated with this media list player.
      */
@@ -321,6 +326,15 @@ public class MediaPlayer {
         // Base implementation does nothing
     }
 
+    /**
+     * Get the component used to emit flight recorder events for the media player life-cycle.
+     *
+     * @return flight recorder component
+     */
+    final MediaPlayerFlightRecorder flightRecorder() {
+        return flightRecorder;
+    }
+
     /**
      * Provide access to the native media player instance.
      * <p>
@@ -0,0 +1,241 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.base;
+
+import uk.co.caprica.vlcj.media.MediaRef;
+import uk.co.caprica.vlcj.media.TrackType;
+import uk.co.caprica.vlcj.support.flow.EventPublisher;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A reactive streams publisher of media player events.
+ * <p>
+ * Obtain the publisher via {@link EventApi#publisher()}, for example to receive only time and length changes:
+ * <pre>
+ * mediaPlayer.events().publisher().subscribe(subscriber,
+ *     EventRecord.ofType(MediaPlayerEventType.TIME_CHANGED, MediaPlayerEventType.LENGTH_CHANGED));
+ * </pre>
+ * Events are delivered to subscribers asynchronously, not on the native event callback thread, so unlike an ordinary
+ * listener it is safe for a subscriber to call back into LibVLC.
+ */
+public final class MediaPlayerEventPublisher extends EventPublisher<MediaPlayerEventRecord> {
+
+    private final EventApi eventApi;
+
+    private final PublishingEventListener listener = new PublishingEventListener();
+
+    MediaPlayerEventPublisher(EventApi eventApi, Executor executor) {
+        super(executor);
+        this.eventApi = eventApi;
+    }
+
+    @Override
+    protected void onActivate() {
+        eventApi.addMediaPlayerEventListener(listener);
+    }
+
+    @Override
+    protected void onDeactivate() {
+        eventApi.removeMediaPlayerEventListener(listener);
+    }
+
+    /**
+     * Listener that converts native events to published event records.
+     */
+    private final class PublishingEventListener implements MediaPlayerEventListener {
+
+        @Override
+        public void mediaChanged(MediaPlayer mediaPlayer, MediaRef media) {
+            publish(MediaPlayerEventRecord.of(mediaPlayer, MediaPlayerEventType.MEDIA_CHANGED));
+        }
+
+        @Override
+        public void opening(MediaPlayer mediaPlayer) {
+            publish(MediaPlayerEventRecord.of(mediaPlayer, MediaPlayerEventType.OPENING));
+        }
+
+        @Override
+        public void buffering(MediaPlayer mediaPlayer, float newCache) {
+            publish(MediaPlayerEventRecord.ofDouble(mediaPlayer, MediaPlayerEventType.BUFFERING, newCache));
+        }
+
+        @Override
+        public void playing(MediaPlayer mediaPlayer) {
+            publish(MediaPlayerEventRecord.of(mediaPlayer, MediaPlayerEventType.PLAYING));
+        }
+
+        @Override
+        public void paused(MediaPlayer mediaPlayer) {
+            publish(MediaPlayerEventRecord.of(mediaPlayer, MediaPlayerEventType.PAUSED));
+        }
+
+        @Override
+        public void stopped(MediaPlayer mediaPlayer) {
+            publish(MediaPlayerEventRecord.of(mediaPlayer, MediaPlayerEventType.STOPPED));
+        }
+
+        @Override
+        public void forward(MediaPlayer mediaPlayer) {
+            publish(MediaPlayerEventRecord.of(mediaPlayer, MediaPlayerEventType.FORWARD));
+        }
+
+        @Override
+        public void backward(MediaPlayer mediaPlayer) {
+            publish(MediaPlayerEventRecord.of(mediaPlayer, MediaPlayerEventType.BACKWARD));
+        }
+
+        @Override
+        public void stopping(MediaPlayer mediaPlayer) {
+            publish(MediaPlayerEventRecord.of(mediaPlayer, MediaPlayerEventType.STOPPING));
+        }
+
+        @Override
+        public void finished(MediaPlayer mediaPlayer) {
+            publish(MediaPlayerEventRecord.of(mediaPlayer, MediaPlayerEventType.FINISHED));
+        }
+
+        @Override
+        public void timeChanged(MediaPlayer mediaPlayer, long newTime) {
+            publish(MediaPlayerEventRecord.ofLong(mediaPlayer, MediaPlayerEventType.TIME_CHANGED, newTime));
+        }
+
+        @Override
+        public void positionChanged(MediaPlayer mediaPlayer, double newPosition) {
+            publish(MediaPlayerEventRecord.ofDouble(mediaPlayer, MediaPlayerEventType.POSITION_CHANGED, newPosition));
+        }
+
+        @Override
+        public void seekableChanged(MediaPlayer mediaPlayer, int newSeekable) {
+            publish(MediaPlayerEventRecord.ofInt(mediaPlayer, MediaPlayerEventType.SEEKABLE_CHANGED, newSeekable));
+        }
+
+        @Override
+        public void pausableChanged(MediaPlayer mediaPlayer, int newPausable) {
+            publish(MediaPlayerEventRecord.ofInt(mediaPlayer, MediaPlayerEventType.PAUSABLE_CHANGED, newPausable));
+        }
+
+        @Override
+        public void titleListChanged(MediaPlayer mediaPlayer) {
+            publish(MediaPlayerEventRecord.of(mediaPlayer, MediaPlayerEventType.TITLE_LIST_CHANGED));
+        }
+
+        @Override
+        public void titleSelectionChanged(MediaPlayer mediaPlayer, TitleDescription title, int index) {
+            publish(MediaPlayerEventRecord.titleSelectionChanged(mediaPlayer, title, index));
+        }
+
+        @Override
+        public void snapshotTaken(MediaPlayer mediaPlayer, String filename) {
+            publish(MediaPlayerEventRecord.ofString(mediaPlayer, MediaPlayerEventType.SNAPSHOT_TAKEN, filename));
+        }
+
+        @Override
+        public void lengthChanged(MediaPlayer mediaPlayer, long newLength) {
+            publish(MediaPlayerEventRecord.ofLong(mediaPlayer, MediaPlayerEventType.LENGTH_CHANGED, newLength));
+        }
+
+        @Override
+        public void videoOutput(MediaPlayer mediaPlayer, int newCount) {
+            publish(MediaPlayerEventRecord.ofInt(mediaPlayer, MediaPlayerEventType.VIDEO_OUTPUT, newCount));
+        }
+
+        @Override
+        public void elementaryStreamAdded(MediaPlayer mediaPlayer, TrackType type, int id, String streamId) {
+            publish(MediaPlayerEventRecord.elementaryStream(mediaPlayer, MediaPlayerEventType.ELEMENTARY_STREAM_ADDED, type, id, streamId));
+        }
+
+        @Override
+        public void elementaryStreamDeleted(MediaPlayer mediaPlayer, TrackType type, int id, String streamId) {
+            publish(MediaPlayerEventRecord.elementaryStream(mediaPlayer, MediaPlayerEventType.ELEMENTARY_STREAM_DELETED, type, id, streamId));
+        }
+
+        @Override
+        public void elementaryStreamUpdated(MediaPlayer mediaPlayer, TrackType type, int id, String streamId) {
+            publish(MediaPlayerEventRecord.elementaryStream(mediaPlayer, MediaPlayerEventType.ELEMENTARY_STREAM_UPDATED, type, id, streamId));
+        }
+
+        @Override
+        public void elementaryStreamSelected(MediaPlayer mediaPlayer, TrackType type, String unselectedStreamId, String selectedStreamId) {
+            publish(MediaPlayerEventRecord.elementaryStreamSelected(mediaPlayer, type, unselectedStreamId, selectedStreamId));
+        }
+
+        @Override
+        public void corked(MediaPlayer mediaPlayer, boolean corked) {
+            publish(MediaPlayerEventRecord.ofBoolean(mediaPlayer, MediaPlayerEventType.CORKED, corked));
+        }
+
+        @Override
+        public void muted(MediaPlayer mediaPlayer, boolean muted) {
+            publish(MediaPlayerEventRecord.ofBoolean(mediaPlayer, MediaPlayerEventType.MUTED, muted));
+        }
+
+        @Override
+        public void volumeChanged(MediaPlayer mediaPlayer, float volume) {
+            publish(MediaPlayerEventRecord.ofDouble(mediaPlayer, MediaPlayerEventType.VOLUME_CHANGED, volume));
+        }
+
+        @Override
+        public void audioDeviceChanged(MediaPlayer mediaPlayer, String audioDevice) {
+            publish(MediaPlayerEventRecord.ofString(mediaPlayer, MediaPlayerEventType.AUDIO_DEVICE_CHANGED, audioDevice));
+        }
+
+        @Override
+        public void chapterChanged(MediaPlayer mediaPlayer, int newChapter) {
+            publish(MediaPlayerEventRecord.ofInt(mediaPlayer, MediaPlayerEventType.CHAPTER_CHANGED, newChapter));
+        }
+
+        @Override
+        public void recordChanged(MediaPlayer mediaPlayer, boolean recording, String recordedFilePath) {
+            publish(MediaPlayerEventRecord.recordChanged(mediaPlayer, recording, recordedFilePath));
+        }
+
+        @Override
+        public void programAdded(MediaPlayer mediaPlayer, int id) {
+            publish(MediaPlayerEventRecord.ofInt(mediaPlayer, MediaPlayerEventType.PROGRAM_ADDED, id));
+        }
+
+        @Override
+        public void programDeleted(MediaPlayer mediaPlayer, int id) {
+            publish(MediaPlayerEventRecord.ofInt(mediaPlayer, MediaPlayerEventType.PROGRAM_DELETED, id));
+        }
+
+        @Override
+        public void programUpdated(MediaPlayer mediaPlayer, int id) {
+            publish(MediaPlayerEventRecord.ofInt(mediaPlayer, MediaPlayerEventType.PROGRAM_UPDATED, id));
+        }
+
+        @Override
+        public void programSelected(MediaPlayer mediaPlayer, int unselectedId, int selectedId) {
+            publish(MediaPlayerEventRecord.ofInts(mediaPlayer, MediaPlayerEventType.PROGRAM_SELECTED, unselectedId, selectedId));
+        }
+
+        @Override
+        public void error(MediaPlayer mediaPlayer) {
+            publish(MediaPlayerEventRecord.of(mediaPlayer, MediaPlayerEventType.ERROR));
+        }
+
+        @Override
+        public void mediaPlayerReady(MediaPlayer mediaPlayer) {
+            publish(MediaPlayerEventRecord.of(mediaPlayer, MediaPlayerEventType.MEDIA_PLAYER_READY));
+        }
+    }
+
+}
@@ -0,0 +1,440 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.base;
+
+import uk.co.caprica.vlcj.media.TrackType;
+import uk.co.caprica.vlcj.support.flow.EventRecord;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * An immutable record of a media player event, as published by a {@link MediaPlayerEventPublisher}.
+ * <p>
+ * Values are held in a small number of typed fields shared between event types, so nothing is boxed - each accessor
+ * documents the event types for which it is available.
+ * <p>
+ * The media is not carried since a native media reference can not outlive the native callback.
+ */
+public final class MediaPlayerEventRecord extends EventRecord<MediaPlayer, MediaPlayerEventType> {
+
+    private static final Set<MediaPlayerEventType> ALL_ELEMENTARY_STREAM_EVENTS = EnumSet.of(
+        MediaPlayerEventType.ELEMENTARY_STREAM_ADDED,
+        MediaPlayerEventType.ELEMENTARY_STREAM_DELETED,
+        MediaPlayerEventType.ELEMENTARY_STREAM_UPDATED,
+        MediaPlayerEventType.ELEMENTARY_STREAM_SELECTED
+    );
+
+    private static final Set<MediaPlayerEventType> STREAM_AND_PROGRAM_EVENTS = EnumSet.of(
+        MediaPlayerEventType.ELEMENTARY_STREAM_ADDED,
+        MediaPlayerEventType.ELEMENTARY_STREAM_DELETED,
+        MediaPlayerEventType.ELEMENTARY_STREAM_UPDATED,
+        MediaPlayerEventType.PROGRAM_ADDED,
+        MediaPlayerEventType.PROGRAM_DELETED,
+        MediaPlayerEventType.PROGRAM_UPDATED
+    );
+
+    private static final Set<MediaPlayerEventType> ELEMENTARY_STREAM_EVENTS = EnumSet.of(
+        MediaPlayerEventType.ELEMENTARY_STREAM_ADDED,
+        MediaPlayerEventType.ELEMENTARY_STREAM_DELETED,
+        MediaPlayerEventType.ELEMENTARY_STREAM_UPDATED
+    );
+
+    private final long longValue;
+
+    private final double doubleValue;
+
+    private final int intValue;
+
+    private final int otherIntValue;
+
+    private final boolean booleanValue;
+
+    private final String stringValue;
+
+    private final String otherStringValue;
+
+    private final TrackType trackType;
+
+    private final TitleDescription title;
+
+    private MediaPlayerEventRecord(MediaPlayer mediaPlayer, MediaPlayerEventType type, long longValue, double doubleValue, int intValue, int otherIntValue, boolean booleanValue, String stringValue, String otherStringValue, TrackType trackType, TitleDescription title) {
+        super(mediaPlayer, type);
+        this.longValue = longValue;
+        this.doubleValue = doubleValue;
+        this.intValue = intValue;
+        this.otherIntValue = otherIntValue;
+        this.booleanValue = booleanValue;
+        this.stringValue = stringValue;
+        this.otherStringValue = otherStringValue;
+        this.trackType = trackType;
+        this.title = title;
+    }
+
+    static MediaPlayerEventRecord of(MediaPlayer mediaPlayer, MediaPlayerEventType type) {
+        return new MediaPlayerEventRecord(mediaPlayer, type, 0, 0, 0, 0, false, null, null, null, null);
+    }
+
+    static MediaPlayerEventRecord ofLong(MediaPlayer mediaPlayer, MediaPlayerEventType type, long value) {
+        return new MediaPlayerEventRecord(mediaPlayer, type, value, 0, 0, 0, false, null, null, null, null);
+    }
+
+    static MediaPlayerEventRecord ofDouble(MediaPlayer mediaPlayer, MediaPlayerEventType type, double value) {
+        return new MediaPlayerEventRecord(mediaPlayer, type, 0, value, 0, 0, false, null, null, null, null);
+    }
+
+    static MediaPlayerEventRecord ofInt(MediaPlayer mediaPlayer, MediaPlayerEventType type, int value) {
+        return new MediaPlayerEventRecord(mediaPlayer, type, 0, 0, value, 0, false, null, null, null, null);
+    }
+
+    static MediaPlayerEventRecord ofInts(MediaPlayer mediaPlayer, MediaPlayerEventType type, int value, int otherValue) {
+        return new MediaPlayerEventRecord(mediaPlayer, type, 0, 0, value, otherValue, false, null, null, null, null);
+    }
+
+    static MediaPlayerEventRecord ofBoolean(MediaPlayer mediaPlayer, MediaPlayerEventType type, boolean value) {
+        return new MediaPlayerEventRecord(mediaPlayer, type, 0, 0, 0, 0, value, null, null, null, null);
+    }
+
+    static MediaPlayerEventRecord ofString(MediaPlayer mediaPlayer, MediaPlayerEventType type, String value) {
+        return new MediaPlayerEventRecord(mediaPlayer, type, 0, 0, 0, 0, false, value, null, null, null);
+    }
+
+    static MediaPlayerEventRecord titleSelectionChanged(MediaPlayer mediaPlayer, TitleDescription title, int index) {
+        return new MediaPlayerEventRecord(mediaPlayer, MediaPlayerEventType.TITLE_SELECTION_CHANGED, 0, 0, index, 0, false, null, null, null, title);
+    }
+
+    static MediaPlayerEventRecord elementaryStream(MediaPlayer mediaPlayer, MediaPlayerEventType type, TrackType trackType, int id, String streamId) {
+        return new MediaPlayerEventRecord(mediaPlayer, type, 0, 0, id, 0, false, streamId, null, trackType, null);
+    }
+
+    static MediaPlayerEventRecord elementaryStreamSelected(MediaPlayer mediaPlayer, TrackType trackType, String unselectedStreamId, String selectedStreamId) {
+        return new MediaPlayerEventRecord(mediaPlayer, MediaPlayerEventType.ELEMENTARY_STREAM_SELECTED, 0, 0, 0, 0, false, unselectedStreamId, selectedStreamId, trackType, null);
+    }
+
+    static MediaPlayerEventRecord recordChanged(MediaPlayer mediaPlayer, boolean recording, String recordedFilePath) {
+        return new MediaPlayerEventRecord(mediaPlayer, MediaPlayerEventType.RECORD_CHANGED, 0, 0, 0, 0, recording, recordedFilePath, null, null, null);
+    }
+
+    /**
+     * Get the new buffering progress.
+     * <p>
+     * Available for {@link MediaPlayerEventType#BUFFERING}.
+     *
+     * @return buffering progress, percent
+     */
+    public float newCache() {
+        requireType(MediaPlayerEventType.BUFFERING);
+        return (float) doubleValue;
+    }
+
+    /**
+     * Get the new play-back time.
+     * <p>
+     * Available for {@link MediaPlayerEventType#TIME_CHANGED}.
+     *
+     * @return time, milliseconds
+     */
+    public long newTime() {
+        requireType(MediaPlayerEventType.TIME_CHANGED);
+        return longValue;
+    }
+
+    /**
+     * Get the new play-back position.
+     * <p>
+     * Available for {@link MediaPlayerEventType#POSITION_CHANGED}.
+     *
+     * @return position, from 0.0 to 1.0
+     */
+    public double newPosition() {
+        requireType(MediaPlayerEventType.POSITION_CHANGED);
+        return doubleValue;
+    }
+
+    /**
+     * Get the new seekable status.
+     * <p>
+     * Available for {@link MediaPlayerEventType#SEEKABLE_CHANGED}.
+     *
+     * @return non-zero if seekable
+     */
+    public int newSeekable() {
+        requireType(MediaPlayerEventType.SEEKABLE_CHANGED);
+        return intValue;
+    }
+
+    /**
+     * Get the new pausable status.
+     * <p>
+     * Available for {@link MediaPlayerEventType#PAUSABLE_CHANGED}.
+     *
+     * @return non-zero if pausable
+     */
+    public int newPausable() {
+        requireType(MediaPlayerEventType.PAUSABLE_CHANGED);
+        return intValue;
+    }
+
+    /**
+     * Get the selected title.
+     * <p>
+     * Available for {@link MediaPlayerEventType#TITLE_SELECTION_CHANGED}.
+     *
+     * @return title
+     */
+    public TitleDescription title() {
+        requireType(MediaPlayerEventType.TITLE_SELECTION_CHANGED);
+        return title;
+    }
+
+    /**
+     * Get the index of the selected title.
+     * <p>
+     * Available for {@link MediaPlayerEventType#TITLE_SELECTION_CHANGED}.
+     *
+     * @return title index
+     */
+    public int titleIndex() {
+        requireType(MediaPlayerEventType.TITLE_SELECTION_CHANGED);
+        return intValue;
+    }
+
+    /**
+     * Get the name of the snapshot file.
+     * <p>
+     * Available for {@link MediaPlayerEventType#SNAPSHOT_TAKEN}.
+     *
+     * @return file name
+     */
+    public String filename() {
+        requireType(MediaPlayerEventType.SNAPSHOT_TAKEN);
+        return stringValue;
+    }
+
+    /**
+     * Get the new media length.
+     * <p>
+     * Available for {@link MediaPlayerEventType#LENGTH_CHANGED}.
+     *
+     * @return length, milliseconds
+     */
+    public long newLength() {
+        requireType(MediaPlayerEventType.LENGTH_CHANGED);
+        return longValue;
+    }
+
+    /**
+     * Get the new number of video outputs.
+     * <p>
+     * Available for {@link MediaPlayerEventType#VIDEO_OUTPUT}.
+     *
+     * @return video output count
+     */
+    public int newCount() {
+        requireType(MediaPlayerEventType.VIDEO_OUTPUT);
+        return intValue;
+    }
+
+    /**
+     * Get the elementary stream track type.
+     * <p>
+     * Available for {@link MediaPlayerEventType#ELEMENTARY_STREAM_ADDED}, {@link MediaPlayerEventType#ELEMENTARY_STREAM_DELETED}, {@link MediaPlayerEventType#ELEMENTARY_STREAM_UPDATED} and {@link MediaPlayerEventType#ELEMENTARY_STREAM_SELECTED}.
+     *
+     * @return track type
+     */
+    public TrackType trackType() {
+        requireType(ALL_ELEMENTARY_STREAM_EVENTS);
+        return trackType;
+    }
+
+    /**
+     * Get the elementary stream or program identifier.
+     * <p>
+     * Available for {@link MediaPlayerEventType#ELEMENTARY_STREAM_ADDED}, {@link MediaPlayerEventType#ELEMENTARY_STREAM_DELETED}, {@link MediaPlayerEventType#ELEMENTARY_STREAM_UPDATED}, {@link MediaPlayerEventType#PROGRAM_ADDED}, {@link MediaPlayerEventType#PROGRAM_DELETED} and {@link MediaPlayerEventType#PROGRAM_UPDATED}.
+     *
+     * @return identifier
+     */
+    public int id() {
+        requireType(STREAM_AND_PROGRAM_EVENTS);
+        return intValue;
+    }
+
+    /**
+     * Get the elementary stream string identifier.
+     * <p>
+     * Available for {@link MediaPlayerEventType#ELEMENTARY_STREAM_ADDED}, {@link MediaPlayerEventType#ELEMENTARY_STREAM_DELETED} and {@link MediaPlayerEventType#ELEMENTARY_STREAM_UPDATED}.
+     *
+     * @return stream identifier
+     */
+    public String streamId() {
+        requireType(ELEMENTARY_STREAM_EVENTS);
+        return stringValue;
+    }
+
+    /**
+     * Get the identifier of the elementary stream that was unselected.
+     * <p>
+     * Available for {@link MediaPlayerEventType#ELEMENTARY_STREAM_SELECTED}.
+     *
+     * @return stream identifier, may be <code>null</code>
+     */
+    public String unselectedStreamId() {
+        requireType(MediaPlayerEventType.ELEMENTARY_STREAM_SELECTED);
+        return stringValue;
+    }
+
+    /**
+     * Get the identifier of the elementary stream that was selected.
+     * <p>
+     * Available for {@link MediaPlayerEventType#ELEMENTARY_STREAM_SELECTED}.
+     *
+     * @return stream identifier, may be <code>null</code>
+     */
+    public String selectedStreamId() {
+        requireType(MediaPlayerEventType.ELEMENTARY_STREAM_SELECTED);
+        return otherStringValue;
+    }
+
+    /**
+     * Get whether or not the audio output was corked.
+     * <p>
+     * Available for {@link MediaPlayerEventType#CORKED}.
+     *
+     * @return <code>true</code> if corked; <code>false</code> if uncorked
+     */
+    public boolean corked() {
+        requireType(MediaPlayerEventType.CORKED);
+        return booleanValue;
+    }
+
+    /**
+     * Get whether or not the audio was muted.
+     * <p>
+     * Available for {@link MediaPlayerEventType#MUTED}.
+     *
+     * @return <code>true</code> if muted; <code>false</code> if unmuted
+     */
+    public boolean muted() {
+        requireType(MediaPlayerEventType.MUTED);
+        return booleanValue;
+    }
+
+    /**
+     * Get the new audio volume.
+     * <p>
+     * Available for {@link MediaPlayerEventType#VOLUME_CHANGED}.
+     *
+     * @return volume
+     */
+    public float volume() {
+        requireType(MediaPlayerEventType.VOLUME_CHANGED);
+        return (float) doubleValue;
+    }
+
+    /**
+     * Get the new audio device.
+     * <p>
+     * Available for {@link MediaPlayerEventType#AUDIO_DEVICE_CHANGED}.
+     *
+     * @return audio device identifier
+     */
+    public String audioDevice() {
+        requireType(MediaPlayerEventType.AUDIO_DEVICE_CHANGED);
+        return stringValue;
+    }
+
+    /**
+     * Get the new chapter.
+     * <p>
+     * Available for {@link MediaPlayerEventType#CHAPTER_CHANGED}.
+     *
+     * @return chapter number
+     */
+    public int newChapter() {
+        requireType(MediaPlayerEventType.CHAPTER_CHANGED);
+        return intValue;
+    }
+
+    /**
+     * Get whether or not recording started.
+     * <p>
+     * Available for {@link MediaPlayerEventType#RECORD_CHANGED}.
+     *
+     * @return <code>true</code> if recording started; <code>false</code> if it stopped
+     */
+    public boolean recording() {
+        requireType(MediaPlayerEventType.RECORD_CHANGED);
+        return booleanValue;
+    }
+
+    /**
+     * Get the path of the recorded file.
+     * <p>
+     * Available for {@link MediaPlayerEventType#RECORD_CHANGED}.
+     *
+     * @return file path, may be <code>null</code>
+     */
+    public String recordedFilePath() {
+        requireType(MediaPlayerEventType.RECORD_CHANGED);
+        return stringValue;
+    }
+
+    /**
+     * Get the identifier of the program that was unselected.
+     * <p>
+     * Available for {@link MediaPlayerEventType#PROGRAM_SELECTED}.
+     *
+     * @return program identifier
+     */
+    public int unselectedId() {
+        requireType(MediaPlayerEventType.PROGRAM_SELECTED);
+        return intValue;
+    }
+
+    /**
+     * Get the identifier of the program that was selected.
+     * <p>
+     * Available for {@link MediaPlayerEventType#PROGRAM_SELECTED}.
+     *
+     * @return program identifier
+     */
+    public int selectedId() {
+        requireType(MediaPlayerEventType.PROGRAM_SELECTED);
+        return otherIntValue;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(160);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("type=").append(type()).append(',');
+        sb.append("longValue=").append(longValue).append(',');
+        sb.append("doubleValue=").append(doubleValue).append(',');
+        sb.append("intValue=").append(intValue).append(',');
+        sb.append("otherIntValue=").append(otherIntValue).append(',');
+        sb.append("booleanValue=").append(booleanValue).append(',');
+        sb.append("stringValue=").append(stringValue).append(',');
+        sb.append("otherStringValue=").append(otherStringValue).append(',');
+        sb.append("trackType=").append(trackType).append(',');
+        sb.append("title=").append(title).append(']');
+        return sb.toString();
+    }
+
+}
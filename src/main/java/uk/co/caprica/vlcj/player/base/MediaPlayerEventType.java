@@ -0,0 +1,257 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.base;
+
+/**
+ * Enumeration of media player event types, for events published by a {@link MediaPlayerEventPublisher}.
+ * <p>
+ * The values carried by a {@link MediaPlayerEventRecord} of each type are documented on each constant - they correspond
+ * to the parameters of the equivalent {@link MediaPlayerEventListener} method.
+ */
+public enum MediaPlayerEventType {
+
+    /**
+     * The media changed.
+     * <p>
+     * No values, the media is not carried since a native media reference can not outlive the native callback.
+     */
+    MEDIA_CHANGED,
+
+    /**
+     * Opening the media.
+     */
+    OPENING,
+
+    /**
+     * Buffering the media.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#newCache()}.
+     */
+    BUFFERING,
+
+    /**
+     * Playing the media.
+     */
+    PLAYING,
+
+    /**
+     * Paused.
+     */
+    PAUSED,
+
+    /**
+     * Stopped.
+     */
+    STOPPED,
+
+    /**
+     * Skipping forward.
+     */
+    FORWARD,
+
+    /**
+     * Skipping backward.
+     */
+    BACKWARD,
+
+    /**
+     * Stopping.
+     */
+    STOPPING,
+
+    /**
+     * Finished playing the media.
+     */
+    FINISHED,
+
+    /**
+     * The play-back time changed.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#newTime()}.
+     */
+    TIME_CHANGED,
+
+    /**
+     * The play-back position changed.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#newPosition()}.
+     */
+    POSITION_CHANGED,
+
+    /**
+     * The seekable status changed.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#newSeekable()}.
+     */
+    SEEKABLE_CHANGED,
+
+    /**
+     * The pausable status changed.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#newPausable()}.
+     */
+    PAUSABLE_CHANGED,
+
+    /**
+     * The list of titles changed.
+     */
+    TITLE_LIST_CHANGED,
+
+    /**
+     * The selected title changed.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#title()}, {@link MediaPlayerEventRecord#titleIndex()}.
+     */
+    TITLE_SELECTION_CHANGED,
+
+    /**
+     * A snapshot was taken.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#filename()}.
+     */
+    SNAPSHOT_TAKEN,
+
+    /**
+     * The media length changed.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#newLength()}.
+     */
+    LENGTH_CHANGED,
+
+    /**
+     * The number of video outputs changed.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#newCount()}.
+     */
+    VIDEO_OUTPUT,
+
+    /**
+     * An elementary stream was added.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#trackType()}, {@link MediaPlayerEventRecord#id()},
+     * {@link MediaPlayerEventRecord#streamId()}.
+     */
+    ELEMENTARY_STREAM_ADDED,
+
+    /**
+     * An elementary stream was deleted.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#trackType()}, {@link MediaPlayerEventRecord#id()},
+     * {@link MediaPlayerEventRecord#streamId()}.
+     */
+    ELEMENTARY_STREAM_DELETED,
+
+    /**
+     * An elementary stream was updated.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#trackType()}, {@link MediaPlayerEventRecord#id()},
+     * {@link MediaPlayerEventRecord#streamId()}.
+     */
+    ELEMENTARY_STREAM_UPDATED,
+
+    /**
+     * An elementary stream was selected.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#trackType()}, {@link MediaPlayerEventRecord#unselectedStreamId()},
+     * {@link MediaPlayerEventRecord#selectedStreamId()}.
+     */
+    ELEMENTARY_STREAM_SELECTED,
+
+    /**
+     * The audio output was corked or uncorked.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#corked()}.
+     */
+    CORKED,
+
+    /**
+     * The audio was muted or unmuted.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#muted()}.
+     */
+    MUTED,
+
+    /**
+     * The audio volume changed.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#volume()}.
+     */
+    VOLUME_CHANGED,
+
+    /**
+     * The audio device changed.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#audioDevice()}.
+     */
+    AUDIO_DEVICE_CHANGED,
+
+    /**
+     * The chapter changed.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#newChapter()}.
+     */
+    CHAPTER_CHANGED,
+
+    /**
+     * Recording started or stopped.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#recording()}, {@link MediaPlayerEventRecord#recordedFilePath()}.
+     */
+    RECORD_CHANGED,
+
+    /**
+     * A program was added.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#id()}.
+     */
+    PROGRAM_ADDED,
+
+    /**
+     * A program was deleted.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#id()}.
+     */
+    PROGRAM_DELETED,
+
+    /**
+     * A program was updated.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#id()}.
+     */
+    PROGRAM_UPDATED,
+
+    /**
+     * A program was selected.
+     * <p>
+     * Values: {@link MediaPlayerEventRecord#unselectedId()}, {@link MediaPlayerEventRecord#selectedId()}.
+     */
+    PROGRAM_SELECTED,
+
+    /**
+     * An error occurred.
+     */
+    ERROR,
+
+    /**
+     * The media player is ready.
+     */
+    MEDIA_PLAYER_READY
+
+}
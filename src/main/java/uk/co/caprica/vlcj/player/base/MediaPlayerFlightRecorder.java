@@ -0,0 +1,105 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.player.base;
+
+import uk.co.caprica.vlcj.support.jfr.FlightRecording;
+
+/**
+ * Component that tracks the media player life-cycle to emit flight recorder events.
+ * <p>
+ * The flight recorder module is optional, so this base implementation does nothing at all - it is used when the module
+ * is not present. When the module is present {@link #create()} instead returns an implementation that emits events.
+ */
+class MediaPlayerFlightRecorder {
+
+    /**
+     * Create a flight recorder component.
+     *
+     * @return flight recorder component, that does nothing if the flight recorder module is not present
+     */
+    static MediaPlayerFlightRecorder create() {
+        return FlightRecording.isAvailable() ? new JfrMediaPlayerFlightRecorder() : new MediaPlayerFlightRecorder();
+    }
+
+    /**
+     * Determine whether or not it is worth gathering information for events.
+     *
+     * @return <code>true</code> if the flight recorder has been initialised; <code>false</code> otherwise
+     */
+    boolean isActive() {
+        return false;
+    }
+
+    /**
+     * The media is being changed by the application.
+     *
+     * @param mrl media resource locator, may be <code>null</code>
+     */
+    void mediaChanging(String mrl) {
+    }
+
+    /**
+     * The media was changed by the application.
+     */
+    void mediaChanged() {
+    }
+
+    void opening() {
+    }
+
+    void buffering(float newCache) {
+    }
+
+    void playing() {
+    }
+
+    void vout(int count) {
+    }
+
+    void error() {
+    }
+
+    /**
+     * A seek was requested by the application.
+     *
+     * @param time requested time, or -1 if a position was requested
+     * @param position requested position, or -1 if a time was requested
+     * @param fast <code>true</code> if a fast seek was requested
+     */
+    void seekRequested(long time, double position, boolean fast) {
+    }
+
+    /**
+     * The time or position changed.
+     */
+    void seeked() {
+    }
+
+    /**
+     * A stop was requested by the application.
+     */
+    void stopRequested() {
+    }
+
+    void stopped() {
+    }
+
+}
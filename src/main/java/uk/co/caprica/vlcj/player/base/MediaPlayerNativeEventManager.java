@@ -24,6 +24,8 @@ import uk.co.caprica.vlcj.binding.internal.libvlc_event_manager_t;
 import uk.co.caprica.vlcj.binding.internal.libvlc_event_t;
 import uk.co.caprica.vlcj.binding.internal.libvlc_instance_t;
 import uk.co.caprica.vlcj.binding.internal.libvlc_media_t;
+import uk.co.caprica.vlcj.binding.internal.media_player_buffering;
+import uk.co.caprica.vlcj.binding.internal.media_player_vout;
 import uk.co.caprica.vlcj.player.base.events.MediaPlayerEventFactory;
 import uk.co.caprica.vlcj.support.eventmanager.EventNotification;
 import uk.co.caprica.vlcj.support.eventmanager.NativeEventManager;
@@ -48,6 +50,9 @@ import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_media_player_event_ma
  * <p>
  * This class is the appropriate place for the implementation as this code will always be called on the native media
  * player event thread and will never be invoked in parallel oor by any other thread.
+ * <p>
+ * For the same reason, this class also feeds the media player life-cycle state changes to the
+ * {@link MediaPlayerFlightRecorder}.
  */
 final class MediaPlayerNativeEventManager extends NativeEventManager<MediaPlayer, MediaPlayerEventListener> {
 
@@ -64,22 +69,46 @@ final class MediaPlayerNativeEventManager extends NativeEventManager<MediaPlayer
 
     @Override
     protected EventNotification<MediaPlayerEventListener> onCreateEvent(libvlc_instance_t libvlcInstance, libvlc_event_t event, MediaPlayer eventObject) {
+        MediaPlayerFlightRecorder flightRecorder = eventObject.flightRecorder();
         switch (libvlc_event_e.event(event.type)) {
             case libvlc_MediaPlayerMediaChanged:
                 // Reset state each time the media changes, subsequent plays and stops are fine
                 receivedPlayingEvent = false;
                 break;
+            case libvlc_MediaPlayerOpening:
+                flightRecorder.opening();
+                break;
+            case libvlc_MediaPlayerBuffering:
+                if (flightRecorder.isActive()) {
+                    flightRecorder.buffering(((media_player_buffering) event.u.getTypedValue(media_player_buffering.class)).new_cache);
+                }
+                break;
             case libvlc_MediaPlayerPlaying:
                 // Playing event was received
                 receivedPlayingEvent = true;
+                flightRecorder.playing();
                 break;
             case libvlc_MediaPlayerStopped:
+                // Pending flight recorder events must be cleared even if playback never started
+                flightRecorder.stopped();
                 // We do not want to send a stopped event if we never received a playing event
                 if (!receivedPlayingEvent) {
                     // Return null here to suppress the event
                     return null;
                 }
                 break;
+            case libvlc_MediaPlayerEncounteredError:
+                flightRecorder.error();
+                break;
+            case libvlc_MediaPlayerTimeChanged:
+            case libvlc_MediaPlayerPositionChanged:
+                flightRecorder.seeked();
+                break;
+            case libvlc_MediaPlayerVout:
+                if (flightRecorder.isActive()) {
+                    flightRecorder.vout(((media_player_vout) event.u.getTypedValue(media_player_vout.class)).new_count);
+                }
+                break;
         }
         return MediaPlayerEventFactory.createEvent(libvlcInstance, eventObject, event);
     }
@@ -0,0 +1,285 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.base;
+
+import uk.co.caprica.vlcj.media.Media;
+import uk.co.caprica.vlcj.media.MediaEventAdapter;
+import uk.co.caprica.vlcj.media.MediaEventListener;
+import uk.co.caprica.vlcj.media.MediaParsedStatus;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Component that completes futures when the media player reaches particular states.
+ * <p>
+ * This replaces the blocking latches previously used to implement synchronous play and stop - rather than a thread
+ * waiting on a latch for each operation, each pending wait is simply a future in a queue that is checked when a native
+ * event arrives. Any number of waits, across any number of media players, therefore need no threads at all.
+ * <p>
+ * Futures are never completed on the native event callback thread, since dependent stages would then run on that
+ * thread and would not be allowed to call back into LibVLC. Instead they are completed using the common fork-join pool.
+ * <p>
+ * A pending wait is removed as soon as its future is completed for any reason, including by the application cancelling
+ * it or by a timeout (e.g. {@link CompletableFuture#orTimeout(long, java.util.concurrent.TimeUnit)}).
+ */
+final class MediaPlayerStateAwaiter extends MediaPlayerEventAdapter {
+
+    /**
+     * Maximum difference between the play-back time and the target of a seek for the seek to be considered complete,
+     * milliseconds.
+     */
+    private static final long SEEK_TIME_TOLERANCE = 1000;
+
+    /**
+     * Maximum difference between the play-back position and the target of a seek for the seek to be considered
+     * complete.
+     */
+    private static final double SEEK_POSITION_TOLERANCE = 0.01;
+
+    /**
+     * Executor used to complete the futures.
+     */
+    private final Executor executor = ForkJoinPool.commonPool();
+
+    /**
+     * Pending waits.
+     */
+    private final Queue<Wait> waits = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Listener for media events, this must be added as a persistent media event listener.
+     */
+    private final MediaEventListener mediaEventListener = new MediaEventAdapter() {
+        @Override
+        public void mediaParsedChanged(Media media, MediaParsedStatus newStatus) {
+            switch (newStatus) {
+                case DONE:
+                    reached(AwaitableState.PARSED, true);
+                    break;
+                case SKIPPED:
+                case FAILED:
+                case TIMEOUT:
+                case CANCELLED:
+                    reached(AwaitableState.PARSED, false);
+                    break;
+            }
+        }
+    };
+
+    /**
+     * Get the listener for media events.
+     *
+     * @return media event listener
+     */
+    MediaEventListener mediaEventListener() {
+        return mediaEventListener;
+    }
+
+    /**
+     * Create a future that completes when the media player next reaches a state.
+     * <p>
+     * The future completes with <code>true</code> when the state is reached, or with <code>false</code> if the media
+     * player raises an error first.
+     *
+     * @param state state to wait for
+     * @return future
+     */
+    CompletableFuture<Boolean> await(AwaitableState state) {
+        return add(new Wait(state));
+    }
+
+    /**
+     * Create a future that completes when the play-back time reaches the target of a seek.
+     * <p>
+     * Time changed events are raised continuously during play-back, so only a time within a tolerance of the target
+     * completes the seek - a time changed event raised before the seek took effect does not.
+     * <p>
+     * The future completes with <code>true</code> when the target is reached, or with <code>false</code> if the media
+     * player stops or raises an error first.
+     *
+     * @param time target time, milliseconds
+     * @return future
+     */
+    CompletableFuture<Boolean> awaitSeek(long time) {
+        return add(new SeekWait(Math.max(time, 0), -1));
+    }
+
+    /**
+     * Create a future that completes when the play-back position reaches the target of a seek.
+     *
+     * @see #awaitSeek(long)
+     *
+     * @param position target position
+     * @return future
+     */
+    CompletableFuture<Boolean> awaitSeek(double position) {
+        return add(new SeekWait(-1, Math.max(position, 0)));
+    }
+
+    private CompletableFuture<Boolean> add(Wait wait) {
+        waits.add(wait);
+        wait.future.whenComplete((result, throwable) -> waits.remove(wait));
+        return wait.future;
+    }
+
+    /**
+     * Cancel all pending waits.
+     */
+    void release() {
+        Wait wait;
+        while ((wait = waits.poll()) != null) {
+            wait.future.cancel(false);
+        }
+    }
+
+    @Override
+    public void playing(MediaPlayer mediaPlayer) {
+        reached(AwaitableState.PLAYING, true);
+    }
+
+    @Override
+    public void paused(MediaPlayer mediaPlayer) {
+        reached(AwaitableState.PAUSED, true);
+    }
+
+    @Override
+    public void stopped(MediaPlayer mediaPlayer) {
+        reached(AwaitableState.STOPPED, true);
+        for (Wait wait : waits) {
+            if (wait instanceof SeekWait) {
+                complete(wait, false);
+            }
+        }
+    }
+
+    @Override
+    public void finished(MediaPlayer mediaPlayer) {
+        reached(AwaitableState.FINISHED, true);
+    }
+
+    @Override
+    public void error(MediaPlayer mediaPlayer) {
+        for (Wait wait : waits) {
+            complete(wait, wait.state == AwaitableState.ERROR);
+        }
+    }
+
+    @Override
+    public void videoOutput(MediaPlayer mediaPlayer, int newCount) {
+        if (newCount > 0) {
+            reached(AwaitableState.FIRST_FRAME, true);
+        }
+    }
+
+    @Override
+    public void buffering(MediaPlayer mediaPlayer, float newCache) {
+        if (newCache >= 100.0f) {
+            reached(AwaitableState.BUFFERED, true);
+        }
+    }
+
+    @Override
+    public void lengthChanged(MediaPlayer mediaPlayer, long newLength) {
+        if (newLength > 0) {
+            reached(AwaitableState.LENGTH_KNOWN, true);
+        }
+    }
+
+    @Override
+    public void timeChanged(MediaPlayer mediaPlayer, long newTime) {
+        if (!waits.isEmpty()) {
+            for (Wait wait : waits) {
+                if (wait instanceof SeekWait && ((SeekWait) wait).reachedTime(newTime)) {
+                    complete(wait, true);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void positionChanged(MediaPlayer mediaPlayer, double newPosition) {
+        if (!waits.isEmpty()) {
+            for (Wait wait : waits) {
+                if (wait instanceof SeekWait && ((SeekWait) wait).reachedPosition(newPosition)) {
+                    complete(wait, true);
+                }
+            }
+        }
+    }
+
+    private void reached(AwaitableState state, boolean result) {
+        if (!waits.isEmpty()) {
+            for (Wait wait : waits) {
+                if (wait.state == state) {
+                    complete(wait, result);
+                }
+            }
+        }
+    }
+
+    private void complete(Wait wait, boolean result) {
+        if (waits.remove(wait)) {
+            executor.execute(() -> wait.future.complete(result));
+        }
+    }
+
+    /**
+     * A pending wait.
+     */
+    private static class Wait {
+
+        private final AwaitableState state;
+
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        private Wait(AwaitableState state) {
+            this.state = state;
+        }
+    }
+
+    /**
+     * A pending wait for a seek, with either a target time or a target position.
+     */
+    private static final class SeekWait extends Wait {
+
+        private final long time;
+
+        private final double position;
+
+        private SeekWait(long time, double position) {
+            super(null);
+            this.time = time;
+            this.position = position;
+        }
+
+        private boolean reachedTime(long newTime) {
+            return time >= 0 && Math.abs(newTime - time) <= SEEK_TIME_TOLERANCE;
+        }
+
+        private boolean reachedPosition(double newPosition) {
+            return position >= 0 && Math.abs(newPosition - position) <= SEEK_POSITION_TOLERANCE;
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.player.base;
+
+import uk.co.caprica.vlcj.media.Media;
+import uk.co.caprica.vlcj.media.MediaEventAdapter;
+import uk.co.caprica.vlcj.media.Picture;
+import uk.co.caprica.vlcj.media.PictureType;
+import uk.co.caprica.vlcj.media.ThumbnailRequest;
+import uk.co.caprica.vlcj.media.ThumbnailerSeekSpeed;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Private helper to capture a one-shot raw picture of the current media at the current play time.
+ * <p>
+ * The picture is generated by the native thumbnailer directly into memory as raw {@link PictureType#ARGB} pixels,
+ * scaled by the native library to the requested size, so there is no image encoding, no temporary file, and no image
+ * decoding.
+ * <p>
+ * The thumbnailer works on its own duplicate of the media, a separate native media instance with the same options, so
+ * the picture is of the frame at the play time when the request was made rather than literally the frame currently
+ * being displayed. Since each request has its own native media instance, concurrent requests can not complete each
+ * other and the thumbnail events are never seen by listeners of the media player's media.
+ * <p>
+ * The future is never completed on the native event callback thread, and the native thumbnail request and the media
+ * instance are released when the future completes for any reason, including cancellation.
+ */
+final class RawSnapshotRequest extends MediaEventAdapter {
+
+    /**
+     * Executor used to complete the future and release the native resources.
+     */
+    private final Executor executor = ForkJoinPool.commonPool();
+
+    /**
+     * Future completed with the picture, or <code>null</code> if the picture could not be generated.
+     */
+    private final CompletableFuture<Picture> future = new CompletableFuture<>();
+
+    /**
+     * Duplicate media instance used for the thumbnail request.
+     */
+    private final Media media;
+
+    /**
+     * Native thumbnail request, assigned once the request has been made.
+     */
+    private ThumbnailRequest request;
+
+    /**
+     * Set when the native resources have been released.
+     */
+    private boolean released;
+
+    private RawSnapshotRequest(Media media) {
+        this.media = media;
+    }
+
+    /**
+     * Request a raw picture.
+     * <p>
+     * If one of width or height is zero the original image aspect ratio will be preserved.
+     *
+     * @param mediaPlayer media player
+     * @param width desired image width
+     * @param height desired image height
+     * @param timeout maximum amount of time to wait (in milliseconds) for the picture to be generated, or zero for no timeout
+     * @param retain <code>true</code> if the picture should keep the native picture, which the caller must then release
+     * @return future completed with the picture, or <code>null</code> if a picture could not be generated
+     */
+    static CompletableFuture<Picture> request(MediaPlayer mediaPlayer, int width, int height, long timeout, boolean retain) {
+        // The thumbnailer must seek a second instance of the media, which is not possible for live streams
+        if (!mediaPlayer.status().isSeekable()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Media current = mediaPlayer.media().newMedia();
+        if (current == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Media media;
+        try {
+            media = current.duplicateMedia();
+        }
+        finally {
+            current.release();
+        }
+        long time = Math.max(mediaPlayer.status().time(), 0);
+        RawSnapshotRequest snapshotRequest = new RawSnapshotRequest(media);
+        media.events().setRetainPictures(retain);
+        media.events().addMediaEventListener(snapshotRequest);
+        ThumbnailRequest request = media.thumbnails().requestByTime(time, ThumbnailerSeekSpeed.PRECISE, width, height, false, PictureType.ARGB, timeout);
+        snapshotRequest.requested(request);
+        return snapshotRequest.future;
+    }
+
+    private void requested(ThumbnailRequest request) {
+        synchronized (this) {
+            this.request = request;
+        }
+        future.whenCompleteAsync((picture, exception) -> release(), executor);
+        if (request == null) {
+            future.complete(null);
+        }
+    }
+
+    @Override
+    public void mediaThumbnailGenerated(Media media, Picture picture) {
+        executor.execute(() -> {
+            if (!future.complete(picture) && picture != null) {
+                picture.release();
+            }
+        });
+    }
+
+    private void release() {
+        ThumbnailRequest request;
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+            released = true;
+            request = this.request;
+        }
+        media.events().removeMediaEventListener(this);
+        if (request != null) {
+            request.release();
+        }
+        media.release();
+    }
+
+}
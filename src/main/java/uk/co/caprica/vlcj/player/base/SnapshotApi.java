@@ -19,9 +19,13 @@
 
 package uk.co.caprica.vlcj.player.base;
 
+import uk.co.caprica.vlcj.media.Picture;
+import uk.co.caprica.vlcj.media.PictureType;
+
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.util.concurrent.CompletableFuture;
 
 import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_video_take_snapshot;
 
@@ -30,6 +34,11 @@ import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_video_take_snapshot;
  */
 public final class SnapshotApi extends BaseApi {
 
+    /**
+     * Default maximum amount of time to wait for an asynchronous snapshot to be generated, milliseconds.
+     */
+    public static final long DEFAULT_ASYNC_TIMEOUT = 5000;
+
     /**
      * Optional name of the directory to save video snapshots to.
      * <p>
@@ -172,6 +181,8 @@ public final class SnapshotApi extends BaseApi {
      * is received.
      * <p>
      * This function will block until the snapshot taken event is received.
+     * <p>
+     * To capture a snapshot without the image file round-trip, see {@link #getAsync()}.
      *
      * @return snapshot image, or <code>null</code> if a snapshot could not be taken
      */
@@ -251,4 +262,110 @@ public final class SnapshotApi extends BaseApi {
             }
         }
     }
+
+    /**
+     * Capture a snapshot of the currently playing video directly into memory.
+     * <p>
+     * The size of the image will be that of the media itself.
+     * <p>
+     * The snapshot is abandoned if it is not generated within {@link #DEFAULT_ASYNC_TIMEOUT} milliseconds.
+     *
+     * @see #getAsync(int, int, long)
+     *
+     * @return future completed with the snapshot image, or <code>null</code> if a snapshot could not be taken
+     */
+    public CompletableFuture<BufferedImage> getAsync() {
+        return getAsync(0, 0, DEFAULT_ASYNC_TIMEOUT);
+    }
+
+    /**
+     * Capture a snapshot of the currently playing video directly into memory.
+     * <p>
+     * The snapshot is abandoned if it is not generated within {@link #DEFAULT_ASYNC_TIMEOUT} milliseconds.
+     *
+     * @see #getAsync(int, int, long)
+     *
+     * @param width desired image width
+     * @param height desired image height
+     * @return future completed with the snapshot image, or <code>null</code> if a snapshot could not be taken
+     */
+    public CompletableFuture<BufferedImage> getAsync(int width, int height) {
+        return getAsync(width, height, DEFAULT_ASYNC_TIMEOUT);
+    }
+
+    /**
+     * Capture a snapshot of the currently playing video directly into memory.
+     * <p>
+     * Where the application renders video itself via a callback video surface, the preferred way to capture the frame
+     * actually displayed is
+     * {@link uk.co.caprica.vlcj.player.embedded.videosurface.CallbackVideoSurface#snapshot(int, int)},
+     * which copies the pixels straight out of the native video buffer.
+     * <p>
+     * Unlike {@link #get(int, int, long)}, this does not ask the native library to encode an image file that must
+     * then be decoded again - the native library generates raw pixels in memory, already scaled to the requested size,
+     * and those pixels are copied straight from native memory into an RGB image. It is however far from free, see
+     * {@link #getPictureAsync(int, int, long)}. Live and other non-seekable media can not be captured this way.
+     * <p>
+     * If one of width or height is zero the original image aspect ratio will be preserved.
+     * <p>
+     * If both width and height are zero, the original image size will be used.
+     * <p>
+     * This function does not block. The returned future is never completed on a native callback thread, so dependent
+     * stages may safely call back into the media player. Cancelling the future cancels the native request.
+     *
+     * @param width desired image width
+     * @param height desired image height
+     * @param timeout maximum amount of time to wait (in milliseconds) for the snapshot to be generated, or zero for no timeout
+     * @return future completed with the snapshot image, or <code>null</code> if a snapshot could not be taken
+     */
+    public CompletableFuture<BufferedImage> getAsync(int width, int height, long timeout) {
+        return RawSnapshotRequest.request(mediaPlayer, width, height, timeout, true).thenApply(picture -> {
+            if (picture == null) {
+                return null;
+            }
+            try {
+                return picture.copyTo(new BufferedImage(picture.width(), picture.height(), BufferedImage.TYPE_INT_RGB));
+            }
+            finally {
+                picture.release();
+            }
+        });
+    }
+
+    /**
+     * Capture a snapshot of the currently playing video directly into memory as a raw picture.
+     * <p>
+     * The picture is {@link PictureType#ARGB} pixel data, four bytes per pixel in the order alpha, red, green, blue, with
+     * each row {@link Picture#stride()} bytes long. Applications that want to process or transfer the pixel data
+     * without creating an image can use {@link Picture#buffer()} directly, e.g. by wrapping it in a
+     * {@link java.nio.ByteBuffer}.
+     * <p>
+     * The picture is generated by the native thumbnailer, working on its own duplicate of the current media, for the
+     * current play time - so this is a picture of the frame at that time rather than literally the frame that is
+     * currently being displayed. The thumbnailer opens the media source a second time, then seeks, demuxes and decodes
+     * it from scratch, so each request costs far more than copying a decoded frame. It is therefore not suitable for,
+     * e.g., periodically monitoring many streams - where the application renders video itself via a callback video
+     * surface,
+     * {@link uk.co.caprica.vlcj.player.embedded.videosurface.CallbackVideoSurface#snapshot(int, int)}
+     * captures the frame actually displayed much more cheaply, and should be preferred.
+     * <p>
+     * Live and other non-seekable media can not be captured this way, the future is completed with <code>null</code>
+     * immediately.
+     * <p>
+     * If one of width or height is zero the original image aspect ratio will be preserved.
+     * <p>
+     * If both width and height are zero, the original image size will be used.
+     * <p>
+     * This function does not block. The returned future is never completed on a native callback thread. Cancelling the
+     * future cancels the native request.
+     *
+     * @param width desired picture width
+     * @param height desired picture height
+     * @param timeout maximum amount of time to wait (in milliseconds) for the picture to be generated, or zero for no timeout
+     * @return future completed with the picture, or <code>null</code> if a picture could not be generated
+     */
+    public CompletableFuture<Picture> getPictureAsync(int width, int height, long timeout) {
+        return RawSnapshotRequest.request(mediaPlayer, width, height, timeout, false);
+    }
+
 }
@@ -31,6 +31,13 @@ import uk.co.caprica.vlcj.player.base.MediaPlayer;
 import uk.co.caprica.vlcj.player.embedded.videosurface.callback.BufferFormat;
 import uk.co.caprica.vlcj.player.embedded.videosurface.callback.BufferFormatCallback;
 import uk.co.caprica.vlcj.player.embedded.videosurface.callback.RenderCallback;
+import uk.co.caprica.vlcj.support.jfr.FlightRecording;
+import uk.co.caprica.vlcj.support.jfr.VideoFormatEvent;
+
+import java.awt.image.BufferedImage;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_video_set_callbacks;
 import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_video_set_format_callbacks;
@@ -51,6 +58,8 @@ public class CallbackVideoSurface extends VideoSurface {
 
     private final NativeBuffers nativeBuffers;
 
+    private final Queue<FrameCapture> frameCaptures = new ConcurrentLinkedQueue<>();
+
     private MediaPlayer mediaPlayer;
 
     private BufferFormat bufferFormat;
@@ -80,6 +89,37 @@ public class CallbackVideoSurface extends VideoSurface {
         libvlc_video_set_callbacks(mediaPlayer.mediaPlayerInstance(), lock, unlock, display, null);
     }
 
+    /**
+     * Capture the next video frame that is displayed as an in-memory image.
+     * <p>
+     * The frame pixels are copied straight out of the native video buffer, there is no image encoding or decoding and
+     * no temporary file. This is therefore the cheapest way to snapshot video when the application is already rendering
+     * the video via this surface.
+     * <p>
+     * The buffer format must be single-plane 32-bit RGB, i.e. chroma "RV32", "BGRA" or "RGBA", otherwise the future
+     * completes exceptionally.
+     * <p>
+     * If one of width or height is zero the original image aspect ratio will be preserved.
+     * <p>
+     * If both width and height are zero, the original image size will be used.
+     * <p>
+     * No frame is displayed while the media player is paused, so the future will not complete until play resumes -
+     * applications may want to apply a timeout, e.g. {@link CompletableFuture#orTimeout(long, java.util.concurrent.TimeUnit)}.
+     * If the video output is closed before a frame is displayed the future is completed with <code>null</code>.
+     * <p>
+     * The returned future is never completed on a native callback thread.
+     *
+     * @param width desired image width
+     * @param height desired image height
+     * @return future completed with the captured image, or <code>null</code> if no frame could be captured
+     */
+    public CompletableFuture<BufferedImage> snapshot(int width, int height) {
+        FrameCapture frameCapture = new FrameCapture(width, height);
+        frameCaptures.add(frameCapture);
+        frameCapture.future().whenComplete((image, exception) -> frameCaptures.remove(frameCapture));
+        return frameCapture.future();
+    }
+
     /**
      * Implementation of a callback invoked by the native library to set up the required video buffer characteristics.
      *
@@ -89,6 +129,11 @@ public class CallbackVideoSurface extends VideoSurface {
 
         @Override
         public int format(PointerByReference opaque, PointerByReference chroma, Pointer width, Pointer height, PointerByReference pitches, PointerByReference lines) {
+            // The flight recorder module is optional, so the event type must not be touched if it is not present
+            VideoFormatEvent formatEvent = FlightRecording.isAvailable() ? new VideoFormatEvent() : null;
+            if (formatEvent != null) {
+                formatEvent.begin();
+            }
             int[] widthArray = width.getIntArray(0, 2);
             int[] heightArray = height.getIntArray(0, 2);
             int sourceWidth = widthArray[0];
@@ -102,9 +147,24 @@ public class CallbackVideoSurface extends VideoSurface {
             sourceHeight = height.getInt(0);
             bufferFormatCallback.newFormatSize(sourceWidth, sourceHeight, displayWidth, displayHeight);
             bufferFormatCallback.allocatedBuffers(nativeBuffers.buffers());
+            if (formatEvent != null) {
+                recordFormat(formatEvent, widthArray[0], heightArray[0]);
+            }
             return result;
         }
 
+        private void recordFormat(VideoFormatEvent formatEvent, int sourceWidth, int sourceHeight) {
+            formatEvent.end();
+            if (formatEvent.shouldCommit()) {
+                formatEvent.sourceWidth = sourceWidth;
+                formatEvent.sourceHeight = sourceHeight;
+                formatEvent.bufferWidth = bufferFormat.getWidth();
+                formatEvent.bufferHeight = bufferFormat.getHeight();
+                formatEvent.chroma = bufferFormat.getChroma();
+                formatEvent.commit();
+            }
+        }
+
         /**
          * Set the desired video format properties - space for these structures is already allocated by LibVlc, we
          * simply fill the existing memory.
@@ -139,6 +199,10 @@ public class CallbackVideoSurface extends VideoSurface {
 
         @Override
         public void cleanup(Long opaque) {
+            FrameCapture frameCapture;
+            while ((frameCapture = frameCaptures.poll()) != null) {
+                frameCapture.cancel();
+            }
             nativeBuffers.free();
         }
 
@@ -187,6 +251,10 @@ public class CallbackVideoSurface extends VideoSurface {
 
         @Override
         public void display(Long opaque, Pointer picture) {
+            FrameCapture frameCapture;
+            while ((frameCapture = frameCaptures.poll()) != null) {
+                frameCapture.capture(nativeBuffers.buffers(), bufferFormat, displayWidth, displayHeight);
+            }
             CallbackVideoSurface.this.renderCallback.display(mediaPlayer, nativeBuffers.buffers(), bufferFormat, displayWidth, displayHeight);
         }
 
@@ -0,0 +1,179 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.player.embedded.videosurface;
+
+import uk.co.caprica.vlcj.player.embedded.videosurface.callback.BufferFormat;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Private helper to capture a single displayed video frame into an image.
+ * <p>
+ * Only the raw copy of the frame pixels happens on the native display callback thread, any pixel format conversion and
+ * scaling happen afterwards using the common fork-join pool - so the display callback is held up for no longer than a
+ * single memory copy, and the future is never completed on a native callback thread.
+ * <p>
+ * Only single-plane 32-bit RGB buffer formats are supported, i.e. chroma "RV32", "BGRA" and "RGBA".
+ */
+final class FrameCapture {
+
+    /**
+     * Executor used for conversion and scaling, and to complete the future.
+     */
+    private static final Executor executor = ForkJoinPool.commonPool();
+
+    /**
+     * Desired image width, or zero.
+     */
+    private final int width;
+
+    /**
+     * Desired image height, or zero.
+     */
+    private final int height;
+
+    /**
+     * Future completed with the captured image.
+     */
+    private final CompletableFuture<BufferedImage> future = new CompletableFuture<>();
+
+    /**
+     * Create a frame capture.
+     *
+     * @param width desired image width, or zero
+     * @param height desired image height, or zero
+     */
+    FrameCapture(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Get the future completed with the captured image.
+     *
+     * @return future
+     */
+    CompletableFuture<BufferedImage> future() {
+        return future;
+    }
+
+    /**
+     * Capture the frame.
+     * <p>
+     * This is invoked on the native display callback thread.
+     *
+     * @param buffers native video buffers
+     * @param bufferFormat video buffer format
+     * @param displayWidth pixel width of the video
+     * @param displayHeight pixel height of the video
+     */
+    void capture(ByteBuffer[] buffers, BufferFormat bufferFormat, int displayWidth, int displayHeight) {
+        if (future.isDone()) {
+            return;
+        }
+        String chroma = bufferFormat.getChroma();
+        if (!chroma.equals("RV32") && !chroma.equals("BGRA") && !chroma.equals("RGBA")) {
+            future.completeExceptionally(new IllegalStateException("Unsupported buffer format for frame capture: " + chroma));
+            return;
+        }
+        int frameWidth = Math.min(displayWidth > 0 ? displayWidth : bufferFormat.getWidth(), bufferFormat.getWidth());
+        int frameHeight = Math.min(displayHeight > 0 ? displayHeight : bufferFormat.getHeight(), bufferFormat.getHeight());
+        int pitch = bufferFormat.getPitches()[0] / 4;
+        BufferedImage image = new BufferedImage(frameWidth, frameHeight, BufferedImage.TYPE_INT_RGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        IntBuffer source = buffers[0].duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        for (int y = 0; y < frameHeight; y++) {
+            source.limit(y * pitch + frameWidth).position(y * pitch);
+            source.get(pixels, y * frameWidth, frameWidth);
+        }
+        boolean swap = chroma.equals("RGBA");
+        executor.execute(() -> {
+            try {
+                future.complete(scale(swap ? swapRedBlue(image, pixels) : image));
+            }
+            catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Cancel the capture because the video output has gone away.
+     */
+    void cancel() {
+        executor.execute(() -> future.complete(null));
+    }
+
+    /**
+     * Convert pixels that were copied from an "RGBA" buffer, i.e. "0xAABBGGRR" in little-endian order, to RGB.
+     *
+     * @param image image
+     * @param pixels image pixels
+     * @return image
+     */
+    private static BufferedImage swapRedBlue(BufferedImage image, int[] pixels) {
+        for (int i = 0; i < pixels.length; i++) {
+            int pixel = pixels[i];
+            pixels[i] = ((pixel & 0xff) << 16) | (pixel & 0xff00) | ((pixel >> 16) & 0xff);
+        }
+        return image;
+    }
+
+    /**
+     * Scale the image to the desired size.
+     * <p>
+     * If one of width or height is zero the original image aspect ratio is preserved, if both are zero the original
+     * image is returned.
+     *
+     * @param image image
+     * @return scaled image
+     */
+    private BufferedImage scale(BufferedImage image) {
+        if (width <= 0 && height <= 0) {
+            return image;
+        }
+        int targetWidth = width > 0 ? width : Math.max(1, (int) Math.round((double) image.getWidth() * height / image.getHeight()));
+        int targetHeight = height > 0 ? height : Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+        if (targetWidth == image.getWidth() && targetHeight == image.getHeight()) {
+            return image;
+        }
+        BufferedImage scaled = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(image, 0, 0, targetWidth, targetHeight, null);
+        }
+        finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+}
@@ -19,6 +19,8 @@
 
 package uk.co.caprica.vlcj.player.renderer;
 
+import uk.co.caprica.vlcj.support.metrics.EventMetrics;
+
 /**
  * Behaviour pertaining to renderer discoverer events.
  */
@@ -53,6 +55,26 @@ public final class EventApi extends BaseApi {
         eventManager.removeEventListener(listener);
     }
 
+    /**
+     * Set a component to collect metrics for the dispatch of native events to listeners.
+     * <p>
+     * The same metrics component may be shared with other components.
+     *
+     * @param metrics metrics collector, or <code>null</code> to disable metrics
+     */
+    public void setMetrics(EventMetrics metrics) {
+        eventManager.setMetrics(metrics);
+    }
+
+    /**
+     * Get the component collecting metrics for the dispatch of native events to listeners.
+     *
+     * @return metrics collector, or <code>null</code> if metrics are not enabled
+     */
+    public EventMetrics getMetrics() {
+        return eventManager.getMetrics();
+    }
+
     @Override
     protected void release() {
         eventManager.release();
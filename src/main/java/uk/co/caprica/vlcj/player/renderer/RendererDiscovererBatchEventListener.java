@@ -0,0 +1,51 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.renderer;
+
+import javax.swing.*;
+import java.util.List;
+
+/**
+ * Specification for a component that is interested in receiving batches of renderer discoverer item events.
+ * <p>
+ * Batches are delivered by a {@link RendererDiscovererEventBatcher}, on a dedicated batching thread. This is
+ * <em>not</em> the native event thread so it is safe to call back into LibVLC, but it is also not the Swing Event
+ * Dispatch thread so if updating user interface components in response to these events care must be taken to use
+ * {@link SwingUtilities#invokeLater(Runnable)}.
+ */
+public interface RendererDiscovererBatchEventListener {
+
+    /**
+     * A batch of items was added (discovered).
+     *
+     * @param rendererDiscoverer component the event relates to
+     * @param itemsAdded items that were added, in the order they were added
+     */
+    void rendererDiscovererItemsAdded(RendererDiscoverer rendererDiscoverer, List<RendererItem> itemsAdded);
+
+    /**
+     * A batch of items was deleted.
+     *
+     * @param rendererDiscoverer component the event relates to
+     * @param itemsDeleted items that were deleted, in the order they were deleted
+     */
+    void rendererDiscovererItemsDeleted(RendererDiscoverer rendererDiscoverer, List<RendererItem> itemsDeleted);
+
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.player.renderer;
+
+import uk.co.caprica.vlcj.support.eventmanager.EventBatcher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A renderer discoverer event listener that collects item added and item deleted events and delivers them in batches.
+ * <p>
+ * This component collects those events over a short window and delivers them to a
+ * {@link RendererDiscovererBatchEventListener} as a single batch.
+ * <p>
+ * A batch is delivered when the batching window, which starts when the first event of the batch is received, expires,
+ * or when {@link #flush()} is invoked. A run of added items and a run of deleted items are never mixed in the same
+ * batch, so ordering is preserved.
+ * <p>
+ * Batching is opt-in, simply add this component as an ordinary renderer discoverer event listener:
+ * <pre>
+ * RendererDiscovererEventBatcher batcher = new RendererDiscovererEventBatcher(batchListener, 100, TimeUnit.MILLISECONDS);
+ * rendererDiscoverer.events().addRendererDiscovererEventListener(batcher);
+ * </pre>
+ * This component must be released when it is no longer needed, after it has been removed as a listener.
+ */
+public final class RendererDiscovererEventBatcher extends RendererDiscovererEventAdapter {
+
+    /**
+     * Component that receives the batches.
+     */
+    private final RendererDiscovererBatchEventListener listener;
+
+    /**
+     * Component that collects the batches.
+     */
+    private final EventBatcher<BatchKind, RendererItem> batcher;
+
+    /**
+     * Create a renderer discoverer event batcher.
+     *
+     * @param listener component that receives the batches
+     * @param window batching window
+     * @param unit time unit for the batching window
+     */
+    public RendererDiscovererEventBatcher(RendererDiscovererBatchEventListener listener, long window, TimeUnit unit) {
+        this.listener = listener;
+        this.batcher = new EventBatcher<>(window, unit, this::deliver);
+    }
+
+    @Override
+    public void rendererDiscovererItemAdded(RendererDiscoverer rendererDiscoverer, RendererItem itemAdded) {
+        batcher.add(new BatchKind(rendererDiscoverer, true), itemAdded);
+    }
+
+    @Override
+    public void rendererDiscovererItemDeleted(RendererDiscoverer rendererDiscoverer, RendererItem itemDeleted) {
+        batcher.add(new BatchKind(rendererDiscoverer, false), itemDeleted);
+    }
+
+    /**
+     * Deliver any pending batch without waiting for the batching window to expire.
+     * <p>
+     * The batch is still delivered asynchronously.
+     */
+    public void flush() {
+        batcher.flush();
+    }
+
+    /**
+     * Release this component.
+     * <p>
+     * Any pending batch is delivered first.
+     */
+    public void release() {
+        batcher.release();
+    }
+
+    private void deliver(BatchKind kind, List<RendererItem> items) {
+        if (kind.added) {
+            listener.rendererDiscovererItemsAdded(kind.rendererDiscoverer, items);
+        } else {
+            listener.rendererDiscovererItemsDeleted(kind.rendererDiscoverer, items);
+        }
+    }
+
+    /**
+     * Kind of item in a batch.
+     */
+    private static final class BatchKind {
+
+        private final RendererDiscoverer rendererDiscoverer;
+
+        private final boolean added;
+
+        private BatchKind(RendererDiscoverer rendererDiscoverer, boolean added) {
+            this.rendererDiscoverer = rendererDiscoverer;
+            this.added = added;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof BatchKind)) {
+                return false;
+            }
+            BatchKind other = (BatchKind) obj;
+            return rendererDiscoverer == other.rendererDiscoverer && added == other.added;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(rendererDiscoverer) + (added ? 1 : 0);
+        }
+    }
+
+}
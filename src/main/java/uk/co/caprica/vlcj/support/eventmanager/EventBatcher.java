@@ -0,0 +1,177 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.support.eventmanager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Component that collects items from individual events and hands them off in batches.
+ * <p>
+ * Each item is added together with a "kind", consecutive items of the same kind are collected in the same batch. A
+ * batch is handed off when:
+ * <ul>
+ *     <li>the batching window, started when the first item of the batch was added, expires;</li>
+ *     <li>an item of a different kind is added, so the relative ordering of different kinds of items is preserved;</li>
+ *     <li>{@link #flush()} is invoked.</li>
+ * </ul>
+ * Batches are always handed off on a dedicated batching thread, in the order in which they were collected, never on the
+ * thread that added the items - so a slow batch handler will not hold up a native event callback thread.
+ *
+ * @param <K> type of item kind
+ * @param <T> type of item
+ */
+public final class EventBatcher<K, T> {
+
+    /**
+     * Specification for a component that handles batches.
+     *
+     * @param <K> type of item kind
+     * @param <T> type of item
+     */
+    public interface BatchHandler<K, T> {
+
+        /**
+         * Handle a batch.
+         *
+         * @param kind kind of all items in the batch
+         * @param items items, in the order in which they were added
+         */
+        void batch(K kind, List<T> items);
+
+    }
+
+    /**
+     * Batching window.
+     */
+    private final long window;
+
+    /**
+     * Time unit for the batching window.
+     */
+    private final TimeUnit unit;
+
+    /**
+     * Component that handles the batches.
+     */
+    private final BatchHandler<K, T> handler;
+
+    /**
+     * Single-threaded service used to time the batching window and to hand off batches.
+     */
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "event-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Kind of the items in the current batch.
+     */
+    private K kind;
+
+    /**
+     * Items in the current batch.
+     */
+    private List<T> items = new ArrayList<>();
+
+    /**
+     * Pending hand-off of the current batch when the batching window expires.
+     */
+    private ScheduledFuture<?> pending;
+
+    /**
+     * Create a new event batcher.
+     *
+     * @param window batching window
+     * @param unit time unit for the batching window
+     * @param handler component that handles the batches
+     */
+    public EventBatcher(long window, TimeUnit unit, BatchHandler<K, T> handler) {
+        this.window = window;
+        this.unit = unit;
+        this.handler = handler;
+    }
+
+    /**
+     * Add an item to the current batch.
+     *
+     * @param kind kind of item
+     * @param item item
+     */
+    public synchronized void add(K kind, T item) {
+        if (!items.isEmpty() && !Objects.equals(this.kind, kind)) {
+            handOff();
+        }
+        this.kind = kind;
+        items.add(item);
+        if (pending == null) {
+            pending = executor.schedule(this::flush, window, unit);
+        }
+    }
+
+    /**
+     * Hand off the current batch, if there is one, without waiting for the batching window to expire.
+     */
+    public synchronized void flush() {
+        if (!items.isEmpty()) {
+            handOff();
+        }
+    }
+
+    /**
+     * Release this component.
+     * <p>
+     * Any current batch is handed off, and there may be a short delay while waiting for that to complete.
+     */
+    public void release() {
+        flush();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Hand off the current batch and start a new one.
+     * <p>
+     * Must be invoked while holding the monitor.
+     */
+    private void handOff() {
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        K batchKind = kind;
+        List<T> batchItems = items;
+        kind = null;
+        items = new ArrayList<>();
+        executor.execute(() -> handler.batch(batchKind, batchItems));
+    }
+
+}
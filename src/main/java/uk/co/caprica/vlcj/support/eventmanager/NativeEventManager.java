@@ -27,6 +27,9 @@ import uk.co.caprica.vlcj.binding.internal.libvlc_event_e;
 import uk.co.caprica.vlcj.binding.internal.libvlc_event_manager_t;
 import uk.co.caprica.vlcj.binding.internal.libvlc_event_t;
 import uk.co.caprica.vlcj.binding.internal.libvlc_instance_t;
+import uk.co.caprica.vlcj.support.jfr.FlightRecording;
+import uk.co.caprica.vlcj.support.jfr.NativeEventDispatchEvent;
+import uk.co.caprica.vlcj.support.metrics.EventMetrics;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -38,6 +41,10 @@ import static uk.co.caprica.vlcj.binding.lib.LibVlc.libvlc_event_detach;
  * Common implementation for a component that deals with a native LibVlc event manager.
  * <p>
  * Native events will only be delivered if there is at least one event listener.
+ * <p>
+ * Event dispatch can optionally be instrumented by setting an {@link EventMetrics} component, see
+ * {@link #setMetrics(EventMetrics)}. In addition, a {@link NativeEventDispatchEvent} is emitted for each native upcall
+ * if that event is enabled in a flight recording.
  *
  * @param <E> type of the event object
  * @param <L> type of the event listener
@@ -97,6 +104,11 @@ abstract public class NativeEventManager<E,L> {
      */
     private boolean callbackRegistered;
 
+    /**
+     * Optional metrics collector, <code>null</code> if event dispatch is not being instrumented.
+     */
+    private volatile EventMetrics metrics;
+
     /**
      * Create a new component to manage native events.
      *
@@ -146,6 +158,27 @@ abstract public class NativeEventManager<E,L> {
         removeNativeEventListener();
     }
 
+    /**
+     * Set a component to collect event dispatch metrics.
+     * <p>
+     * When metrics are enabled each listener invocation is timed, this adds a small overhead to the dispatch of every
+     * event.
+     *
+     * @param metrics metrics collector, or <code>null</code> to disable metrics
+     */
+    public final void setMetrics(EventMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Get the component collecting event dispatch metrics.
+     *
+     * @return metrics collector, or <code>null</code> if metrics are not enabled
+     */
+    public final EventMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Register a call-back to receive native events.
      */
@@ -198,15 +231,42 @@ abstract public class NativeEventManager<E,L> {
      */
     public final void raiseEvent(EventNotification<L> event) {
         if (event != null) {
-            for (L listener : eventListenerList) {
-                event.notify(listener);
-            }
-            for (L listener : postEventListenerList) {
-                event.notify(listener);
+            EventMetrics metrics = this.metrics;
+            if (metrics == null) {
+                for (L listener : eventListenerList) {
+                    event.notify(listener);
+                }
+                for (L listener : postEventListenerList) {
+                    event.notify(listener);
+                }
+            } else {
+                raiseEvent(event, eventTypeName(event), metrics);
             }
         }
     }
 
+    /**
+     * Raise a new event, timing each listener.
+     *
+     * @param event event to raise
+     * @param eventType name of the event type
+     * @param metrics metrics collector
+     */
+    private void raiseEvent(EventNotification<L> event, String eventType, EventMetrics metrics) {
+        long start = System.nanoTime();
+        notifyListeners(event, eventType, eventListenerList, metrics);
+        notifyListeners(event, eventType, postEventListenerList, metrics);
+        metrics.dispatch(eventType, System.nanoTime() - start);
+    }
+
+    private void notifyListeners(EventNotification<L> event, String eventType, List<L> listeners, EventMetrics metrics) {
+        for (L listener : listeners) {
+            long start = System.nanoTime();
+            event.notify(listener);
+            metrics.listener(callbackName, eventType, listener, System.nanoTime() - start);
+        }
+    }
+
     /**
      * Release this component.
      */
@@ -230,11 +290,78 @@ abstract public class NativeEventManager<E,L> {
 
         @Override
         public void callback(libvlc_event_t event, Pointer userData) {
-            raiseEvent(onCreateEvent(libvlcInstance, event, eventObject));
+            EventMetrics metrics = NativeEventManager.this.metrics;
+            // The flight recorder module is optional, so the event type must not be touched if it is not present
+            boolean record = FlightRecording.isAvailable() && NativeEventDispatchEvent.isRecording();
+            if (metrics == null && !record) {
+                raiseEvent(onCreateEvent(libvlcInstance, event, eventObject));
+            } else {
+                traceEvent(event, metrics, record ? new NativeEventDispatchEvent() : null);
+            }
+        }
+
+        /**
+         * Create and raise an event, recording metrics and/or a flight recorder event.
+         *
+         * @param event native event
+         * @param metrics metrics collector, may be <code>null</code>
+         * @param dispatchEvent flight recorder event, may be <code>null</code>
+         */
+        private void traceEvent(libvlc_event_t event, EventMetrics metrics, NativeEventDispatchEvent dispatchEvent) {
+            if (dispatchEvent != null) {
+                dispatchEvent.begin();
+            }
+            long start = System.nanoTime();
+            EventNotification<L> notification = onCreateEvent(libvlcInstance, event, eventObject);
+            long createDuration = System.nanoTime() - start;
+            // Native events that are not handled have no event class, so fall back to the native event name
+            String eventType = notification != null ? eventTypeName(notification) : eventTypeName(event.type);
+            if (metrics != null) {
+                metrics.upcall(eventType, createDuration);
+                if (notification != null) {
+                    raiseEvent(notification, eventType, metrics);
+                }
+            } else {
+                raiseEvent(notification);
+            }
+            if (dispatchEvent != null) {
+                dispatchEvent.end();
+                if (dispatchEvent.shouldCommit()) {
+                    dispatchEvent.component = callbackName;
+                    dispatchEvent.eventType = eventType;
+                    dispatchEvent.listeners = notification != null ? eventListenerList.size() + postEventListenerList.size() : 0;
+                    dispatchEvent.createDuration = createDuration;
+                    dispatchEvent.commit();
+                }
+            }
         }
 
     }
 
+    /**
+     * Get a name for an event.
+     * <p>
+     * The same name is used whether the event was raised from a native callback or directly via
+     * {@link #raiseEvent(EventNotification)}, so the metrics for both are aggregated together.
+     *
+     * @param event event
+     * @return name
+     */
+    private static String eventTypeName(EventNotification<?> event) {
+        return event.getClass().getSimpleName();
+    }
+
+    /**
+     * Get a name for a native event type.
+     *
+     * @param type native event type
+     * @return name
+     */
+    private static String eventTypeName(int type) {
+        libvlc_event_e event = libvlc_event_e.event(type);
+        return event != null ? event.name() : Integer.toString(type);
+    }
+
     /**
      * Get the native event manager.
      *
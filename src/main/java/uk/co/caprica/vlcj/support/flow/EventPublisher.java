@@ -0,0 +1,420 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.support.flow;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Base implementation of a reactive streams publisher for native events.
+ * <p>
+ * Events are published from native callback threads, which must never block and must never call back into LibVLC, so
+ * each subscriber has its own bounded buffer and items are delivered to subscribers asynchronously using an
+ * {@link Executor}, honouring the demand signalled by each subscriber. If a subscriber does not keep up, its
+ * {@link OverflowPolicy} determines what happens to new events - other subscribers are not affected.
+ * <p>
+ * Each subscriber may also provide a filter, events rejected by the filter are never buffered for that subscriber.
+ * <p>
+ * Implementations should arrange to start receiving native events when {@link #onActivate()} is invoked, this happens
+ * when the first subscriber subscribes, so there is no native event overhead if there are never any subscribers.
+ * Implementations must likewise stop receiving native events when {@link #onDeactivate()} is invoked, this happens when
+ * the last subscription ends or when the publisher is closed. A publisher is activated again if a new subscriber then
+ * subscribes.
+ *
+ * @param <T> type of published item
+ */
+public abstract class EventPublisher<T> implements Flow.Publisher<T> {
+
+    /**
+     * Default subscriber buffer size.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = Flow.defaultBufferSize();
+
+    /**
+     * Executor used to deliver items to subscribers.
+     */
+    private final Executor executor;
+
+    /**
+     * Current subscriptions.
+     */
+    private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Lock used to serialise activation and deactivation.
+     */
+    private final Object activationLock = new Object();
+
+    /**
+     * Flag set while this publisher is activated, guarded by the activation lock.
+     */
+    private boolean activated;
+
+    /**
+     * Flag set when this publisher has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Create a publisher.
+     *
+     * @param executor executor used to deliver items to subscribers
+     */
+    protected EventPublisher(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Subscribe to all events, using the default buffer size and dropping the oldest events on overflow.
+     *
+     * @param subscriber subscriber
+     */
+    @Override
+    public final void subscribe(Flow.Subscriber<? super T> subscriber) {
+        subscribe(subscriber, null, DEFAULT_BUFFER_SIZE, OverflowPolicy.DROP_OLDEST);
+    }
+
+    /**
+     * Subscribe to filtered events, using the default buffer size and dropping the oldest events on overflow.
+     *
+     * @param subscriber subscriber
+     * @param filter filter, or <code>null</code> for all events
+     */
+    public final void subscribe(Flow.Subscriber<? super T> subscriber, Predicate<? super T> filter) {
+        subscribe(subscriber, filter, DEFAULT_BUFFER_SIZE, OverflowPolicy.DROP_OLDEST);
+    }
+
+    /**
+     * Subscribe to filtered events.
+     *
+     * @param subscriber subscriber
+     * @param filter filter, or <code>null</code> for all events
+     * @param bufferSize maximum number of events buffered for the subscriber
+     * @param overflowPolicy policy applied when the subscriber buffer is full
+     */
+    public final void subscribe(Flow.Subscriber<? super T> subscriber, Predicate<? super T> filter, int bufferSize, OverflowPolicy overflowPolicy) {
+        Objects.requireNonNull(subscriber);
+        Objects.requireNonNull(overflowPolicy);
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be greater than zero");
+        }
+        EventSubscription subscription = new EventSubscription(subscriber, filter, bufferSize, overflowPolicy);
+        subscriber.onSubscribe(subscription);
+        if (closed) {
+            subscription.terminate(null);
+            return;
+        }
+        subscriptions.add(subscription);
+        // The subscriber may already have cancelled (e.g. in onSubscribe), before the subscription was added
+        if (subscription.isEnded()) {
+            remove(subscription);
+            return;
+        }
+        synchronized (activationLock) {
+            if (!activated && !closed) {
+                activated = true;
+                onActivate();
+            }
+        }
+    }
+
+    /**
+     * Get the number of current subscribers.
+     *
+     * @return subscriber count
+     */
+    public final int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Close this publisher.
+     * <p>
+     * Each current subscriber is completed after its buffered events have been delivered, and any new subscriber is
+     * completed immediately.
+     */
+    public void close() {
+        closed = true;
+        for (EventSubscription subscription : subscriptions) {
+            subscription.terminate(null);
+        }
+        subscriptions.clear();
+        deactivate();
+    }
+
+    /**
+     * Invoked when the first subscriber subscribes.
+     */
+    protected void onActivate() {
+    }
+
+    /**
+     * Invoked when the last subscription ends, or when this publisher is closed.
+     * <p>
+     * This is never invoked on a native callback thread.
+     */
+    protected void onDeactivate() {
+    }
+
+    /**
+     * Remove a subscription, deactivating this publisher if it was the last one.
+     * <p>
+     * A subscription may end on a native callback thread (on buffer overflow), where it is forbidden to call back into
+     * LibVLC, so deactivation is always handed off to the executor.
+     *
+     * @param subscription subscription to remove
+     */
+    private void remove(EventSubscription subscription) {
+        if (subscriptions.remove(subscription) && subscriptions.isEmpty()) {
+            executor.execute(this::deactivateIfIdle);
+        }
+    }
+
+    private void deactivateIfIdle() {
+        synchronized (activationLock) {
+            if (activated && subscriptions.isEmpty()) {
+                activated = false;
+                onDeactivate();
+            }
+        }
+    }
+
+    private void deactivate() {
+        synchronized (activationLock) {
+            if (activated) {
+                activated = false;
+                onDeactivate();
+            }
+        }
+    }
+
+    /**
+     * Publish an item to all current subscribers.
+     * <p>
+     * This method never blocks.
+     *
+     * @param item item to publish
+     */
+    protected final void publish(T item) {
+        for (EventSubscription subscription : subscriptions) {
+            subscription.offer(item);
+        }
+    }
+
+    /**
+     * A subscription, with its own bounded buffer.
+     * <p>
+     * Delivery uses the usual "work-in-progress" counter so that at most one delivery task is running for a subscription
+     * at any one time, and items are therefore delivered to each subscriber serially and in order.
+     */
+    private final class EventSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final Predicate<? super T> filter;
+
+        private final int bufferSize;
+
+        private final OverflowPolicy overflowPolicy;
+
+        /**
+         * Buffered items, guarded by the buffer monitor.
+         */
+        private final ArrayDeque<T> buffer;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        private final AtomicInteger workInProgress = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile boolean done;
+
+        private volatile Throwable error;
+
+        private EventSubscription(Flow.Subscriber<? super T> subscriber, Predicate<? super T> filter, int bufferSize, OverflowPolicy overflowPolicy) {
+            this.subscriber = subscriber;
+            this.filter = filter;
+            this.bufferSize = bufferSize;
+            this.overflowPolicy = overflowPolicy;
+            this.buffer = new ArrayDeque<>(Math.min(bufferSize, 64));
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                terminate(new IllegalArgumentException("Request must be greater than zero"));
+                return;
+            }
+            demand.getAndUpdate(current -> {
+                long next = current + n;
+                return next < 0 ? Long.MAX_VALUE : next;
+            });
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            remove(this);
+            schedule();
+        }
+
+        private void offer(T item) {
+            if (cancelled || done) {
+                return;
+            }
+            if (filter != null && !filter.test(item)) {
+                return;
+            }
+            boolean overflow = false;
+            synchronized (buffer) {
+                if (buffer.size() < bufferSize) {
+                    buffer.addLast(item);
+                } else {
+                    switch (overflowPolicy) {
+                        case DROP_OLDEST:
+                            buffer.pollFirst();
+                            buffer.addLast(item);
+                            break;
+                        case DROP_LATEST:
+                            break;
+                        case ERROR:
+                            overflow = true;
+                            break;
+                    }
+                }
+            }
+            if (overflow) {
+                terminate(new IllegalStateException("Subscriber buffer overflow"));
+            } else {
+                schedule();
+            }
+        }
+
+        /**
+         * Terminate this subscription.
+         * <p>
+         * Completion is signalled after any buffered items have been delivered, an error is signalled immediately.
+         * <p>
+         * The subscription is removed from the publisher straight away, since no further items will be accepted.
+         *
+         * @param error error, or <code>null</code> to complete normally
+         */
+        private void terminate(Throwable error) {
+            this.error = error;
+            this.done = true;
+            remove(this);
+            schedule();
+        }
+
+        /**
+         * Determine whether or not this subscription has been cancelled or terminated.
+         *
+         * @return <code>true</code> if this subscription has ended; <code>false</code> if it is still active
+         */
+        private boolean isEnded() {
+            return cancelled || done;
+        }
+
+        private void schedule() {
+            if (workInProgress.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            for (;;) {
+                if (cancelled) {
+                    clear();
+                    return;
+                }
+                long requested = demand.get();
+                long emitted = 0;
+                while (emitted != requested) {
+                    if (cancelled) {
+                        clear();
+                        return;
+                    }
+                    if (error != null) {
+                        break;
+                    }
+                    T item;
+                    synchronized (buffer) {
+                        item = buffer.pollFirst();
+                    }
+                    if (item == null) {
+                        break;
+                    }
+                    try {
+                        subscriber.onNext(item);
+                    }
+                    catch (Throwable t) {
+                        cancel();
+                        clear();
+                        subscriber.onError(t);
+                        return;
+                    }
+                    emitted++;
+                }
+                if (emitted != 0 && requested != Long.MAX_VALUE) {
+                    demand.addAndGet(-emitted);
+                }
+                if (done && !cancelled) {
+                    Throwable error = this.error;
+                    boolean empty;
+                    synchronized (buffer) {
+                        empty = buffer.isEmpty();
+                    }
+                    if (error != null || empty) {
+                        cancelled = true;
+                        clear();
+                        if (error != null) {
+                            subscriber.onError(error);
+                        } else {
+                            subscriber.onComplete();
+                        }
+                        return;
+                    }
+                }
+                missed = workInProgress.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void clear() {
+            synchronized (buffer) {
+                buffer.clear();
+            }
+        }
+    }
+
+}
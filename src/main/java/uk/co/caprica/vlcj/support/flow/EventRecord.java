@@ -0,0 +1,120 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.support.flow;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Base class for an immutable record of an event, as published by an {@link EventPublisher}.
+ * <p>
+ * Each record has a type, from an enumeration specific to the component that generated the event. Each component has
+ * its own record class with typed accessors for the values carried by each event type, so values are neither boxed nor
+ * cast - an accessor invoked for an event type that does not carry that value throws {@link IllegalStateException}.
+ * <p>
+ * Native resources (like media references) are only valid for the duration of a native callback, so these are never
+ * carried by an event record.
+ *
+ * @param <C> type of component that generated the event
+ * @param <K> type of event type enumeration
+ */
+public abstract class EventRecord<C, K extends Enum<K>> {
+
+    private final C component;
+
+    private final K type;
+
+    /**
+     * Create an event record.
+     *
+     * @param component component that generated the event
+     * @param type event type
+     */
+    protected EventRecord(C component, K type) {
+        this.component = component;
+        this.type = type;
+    }
+
+    /**
+     * Create a filter that accepts only event records of the given types.
+     *
+     * @param first event type to accept
+     * @param rest other event types to accept
+     * @param <K> type of event type enumeration
+     * @return filter
+     */
+    @SafeVarargs
+    public static <K extends Enum<K>> Predicate<EventRecord<?, K>> ofType(K first, K... rest) {
+        Set<K> types = EnumSet.of(first, rest);
+        return record -> types.contains(record.type);
+    }
+
+    /**
+     * Get the component that generated the event.
+     *
+     * @return component
+     */
+    public final C component() {
+        return component;
+    }
+
+    /**
+     * Get the event type.
+     *
+     * @return type
+     */
+    public final K type() {
+        return type;
+    }
+
+    /**
+     * Check that this record is of a type that carries a value.
+     *
+     * @param types event types that carry the value
+     * @throws IllegalStateException if this record is not of one of the types
+     */
+    protected final void requireType(Set<K> types) {
+        if (!types.contains(type)) {
+            throw new IllegalStateException("Value not available for event type " + type);
+        }
+    }
+
+    /**
+     * Check that this record is of a type that carries a value.
+     *
+     * @param expected event type that carries the value
+     * @throws IllegalStateException if this record is not of that type
+     */
+    protected final void requireType(K expected) {
+        if (type != expected) {
+            throw new IllegalStateException("Value not available for event type " + type);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(60);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("type=").append(type).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.support.flow;
+
+/**
+ * Enumeration of policies for handling a full subscriber buffer.
+ * <p>
+ * Events are published from native callback threads, which must never block, so a subscriber that does not keep up
+ * with the rate of events must either lose events or be terminated.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Discard the oldest buffered event to make room for the new event.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Discard the new event.
+     */
+    DROP_LATEST,
+
+    /**
+     * Terminate the subscription with an error.
+     */
+    ERROR
+
+}
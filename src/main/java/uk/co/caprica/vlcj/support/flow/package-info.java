@@ -0,0 +1,4 @@
+/**
+ * Provides reactive streams ({@link java.util.concurrent.Flow}) support for native events.
+ */
+package uk.co.caprica.vlcj.support.flow;
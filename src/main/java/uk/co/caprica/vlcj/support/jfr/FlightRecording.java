@@ -0,0 +1,59 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.support.jfr;
+
+/**
+ * Determines whether or not flight recorder events can be used at all.
+ * <p>
+ * The flight recorder module is an optional dependency, a runtime image built without it must still be able to use
+ * vlcj. Before touching any of the event types in this package, code must check {@link #isAvailable()} - if the module
+ * is not present the event types can not even be loaded.
+ * <p>
+ * When vlcj is used as a named module, the flight recorder module is only present if something resolves it, e.g. by
+ * running with "--add-modules jdk.jfr".
+ * <p>
+ * This class deliberately makes no reference to any flight recorder type.
+ */
+public final class FlightRecording {
+
+    /**
+     * Name of the flight recorder module.
+     */
+    private static final String MODULE_NAME = "jdk.jfr";
+
+    /**
+     * Flag set if the flight recorder module is present.
+     */
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule(MODULE_NAME).isPresent();
+
+    private FlightRecording() {
+    }
+
+    /**
+     * Determine whether or not the flight recorder module is present.
+     *
+     * @return <code>true</code> if flight recorder events can be used; <code>false</code> if they must not be used
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.support.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for media buffering.
+ * <p>
+ * The duration covers the time from buffering starting until the buffer is full.
+ */
+@Name("uk.co.caprica.vlcj.MediaBuffering")
+@Label("Media Buffering")
+@Description("Media player buffering")
+@Category({"vlcj", "Media Player"})
+public final class MediaBufferingEvent extends Event {
+
+    @Label("MRL")
+    @Description("Media resource locator")
+    public String mrl;
+
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.support.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event for the handling of a single native event upcall.
+ * <p>
+ * The duration of this event covers both the creation of the Java event and the dispatch to all listeners.
+ */
+@Name("uk.co.caprica.vlcj.NativeEventDispatch")
+@Label("Native Event Dispatch")
+@Description("Native LibVLC event delivered to vlcj event listeners")
+@Category({"vlcj", "Events"})
+public final class NativeEventDispatchEvent extends Event {
+
+    /**
+     * Instance used only to check whether or not this event type is enabled, without allocating a new event.
+     */
+    private static final NativeEventDispatchEvent PROBE = new NativeEventDispatchEvent();
+
+    @Label("Component")
+    @Description("Component that received the native event")
+    public String component;
+
+    @Label("Event Type")
+    public String eventType;
+
+    @Label("Listeners")
+    @Description("Number of listeners notified")
+    public int listeners;
+
+    @Label("Create Duration")
+    @Description("Time taken to create the Java event from the native event")
+    @Timespan(Timespan.NANOSECONDS)
+    public long createDuration;
+
+    /**
+     * Determine whether or not this event type is currently enabled in a recording.
+     * <p>
+     * This is checked for every native event, so it must not allocate.
+     *
+     * @return <code>true</code> if this event type is enabled; <code>false</code> otherwise
+     */
+    public static boolean isRecording() {
+        return PROBE.isEnabled();
+    }
+
+}
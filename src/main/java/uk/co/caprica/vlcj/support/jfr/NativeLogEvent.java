@@ -0,0 +1,70 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.support.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for a native log message.
+ * <p>
+ * Only messages that pass the native log threshold level are recorded.
+ */
+@Name("uk.co.caprica.vlcj.NativeLog")
+@Label("Native Log")
+@Description("Native LibVLC log message")
+@Category({"vlcj", "Log"})
+public final class NativeLogEvent extends Event {
+
+    /**
+     * Instance used only to check whether or not this event type is enabled, without allocating a new event.
+     */
+    private static final NativeLogEvent PROBE = new NativeLogEvent();
+
+    @Label("Level")
+    public String level;
+
+    @Label("Module")
+    public String module;
+
+    @Label("Object Name")
+    public String name;
+
+    @Label("Object Id")
+    public long id;
+
+    @Label("Message")
+    public String message;
+
+    /**
+     * Determine whether or not this event type is currently enabled in a recording.
+     * <p>
+     * This is checked for every native log message, so it must not allocate.
+     *
+     * @return <code>true</code> if this event type is enabled; <code>false</code> otherwise
+     */
+    public static boolean isRecording() {
+        return PROBE.isEnabled();
+    }
+
+}
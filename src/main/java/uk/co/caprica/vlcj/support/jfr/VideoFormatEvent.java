@@ -0,0 +1,54 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.support.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for setting up the video buffer format in a callback video surface.
+ * <p>
+ * The duration covers getting the buffer format from the application and allocating the native buffers.
+ */
+@Name("uk.co.caprica.vlcj.VideoFormat")
+@Label("Video Format")
+@Description("Video buffer format set up by a callback video surface")
+@Category({"vlcj", "Video"})
+public final class VideoFormatEvent extends Event {
+
+    @Label("Source Width")
+    public int sourceWidth;
+
+    @Label("Source Height")
+    public int sourceHeight;
+
+    @Label("Buffer Width")
+    public int bufferWidth;
+
+    @Label("Buffer Height")
+    public int bufferHeight;
+
+    @Label("Chroma")
+    public String chroma;
+
+}
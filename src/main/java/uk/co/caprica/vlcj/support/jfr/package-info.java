@@ -0,0 +1,8 @@
+/**
+ * Java Flight Recorder event types emitted by vlcj.
+ * <p>
+ * These events are only recorded when enabled in a flight recording, otherwise they have no effect.
+ * <p>
+ * The flight recorder module is optional, see {@link uk.co.caprica.vlcj.support.jfr.FlightRecording}.
+ */
+package uk.co.caprica.vlcj.support.jfr;
@@ -0,0 +1,179 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.support.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collector for callback media IO metrics.
+ * <p>
+ * An instance of this component can be set on a callback media to record:
+ * <ul>
+ *     <li>the number of opens, read calls, read errors, seeks and closes;</li>
+ *     <li>the total number of bytes read;</li>
+ *     <li>the distribution of the read sizes requested by LibVLC, and of the read sizes actually returned;</li>
+ *     <li>the distribution of read latency;</li>
+ *     <li>the distribution of seek distance;</li>
+ *     <li>the distribution of close latency;</li>
+ *     <li>the time from opening the media to the first byte being read.</li>
+ * </ul>
+ * Metrics are only collected while an instance is set, when no instance is set the native callback path is unchanged.
+ * <p>
+ * An instance should be used for a single callback media.
+ * <p>
+ * The recording methods are public only so they can be invoked by the callback media, applications should not invoke
+ * them directly.
+ */
+public final class CallbackMediaMetrics {
+
+    private final LongAdder opens = new LongAdder();
+
+    private final LongAdder reads = new LongAdder();
+
+    private final LongAdder readErrors = new LongAdder();
+
+    private final LongAdder bytesRead = new LongAdder();
+
+    private final LongAdder seeks = new LongAdder();
+
+    private final LongAdder closes = new LongAdder();
+
+    private final Histogram requestedSizes = new Histogram();
+
+    private final Histogram returnedSizes = new Histogram();
+
+    private final Histogram readTimes = new Histogram();
+
+    private final Histogram seekDistances = new Histogram();
+
+    private final Histogram closeTimes = new Histogram();
+
+    /**
+     * Current read position, as seen by these metrics - LibVLC reads and seeks on a single thread.
+     */
+    private volatile long position;
+
+    /**
+     * Time the media was last opened, nanoseconds.
+     */
+    private volatile long openTime;
+
+    /**
+     * Time from the media last being opened until the first byte was read, nanoseconds, or -1 if not known.
+     */
+    private volatile long timeToFirstByte = -1;
+
+    /**
+     * Record the media being opened.
+     */
+    public void open() {
+        opens.increment();
+        position = 0;
+        openTime = System.nanoTime();
+        timeToFirstByte = -1;
+    }
+
+    /**
+     * Record a read.
+     *
+     * @param requested number of bytes requested
+     * @param returned number of bytes returned, 0 at the end of the media, or -1 on error
+     * @param readNanos time taken by the read, nanoseconds
+     */
+    public void read(int requested, int returned, long readNanos) {
+        reads.increment();
+        requestedSizes.record(requested);
+        readTimes.record(readNanos);
+        if (returned < 0) {
+            readErrors.increment();
+            return;
+        }
+        returnedSizes.record(returned);
+        if (returned > 0) {
+            bytesRead.add(returned);
+            position += returned;
+            if (timeToFirstByte < 0) {
+                timeToFirstByte = System.nanoTime() - openTime;
+            }
+        }
+    }
+
+    /**
+     * Record a seek.
+     *
+     * @param offset requested offset
+     */
+    public void seek(long offset) {
+        seeks.increment();
+        seekDistances.record(Math.abs(offset - position));
+        position = offset;
+    }
+
+    /**
+     * Record the media being closed.
+     *
+     * @param closeNanos time taken to close the media, nanoseconds
+     */
+    public void close(long closeNanos) {
+        closes.increment();
+        closeTimes.record(closeNanos);
+    }
+
+    /**
+     * Get a snapshot of the current metrics.
+     *
+     * @return snapshot
+     */
+    public CallbackMediaMetricsSnapshot snapshot() {
+        return new CallbackMediaMetricsSnapshot(
+            opens.sum(),
+            reads.sum(),
+            readErrors.sum(),
+            bytesRead.sum(),
+            seeks.sum(),
+            closes.sum(),
+            timeToFirstByte,
+            requestedSizes.snapshot(),
+            returnedSizes.snapshot(),
+            readTimes.snapshot(),
+            seekDistances.snapshot(),
+            closeTimes.snapshot()
+        );
+    }
+
+    /**
+     * Reset all metrics.
+     */
+    public void reset() {
+        opens.reset();
+        reads.reset();
+        readErrors.reset();
+        bytesRead.reset();
+        seeks.reset();
+        closes.reset();
+        requestedSizes.reset();
+        returnedSizes.reset();
+        readTimes.reset();
+        seekDistances.reset();
+        closeTimes.reset();
+        timeToFirstByte = -1;
+    }
+
+}
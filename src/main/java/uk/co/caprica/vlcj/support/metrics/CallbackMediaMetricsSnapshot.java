@@ -0,0 +1,193 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.support.metrics;
+
+/**
+ * An immutable snapshot of callback media IO metrics.
+ */
+public final class CallbackMediaMetricsSnapshot {
+
+    private final long opens;
+
+    private final long reads;
+
+    private final long readErrors;
+
+    private final long bytesRead;
+
+    private final long seeks;
+
+    private final long closes;
+
+    private final long timeToFirstByte;
+
+    private final HistogramSnapshot requestedSizes;
+
+    private final HistogramSnapshot returnedSizes;
+
+    private final HistogramSnapshot readTimes;
+
+    private final HistogramSnapshot seekDistances;
+
+    private final HistogramSnapshot closeTimes;
+
+    CallbackMediaMetricsSnapshot(long opens, long reads, long readErrors, long bytesRead, long seeks, long closes, long timeToFirstByte, HistogramSnapshot requestedSizes, HistogramSnapshot returnedSizes, HistogramSnapshot readTimes, HistogramSnapshot seekDistances, HistogramSnapshot closeTimes) {
+        this.opens = opens;
+        this.reads = reads;
+        this.readErrors = readErrors;
+        this.bytesRead = bytesRead;
+        this.seeks = seeks;
+        this.closes = closes;
+        this.timeToFirstByte = timeToFirstByte;
+        this.requestedSizes = requestedSizes;
+        this.returnedSizes = returnedSizes;
+        this.readTimes = readTimes;
+        this.seekDistances = seekDistances;
+        this.closeTimes = closeTimes;
+    }
+
+    /**
+     * Get the number of times the media was opened.
+     *
+     * @return open count
+     */
+    public long opens() {
+        return opens;
+    }
+
+    /**
+     * Get the number of read calls.
+     *
+     * @return read count
+     */
+    public long reads() {
+        return reads;
+    }
+
+    /**
+     * Get the number of read calls that failed.
+     *
+     * @return read error count
+     */
+    public long readErrors() {
+        return readErrors;
+    }
+
+    /**
+     * Get the total number of bytes read.
+     *
+     * @return bytes read
+     */
+    public long bytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * Get the number of seeks.
+     *
+     * @return seek count
+     */
+    public long seeks() {
+        return seeks;
+    }
+
+    /**
+     * Get the number of times the media was closed.
+     *
+     * @return close count
+     */
+    public long closes() {
+        return closes;
+    }
+
+    /**
+     * Get the time from the media last being opened until the first byte was read.
+     *
+     * @return time to first byte, nanoseconds, or -1 if no byte has been read since the media was opened
+     */
+    public long timeToFirstByte() {
+        return timeToFirstByte;
+    }
+
+    /**
+     * Get the distribution of read sizes requested by LibVLC.
+     *
+     * @return requested size histogram, bytes
+     */
+    public HistogramSnapshot requestedSizes() {
+        return requestedSizes;
+    }
+
+    /**
+     * Get the distribution of read sizes returned to LibVLC, excluding failed reads.
+     *
+     * @return returned size histogram, bytes
+     */
+    public HistogramSnapshot returnedSizes() {
+        return returnedSizes;
+    }
+
+    /**
+     * Get the distribution of read latency.
+     *
+     * @return read time histogram, nanoseconds
+     */
+    public HistogramSnapshot readTimes() {
+        return readTimes;
+    }
+
+    /**
+     * Get the distribution of seek distance, from the position after the previous read or seek.
+     *
+     * @return seek distance histogram, bytes
+     */
+    public HistogramSnapshot seekDistances() {
+        return seekDistances;
+    }
+
+    /**
+     * Get the distribution of close latency.
+     *
+     * @return close time histogram, nanoseconds
+     */
+    public HistogramSnapshot closeTimes() {
+        return closeTimes;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(240);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("opens=").append(opens).append(',');
+        sb.append("reads=").append(reads).append(',');
+        sb.append("readErrors=").append(readErrors).append(',');
+        sb.append("bytesRead=").append(bytesRead).append(',');
+        sb.append("seeks=").append(seeks).append(',');
+        sb.append("closes=").append(closes).append(',');
+        sb.append("timeToFirstByte=").append(timeToFirstByte).append(',');
+        sb.append("requestedSizes=").append(requestedSizes).append(',');
+        sb.append("returnedSizes=").append(returnedSizes).append(',');
+        sb.append("readTimes=").append(readTimes).append(',');
+        sb.append("seekDistances=").append(seekDistances).append(',');
+        sb.append("closeTimes=").append(closeTimes).append(']');
+        return sb.toString();
+    }
+
+}
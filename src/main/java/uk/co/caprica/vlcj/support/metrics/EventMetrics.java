@@ -0,0 +1,205 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.support.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collector for native event dispatch metrics.
+ * <p>
+ * An instance of this component can be set on the event API of a media player, media, media list, media list player or
+ * renderer discoverer to record, for each event type:
+ * <ul>
+ *     <li>the number of native upcalls;</li>
+ *     <li>the time spent creating the Java event from the native event;</li>
+ *     <li>the total time spent dispatching the event to all listeners;</li>
+ *     <li>the execution time of each individual listener, by listener class;</li>
+ *     <li>the number of times a listener took longer than a configurable threshold to handle an event.</li>
+ * </ul>
+ * Slow listeners may additionally be reported to a {@link SlowListenerHandler}, there is no handler by default.
+ * <p>
+ * The same instance may be shared by many components to aggregate metrics, or separate instances may be used to keep
+ * metrics per component.
+ * <p>
+ * Metrics are only collected while an instance is set, when no instance is set the event dispatch path is unchanged.
+ * <p>
+ * The recording methods are public only so they can be invoked by the event managers, applications should not invoke
+ * them directly.
+ */
+public final class EventMetrics {
+
+    /**
+     * Default threshold for reporting slow listeners, milliseconds.
+     */
+    private static final long DEFAULT_SLOW_LISTENER_THRESHOLD = 10;
+
+    /**
+     * Handler for slow listeners that simply writes a warning to standard error.
+     * <p>
+     * This is intended only as a debugging aid, it is never used unless explicitly passed to
+     * {@link #EventMetrics(long, TimeUnit, SlowListenerHandler)}.
+     */
+    public static final SlowListenerHandler STANDARD_ERROR_HANDLER = (component, eventType, listenerClass, elapsedNanos) ->
+        System.err.printf("Slow %s listener %s took %dms to handle %s%n", component, listenerClass.getName(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), eventType);
+
+    /**
+     * Slow listener threshold, nanoseconds.
+     */
+    private final long slowListenerThreshold;
+
+    /**
+     * Handler for slow listeners, may be <code>null</code>.
+     */
+    private final SlowListenerHandler slowListenerHandler;
+
+    /**
+     * Counters, by event type name.
+     */
+    private final ConcurrentMap<String, EventTypeCounters> eventTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Create an event metrics collector with the default slow listener threshold, slow listeners are counted but not
+     * reported to any handler.
+     */
+    public EventMetrics() {
+        this(DEFAULT_SLOW_LISTENER_THRESHOLD, TimeUnit.MILLISECONDS, null);
+    }
+
+    /**
+     * Create an event metrics collector.
+     *
+     * @param slowListenerThreshold threshold for reporting slow listeners
+     * @param unit time unit of the threshold
+     * @param slowListenerHandler handler for slow listeners, may be <code>null</code> if slow listeners should only be counted
+     */
+    public EventMetrics(long slowListenerThreshold, TimeUnit unit, SlowListenerHandler slowListenerHandler) {
+        this.slowListenerThreshold = unit.toNanos(slowListenerThreshold);
+        this.slowListenerHandler = slowListenerHandler;
+    }
+
+    /**
+     * Record a native upcall.
+     *
+     * @param eventType event type name
+     * @param createNanos time taken to create the Java event from the native event, nanoseconds
+     */
+    public void upcall(String eventType, long createNanos) {
+        EventTypeCounters counters = counters(eventType);
+        counters.upcalls.increment();
+        counters.createTime.record(createNanos);
+    }
+
+    /**
+     * Record the dispatch of an event to all listeners.
+     *
+     * @param eventType event type name
+     * @param dispatchNanos total time taken by all listeners, nanoseconds
+     */
+    public void dispatch(String eventType, long dispatchNanos) {
+        counters(eventType).dispatchTime.record(dispatchNanos);
+    }
+
+    /**
+     * Record the execution of a single listener.
+     *
+     * @param component name of the component that dispatched the event
+     * @param eventType event type name
+     * @param listener listener that was notified
+     * @param elapsedNanos time taken by the listener, nanoseconds
+     */
+    public void listener(String component, String eventType, Object listener, long elapsedNanos) {
+        Class<?> listenerClass = listener.getClass();
+        EventTypeCounters counters = counters(eventType);
+        counters.listenerTime(listenerClass).record(elapsedNanos);
+        if (elapsedNanos > slowListenerThreshold) {
+            counters.slowListeners.increment();
+            if (slowListenerHandler != null) {
+                slowListenerHandler.slowListener(component, eventType, listenerClass, elapsedNanos);
+            }
+        }
+    }
+
+    /**
+     * Get an immutable point-in-time copy of the metrics.
+     *
+     * @return snapshot
+     */
+    public EventMetricsSnapshot snapshot() {
+        Map<String, EventTypeMetrics> result = new HashMap<>(eventTypes.size() * 2);
+        for (Map.Entry<String, EventTypeCounters> entry : eventTypes.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().snapshot(entry.getKey()));
+        }
+        return new EventMetricsSnapshot(Collections.unmodifiableMap(result));
+    }
+
+    /**
+     * Discard all metrics collected so far.
+     */
+    public void reset() {
+        eventTypes.clear();
+    }
+
+    private EventTypeCounters counters(String eventType) {
+        EventTypeCounters counters = eventTypes.get(eventType);
+        if (counters == null) {
+            counters = eventTypes.computeIfAbsent(eventType, k -> new EventTypeCounters());
+        }
+        return counters;
+    }
+
+    /**
+     * Mutable counters for a single event type.
+     */
+    private static final class EventTypeCounters {
+
+        private final LongAdder upcalls = new LongAdder();
+
+        private final Histogram createTime = new Histogram();
+
+        private final Histogram dispatchTime = new Histogram();
+
+        private final LongAdder slowListeners = new LongAdder();
+
+        private final ConcurrentMap<Class<?>, Histogram> listenerTimes = new ConcurrentHashMap<>();
+
+        private Histogram listenerTime(Class<?> listenerClass) {
+            Histogram histogram = listenerTimes.get(listenerClass);
+            if (histogram == null) {
+                histogram = listenerTimes.computeIfAbsent(listenerClass, k -> new Histogram());
+            }
+            return histogram;
+        }
+
+        private EventTypeMetrics snapshot(String eventType) {
+            Map<String, HistogramSnapshot> listeners = new HashMap<>(listenerTimes.size() * 2);
+            for (Map.Entry<Class<?>, Histogram> entry : listenerTimes.entrySet()) {
+                listeners.put(entry.getKey().getName(), entry.getValue().snapshot());
+            }
+            return new EventTypeMetrics(eventType, upcalls.sum(), createTime.snapshot(), dispatchTime.snapshot(), slowListeners.sum(), Collections.unmodifiableMap(listeners));
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.support.metrics;
+
+import java.util.Map;
+
+/**
+ * Immutable point-in-time copy of {@link EventMetrics}.
+ */
+public final class EventMetricsSnapshot {
+
+    private final Map<String, EventTypeMetrics> eventTypes;
+
+    EventMetricsSnapshot(Map<String, EventTypeMetrics> eventTypes) {
+        this.eventTypes = eventTypes;
+    }
+
+    /**
+     * Get the metrics for all event types that have been seen.
+     *
+     * @return metrics, keyed by event type name
+     */
+    public Map<String, EventTypeMetrics> eventTypes() {
+        return eventTypes;
+    }
+
+    /**
+     * Get the metrics for a particular event type.
+     *
+     * @param eventType event type name
+     * @return metrics, or <code>null</code> if the event type has not been seen
+     */
+    public EventTypeMetrics eventType(String eventType) {
+        return eventTypes.get(eventType);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(200);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("eventTypes=").append(eventTypes.values()).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.support.metrics;
+
+import java.util.Map;
+
+/**
+ * Immutable metrics for a single event type.
+ * <p>
+ * All times are in nanoseconds.
+ */
+public final class EventTypeMetrics {
+
+    private final String eventType;
+
+    private final long upcalls;
+
+    private final HistogramSnapshot createTime;
+
+    private final HistogramSnapshot dispatchTime;
+
+    private final long slowListeners;
+
+    private final Map<String, HistogramSnapshot> listenerTimes;
+
+    EventTypeMetrics(String eventType, long upcalls, HistogramSnapshot createTime, HistogramSnapshot dispatchTime, long slowListeners, Map<String, HistogramSnapshot> listenerTimes) {
+        this.eventType = eventType;
+        this.upcalls = upcalls;
+        this.createTime = createTime;
+        this.dispatchTime = dispatchTime;
+        this.slowListeners = slowListeners;
+        this.listenerTimes = listenerTimes;
+    }
+
+    /**
+     * Get the event type name.
+     *
+     * @return event type
+     */
+    public String eventType() {
+        return eventType;
+    }
+
+    /**
+     * Get the number of native upcalls for this event type.
+     * <p>
+     * Events raised by vlcj itself rather than by the native library are dispatched without an upcall.
+     *
+     * @return upcall count
+     */
+    public long upcalls() {
+        return upcalls;
+    }
+
+    /**
+     * Get the distribution of time spent creating Java events from native events.
+     *
+     * @return creation time histogram
+     */
+    public HistogramSnapshot createTime() {
+        return createTime;
+    }
+
+    /**
+     * Get the distribution of time spent dispatching events to all listeners.
+     *
+     * @return dispatch time histogram
+     */
+    public HistogramSnapshot dispatchTime() {
+        return dispatchTime;
+    }
+
+    /**
+     * Get the number of times a listener took longer than the slow listener threshold to handle an event.
+     *
+     * @return slow listener count
+     */
+    public long slowListeners() {
+        return slowListeners;
+    }
+
+    /**
+     * Get the distribution of execution times for each listener.
+     *
+     * @return listener execution time histograms, keyed by listener class name
+     */
+    public Map<String, HistogramSnapshot> listenerTimes() {
+        return listenerTimes;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(200);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("eventType=").append(eventType).append(',');
+        sb.append("upcalls=").append(upcalls).append(',');
+        sb.append("createTime=").append(createTime).append(',');
+        sb.append("dispatchTime=").append(dispatchTime).append(',');
+        sb.append("slowListeners=").append(slowListeners).append(',');
+        sb.append("listenerTimes=").append(listenerTimes).append(']');
+        return sb.toString();
+    }
+
+}
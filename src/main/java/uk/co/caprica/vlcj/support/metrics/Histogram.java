@@ -0,0 +1,121 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.support.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A simple thread-safe histogram of non-negative values.
+ * <p>
+ * Values are counted in power-of-two buckets, so bucket <code>n</code> holds values in the range
+ * <code>[2<sup>n-1</sup>, 2<sup>n</sup>)</code> and bucket zero holds only the value zero. This gives a fixed, small
+ * memory footprint with bounded relative error, which is good enough for latency and size distributions.
+ * <p>
+ * Recording a value does not allocate and does not lock, so this component is safe to use on native callback threads.
+ */
+public final class Histogram {
+
+    /**
+     * Number of buckets, enough for any non-negative long value.
+     */
+    static final int BUCKET_COUNT = 64;
+
+    /**
+     * Bucket counts.
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Total number of recorded values.
+     */
+    private final AtomicLong count = new AtomicLong();
+
+    /**
+     * Sum of all recorded values.
+     */
+    private final AtomicLong sum = new AtomicLong();
+
+    /**
+     * Largest recorded value.
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a value.
+     * <p>
+     * Negative values are recorded as zero.
+     *
+     * @param value value to record
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        buckets.incrementAndGet(bucket(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        long current;
+        while (value > (current = max.get())) {
+            if (max.compareAndSet(current, value)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Get an immutable point-in-time copy of this histogram.
+     * <p>
+     * The individual values are read without a lock, so the snapshot may not be perfectly consistent if values are
+     * being recorded concurrently.
+     *
+     * @return snapshot
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return new HistogramSnapshot(count.get(), sum.get(), max.get(), counts);
+    }
+
+    /**
+     * Reset the histogram.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    /**
+     * Get the bucket index for a value.
+     *
+     * @param value value
+     * @return bucket index
+     */
+    static int bucket(long value) {
+        return Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(value));
+    }
+
+}
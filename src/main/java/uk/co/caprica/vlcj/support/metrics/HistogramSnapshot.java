@@ -0,0 +1,151 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.support.metrics;
+
+/**
+ * Immutable point-in-time copy of a {@link Histogram}.
+ */
+public final class HistogramSnapshot {
+
+    private final long count;
+
+    private final long sum;
+
+    private final long max;
+
+    private final long[] buckets;
+
+    /**
+     * Create a histogram snapshot.
+     *
+     * @param count number of recorded values
+     * @param sum sum of all recorded values
+     * @param max largest recorded value
+     * @param buckets bucket counts, ownership of the array passes to this component
+     */
+    HistogramSnapshot(long count, long sum, long max, long[] buckets) {
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+        this.buckets = buckets;
+    }
+
+    /**
+     * Get the number of recorded values.
+     *
+     * @return count
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Get the sum of all recorded values.
+     *
+     * @return sum
+     */
+    public long sum() {
+        return sum;
+    }
+
+    /**
+     * Get the largest recorded value.
+     *
+     * @return maximum value, zero if nothing has been recorded
+     */
+    public long max() {
+        return max;
+    }
+
+    /**
+     * Get the mean of the recorded values.
+     *
+     * @return mean, zero if nothing has been recorded
+     */
+    public double mean() {
+        return count > 0 ? (double) sum / count : 0.0;
+    }
+
+    /**
+     * Get an estimate of a percentile value.
+     * <p>
+     * The estimate is the upper bound of the bucket containing the requested percentile, capped to the largest
+     * recorded value.
+     *
+     * @param percentile percentile, in the range 0.0 to 100.0
+     * @return estimated value, zero if nothing has been recorded
+     */
+    public long percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(count * Math.max(0.0, Math.min(100.0, percentile)) / 100.0);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= target && seen > 0) {
+                return Math.min(max, upperBound(i));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Get the number of buckets.
+     *
+     * @return bucket count
+     */
+    public int bucketCount() {
+        return buckets.length;
+    }
+
+    /**
+     * Get the number of values recorded in a bucket.
+     *
+     * @param bucket bucket index
+     * @return number of values
+     */
+    public long count(int bucket) {
+        return buckets[bucket];
+    }
+
+    /**
+     * Get the largest value that is counted in a bucket.
+     *
+     * @param bucket bucket index
+     * @return upper bound, inclusive
+     */
+    public static long upperBound(int bucket) {
+        return bucket >= Histogram.BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(120);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("count=").append(count).append(',');
+        sb.append("mean=").append((long) mean()).append(',');
+        sb.append("p50=").append(percentile(50)).append(',');
+        sb.append("p99=").append(percentile(99)).append(',');
+        sb.append("max=").append(max).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.support.metrics;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable rule that counts native log messages matching a pattern.
+ * <p>
+ * A rule optionally applies only to messages from a particular native module, and matches the message text either by a
+ * literal substring or by a regular expression. A literal substring is the cheaper of the two and should be preferred.
+ * <p>
+ * Regular expressions are compiled once, when the rule is created, and each thread re-uses its own matcher so nothing
+ * is allocated when a message is matched.
+ */
+public final class LogMetricRule {
+
+    /**
+     * Name of the counter incremented when a message matches.
+     */
+    private final String counter;
+
+    /**
+     * Module the rule applies to, or <code>null</code> for any module.
+     */
+    private final String module;
+
+    /**
+     * Literal text to find in the message, or <code>null</code> if a regular expression is used.
+     */
+    private final String text;
+
+    /**
+     * Regular expression to find in the message, or <code>null</code> if literal text is used.
+     */
+    private final Pattern pattern;
+
+    /**
+     * Per-thread matchers for the regular expression, or <code>null</code> if literal text is used.
+     */
+    private final ThreadLocal<Matcher> matchers;
+
+    private LogMetricRule(String counter, String module, String text, Pattern pattern) {
+        this.counter = counter;
+        this.module = module;
+        this.text = text;
+        this.pattern = pattern;
+        this.matchers = pattern != null ? ThreadLocal.withInitial(() -> pattern.matcher("")) : null;
+    }
+
+    /**
+     * Create a rule that matches messages containing literal text.
+     *
+     * @param counter name of the counter incremented when a message matches
+     * @param module module the rule applies to, or <code>null</code> for any module
+     * @param text text to find in the message
+     * @return rule
+     */
+    public static LogMetricRule contains(String counter, String module, String text) {
+        return new LogMetricRule(counter, module, text, null);
+    }
+
+    /**
+     * Create a rule that matches messages containing a regular expression.
+     *
+     * @param counter name of the counter incremented when a message matches
+     * @param module module the rule applies to, or <code>null</code> for any module
+     * @param pattern regular expression to find in the message
+     * @return rule
+     */
+    public static LogMetricRule matches(String counter, String module, Pattern pattern) {
+        return new LogMetricRule(counter, module, null, pattern);
+    }
+
+    /**
+     * Get the name of the counter incremented when a message matches.
+     *
+     * @return counter name
+     */
+    public String counter() {
+        return counter;
+    }
+
+    /**
+     * Get the module the rule applies to.
+     *
+     * @return module, or <code>null</code> for any module
+     */
+    public String module() {
+        return module;
+    }
+
+    /**
+     * Test whether or not a message matches this rule.
+     * <p>
+     * The module is not checked here, the caller only tests the rules that apply to the module.
+     *
+     * @param message message
+     * @return <code>true</code> if the message matches; <code>false</code> if it does not
+     */
+    boolean test(String message) {
+        if (text != null) {
+            return message.contains(text);
+        } else {
+            Matcher matcher = matchers.get();
+            boolean found = matcher.reset(message).find();
+            // Do not keep the message reachable from the matcher
+            matcher.reset("");
+            return found;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(80);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("counter=").append(counter).append(',');
+        sb.append("module=").append(module).append(',');
+        sb.append("text=").append(text).append(',');
+        sb.append("pattern=").append(pattern).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,275 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.support.metrics;
+
+import uk.co.caprica.vlcj.log.LogEventListener;
+import uk.co.caprica.vlcj.log.LogLevel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collector for health metrics derived from the native log.
+ * <p>
+ * Many operationally important signals, like late pictures or audio buffer underruns, are only reported by the native
+ * library as log messages. An instance of this component is added as a listener to the native log, and counts the
+ * messages matching a table of {@link LogMetricRule rules}, both in total and for each native object that emitted them.
+ * <p>
+ * The native log does not identify which media player a native object (e.g. a decoder, or a video output) belongs to,
+ * so counts are kept per native object identifier and object type. The identifier is the address of the native object,
+ * which the native library may reuse for a new object once the old one is destroyed - a new object of a different type
+ * replaces the counts for the old one, but a new object of the same type at the same address can not be distinguished,
+ * so its counts are added to those of the old object.
+ * <p>
+ * Rules are grouped by module when this component is created, so each message is only tested against the rules for its
+ * own module and the rules for any module, and testing a message allocates nothing. Rules for messages that are not
+ * emitted at the current native log level will never match, see
+ * {@link uk.co.caprica.vlcj.log.NativeLog#setModuleLevel(String, LogLevel)}.
+ * <p>
+ * Counts are kept for a bounded number of native objects - when the limit is reached, the counts for the native object
+ * that least recently emitted a matching message are discarded. Totals are not affected by this, and are kept until
+ * {@link #reset()} is invoked.
+ */
+public final class LogMetrics implements LogEventListener {
+
+    /**
+     * Standard rules for commonly useful playback health signals.
+     */
+    public static final List<LogMetricRule> STANDARD_RULES = Collections.unmodifiableList(Arrays.asList(
+        LogMetricRule.contains("latePictures", null, "picture is too late"),
+        LogMetricRule.contains("lateAudio", null, "playback too late"),
+        LogMetricRule.contains("bufferDeadlocks", null, "buffer deadlock prevented")
+    ));
+
+    /**
+     * Default maximum number of native objects to keep counts for.
+     */
+    public static final int DEFAULT_MAXIMUM_OBJECTS = 256;
+
+    /**
+     * Counter names, by counter index.
+     */
+    private final String[] counterNames;
+
+    /**
+     * Rules for particular modules, keyed by module name.
+     */
+    private final Map<String, IndexedRule[]> moduleRules;
+
+    /**
+     * Rules for any module.
+     */
+    private final IndexedRule[] anyModuleRules;
+
+    /**
+     * Total counts, by counter index.
+     */
+    private final LongAdder[] totals;
+
+    /**
+     * Counts for each native object, keyed by object identifier, in least recently used order.
+     * <p>
+     * Access must be synchronized on the map - this is only touched when a message matches a rule.
+     */
+    private final Map<Long, ObjectCounters> objects;
+
+    /**
+     * Create a log metrics collector with the standard rules.
+     */
+    public LogMetrics() {
+        this(STANDARD_RULES);
+    }
+
+    /**
+     * Create a log metrics collector, keeping counts for up to {@link #DEFAULT_MAXIMUM_OBJECTS} native objects.
+     * <p>
+     * Rules may share a counter name, in which case each matching rule increments the counter.
+     *
+     * @param rules rules
+     */
+    public LogMetrics(List<LogMetricRule> rules) {
+        this(rules, DEFAULT_MAXIMUM_OBJECTS);
+    }
+
+    /**
+     * Create a log metrics collector.
+     * <p>
+     * Rules may share a counter name, in which case each matching rule increments the counter.
+     *
+     * @param rules rules
+     * @param maximumObjects maximum number of native objects to keep counts for
+     */
+    public LogMetrics(List<LogMetricRule> rules, int maximumObjects) {
+        if (maximumObjects < 1) {
+            throw new IllegalArgumentException("Maximum objects must be at least 1");
+        }
+        Map<String, Integer> counterIndexes = new LinkedHashMap<>();
+        Map<String, List<IndexedRule>> byModule = new HashMap<>();
+        List<IndexedRule> anyModule = new ArrayList<>();
+        for (LogMetricRule rule : rules) {
+            Integer index = counterIndexes.computeIfAbsent(rule.counter(), k -> counterIndexes.size());
+            IndexedRule indexedRule = new IndexedRule(rule, index);
+            if (rule.module() != null) {
+                byModule.computeIfAbsent(rule.module(), k -> new ArrayList<>()).add(indexedRule);
+            } else {
+                anyModule.add(indexedRule);
+            }
+        }
+        this.counterNames = counterIndexes.keySet().toArray(new String[0]);
+        this.moduleRules = new HashMap<>(byModule.size() * 2);
+        for (Map.Entry<String, List<IndexedRule>> entry : byModule.entrySet()) {
+            this.moduleRules.put(entry.getKey(), entry.getValue().toArray(new IndexedRule[0]));
+        }
+        this.anyModuleRules = anyModule.toArray(new IndexedRule[0]);
+        this.totals = newCounters(counterNames.length);
+        this.objects = new LinkedHashMap<Long, ObjectCounters>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ObjectCounters> eldest) {
+                return size() > maximumObjects;
+            }
+        };
+    }
+
+    @Override
+    public void log(LogLevel level, String module, String file, Integer line, String name, String header, Long id, String message) {
+        if (message == null) {
+            return;
+        }
+        IndexedRule[] rules = module != null ? moduleRules.get(module) : null;
+        if (rules != null) {
+            test(rules, message, name, id);
+        }
+        test(anyModuleRules, message, name, id);
+    }
+
+    /**
+     * Get a snapshot of the current metrics.
+     *
+     * @return snapshot
+     */
+    public LogMetricsSnapshot snapshot() {
+        Map<String, Long> counters = new LinkedHashMap<>(counterNames.length * 2);
+        for (int i = 0; i < counterNames.length; i++) {
+            counters.put(counterNames[i], totals[i].sum());
+        }
+        Map<Long, LogObjectMetrics> objectMetrics;
+        synchronized (objects) {
+            objectMetrics = new HashMap<>(objects.size() * 2);
+            for (Map.Entry<Long, ObjectCounters> entry : objects.entrySet()) {
+                objectMetrics.put(entry.getKey(), entry.getValue().snapshot(entry.getKey()));
+            }
+        }
+        return new LogMetricsSnapshot(Collections.unmodifiableMap(counters), Collections.unmodifiableMap(objectMetrics));
+    }
+
+    /**
+     * Discard all metrics collected so far.
+     */
+    public void reset() {
+        for (LongAdder total : totals) {
+            total.reset();
+        }
+        synchronized (objects) {
+            objects.clear();
+        }
+    }
+
+    private void test(IndexedRule[] rules, String message, String objectType, Long id) {
+        for (IndexedRule rule : rules) {
+            if (rule.rule.test(message)) {
+                record(rule.index, objectType, id);
+            }
+        }
+    }
+
+    private void record(int index, String objectType, Long id) {
+        totals[index].increment();
+        if (id != null && id != 0) {
+            ObjectCounters counters;
+            synchronized (objects) {
+                counters = objects.get(id);
+                // A different type of object means the native address has been reused for a new object
+                if (counters == null || !Objects.equals(counters.objectType, objectType)) {
+                    counters = new ObjectCounters(objectType, counterNames.length);
+                    objects.put(id, counters);
+                }
+            }
+            counters.counts[index].increment();
+        }
+    }
+
+    private static LongAdder[] newCounters(int size) {
+        LongAdder[] counters = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    /**
+     * A rule together with the index of its counter.
+     */
+    private static final class IndexedRule {
+
+        private final LogMetricRule rule;
+
+        private final int index;
+
+        private IndexedRule(LogMetricRule rule, int index) {
+            this.rule = rule;
+            this.index = index;
+        }
+    }
+
+    /**
+     * Mutable counters for a single native object.
+     */
+    private final class ObjectCounters {
+
+        private final String objectType;
+
+        private final LongAdder[] counts;
+
+        private ObjectCounters(String objectType, int size) {
+            this.objectType = objectType;
+            this.counts = newCounters(size);
+        }
+
+        private LogObjectMetrics snapshot(long id) {
+            Map<String, Long> counters = new LinkedHashMap<>(counts.length * 2);
+            for (int i = 0; i < counts.length; i++) {
+                long count = counts[i].sum();
+                if (count > 0) {
+                    counters.put(counterNames[i], count);
+                }
+            }
+            return new LogObjectMetrics(id, objectType, Collections.unmodifiableMap(counters));
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.support.metrics;
+
+import java.util.Map;
+
+/**
+ * Immutable point-in-time copy of {@link LogMetrics}.
+ */
+public final class LogMetricsSnapshot {
+
+    private final Map<String, Long> counters;
+
+    private final Map<Long, LogObjectMetrics> objects;
+
+    LogMetricsSnapshot(Map<String, Long> counters, Map<Long, LogObjectMetrics> objects) {
+        this.counters = counters;
+        this.objects = objects;
+    }
+
+    /**
+     * Get the total counts for all counters, including those that are zero.
+     *
+     * @return counts, keyed by counter name
+     */
+    public Map<String, Long> counters() {
+        return counters;
+    }
+
+    /**
+     * Get the total count for a particular counter.
+     *
+     * @param counter counter name
+     * @return count, or zero if there is no such counter
+     */
+    public long counter(String counter) {
+        Long count = counters.get(counter);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Get the metrics for the native objects that have most recently emitted a matching message.
+     *
+     * @return metrics, keyed by native object identifier
+     */
+    public Map<Long, LogObjectMetrics> objects() {
+        return objects;
+    }
+
+    /**
+     * Get the metrics for a particular native object.
+     *
+     * @param id native object identifier
+     * @return metrics, or <code>null</code> if there are no counts for the object
+     */
+    public LogObjectMetrics object(long id) {
+        return objects.get(id);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(200);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("counters=").append(counters).append(',');
+        sb.append("objects=").append(objects.values()).append(']');
+        return sb.toString();
+    }
+
+}
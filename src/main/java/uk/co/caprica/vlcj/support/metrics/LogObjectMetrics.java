@@ -0,0 +1,90 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+
+package uk.co.caprica.vlcj.support.metrics;
+
+import java.util.Map;
+
+/**
+ * Immutable log metrics for a single native object.
+ */
+public final class LogObjectMetrics {
+
+    private final long id;
+
+    private final String objectType;
+
+    private final Map<String, Long> counters;
+
+    LogObjectMetrics(long id, String objectType, Map<String, Long> counters) {
+        this.id = id;
+        this.objectType = objectType;
+        this.counters = counters;
+    }
+
+    /**
+     * Get the native object identifier.
+     *
+     * @return object identifier
+     */
+    public long id() {
+        return id;
+    }
+
+    /**
+     * Get the native object type name, e.g. "decoder" or "vout".
+     *
+     * @return object type, may be <code>null</code>
+     */
+    public String objectType() {
+        return objectType;
+    }
+
+    /**
+     * Get the counts for the counters incremented by this object.
+     *
+     * @return counts, keyed by counter name
+     */
+    public Map<String, Long> counters() {
+        return counters;
+    }
+
+    /**
+     * Get the count for a particular counter.
+     *
+     * @param counter counter name
+     * @return count, or zero if this object has not incremented the counter
+     */
+    public long counter(String counter) {
+        Long count = counters.get(counter);
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(100);
+        sb.append(getClass().getSimpleName()).append('[');
+        sb.append("id=").append(id).append(',');
+        sb.append("objectType=").append(objectType).append(',');
+        sb.append("counters=").append(counters).append(']');
+        return sb.toString();
+    }
+
+}
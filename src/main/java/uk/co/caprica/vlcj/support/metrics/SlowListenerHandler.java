@@ -0,0 +1,42 @@
+/*
+ * This file is part of VLCJ.
+ *
+ * VLCJ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VLCJ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with VLCJ.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Copyright 2009-2025 Caprica Software Limited.
+ */
+
+package uk.co.caprica.vlcj.support.metrics;
+
+/**
+ * Specification for a component that is told when an event listener took too long to handle an event.
+ * <p>
+ * The handler is invoked on the native event callback thread, immediately after the slow listener returned, so it must
+ * itself execute quickly.
+ *
+ * @see EventMetrics
+ */
+public interface SlowListenerHandler {
+
+    /**
+     * An event listener exceeded the configured execution time threshold.
+     *
+     * @param component name of the component that dispatched the event, e.g. "media-player-events"
+     * @param eventType name of the event type
+     * @param listenerClass class of the slow listener
+     * @param elapsedNanos time taken by the listener, nanoseconds
+     */
+    void slowListener(String component, String eventType, Class<?> listenerClass, long elapsedNanos);
+
+}
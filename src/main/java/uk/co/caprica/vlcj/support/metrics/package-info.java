@@ -0,0 +1,4 @@
+/**
+ * Lightweight metrics components, used to instrument native event dispatch, other native callbacks and the native log.
+ */
+package uk.co.caprica.vlcj.support.metrics;